@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The model class that is converted by the benchmarks, together with helpers to generate the payloads.
+ */
+public class Item {
+
+    private String name;
+    private String description;
+    private int count;
+    private long timestamp;
+    private double price;
+    private boolean active;
+    private List<String> tags;
+
+    public static Item create(int index) {
+        Item item = new Item();
+        item.setName("item " + index);
+        item.setDescription("A description of item " + index + " with some more text to make it realistic.");
+        item.setCount(index);
+        item.setTimestamp(1_600_000_000_000L + index);
+        item.setPrice(index * 1.25);
+        item.setActive(index % 2 == 0);
+        item.setTags(List.of("tag" + (index % 7), "tag" + (index % 11)));
+        return item;
+    }
+
+    public static String json(int index) {
+        return "{\"name\":\"item " + index + "\"," +
+                "\"description\":\"A description of item " + index + " with some more text to make it realistic.\"," +
+                "\"count\":" + index + "," +
+                "\"timestamp\":" + (1_600_000_000_000L + index) + "," +
+                "\"price\":" + (index * 1.25) + "," +
+                "\"active\":" + (index % 2 == 0) + "," +
+                "\"tags\":[\"tag" + (index % 7) + "\",\"tag" + (index % 11) + "\"]}";
+    }
+
+    public static String jsonArray(int size) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(json(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    public static String xml(int index) {
+        return "<item><name>item " + index + "</name>" +
+                "<description>A description of item " + index + " with some more text to make it realistic.</description>" +
+                "</item>";
+    }
+
+    public static List<Item> list(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(create(i));
+        }
+        return items;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
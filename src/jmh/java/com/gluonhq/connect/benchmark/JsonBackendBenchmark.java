@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.benchmark;
+
+import com.gluonhq.connect.converter.JsonBackend;
+import com.gluonhq.connect.converter.JsonBackends;
+import com.gluonhq.connect.converter.JsonConverter;
+import com.gluonhq.connect.converter.JsonConverterTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON backends on the model classes of the JsonConverterTest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBackendBenchmark {
+
+    @Param({"objectModel", "streaming"})
+    private String backendName;
+
+    @Param({"1000"})
+    private int size;
+
+    private JsonBackend backend;
+    private JsonConverter<JsonConverterTest.SimpleClass> simpleConverter;
+    private JsonConverter<JsonConverterTest.SimpleClassWithPrimitiveWrappers> wrapperConverter;
+    private JsonConverter<JsonConverterTest.ClassWithMapFields> mapConverter;
+    private byte[] simpleArray;
+    private byte[] wrapperArray;
+    private byte[] mapObject;
+
+    @Setup
+    public void setup() {
+        backend = "streaming".equals(backendName) ? JsonBackends.streaming() : JsonBackends.objectModel();
+        simpleConverter = new JsonConverter<>(JsonConverterTest.SimpleClass.class);
+        wrapperConverter = new JsonConverter<>(JsonConverterTest.SimpleClassWithPrimitiveWrappers.class);
+        mapConverter = new JsonConverter<>(JsonConverterTest.ClassWithMapFields.class);
+
+        JsonArrayBuilder simple = Json.createArrayBuilder();
+        JsonArrayBuilder wrappers = Json.createArrayBuilder();
+        JsonArrayBuilder entries = Json.createArrayBuilder();
+        for (int i = 0; i < size; i++) {
+            simple.add(Json.createObjectBuilder().add("string", "string" + i).add("number", i));
+            wrappers.add(Json.createObjectBuilder()
+                    .add("aBoolean", i % 2 == 0)
+                    .add("aDouble", i * 1.5)
+                    .add("aFloat", i * 0.5)
+                    .add("anInteger", i)
+                    .add("aLong", i * 1000L));
+            entries.add(Json.createObjectBuilder().add("key", "key" + i)
+                    .add("value", Json.createObjectBuilder().add("string", "string" + i).add("number", i)));
+        }
+        JsonObjectBuilder map = Json.createObjectBuilder().add("objectMap", Json.createObjectBuilder().add("entry", entries));
+
+        simpleArray = simple.build().toString().getBytes(StandardCharsets.UTF_8);
+        wrapperArray = wrappers.build().toString().getBytes(StandardCharsets.UTF_8);
+        mapObject = map.build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void readSimpleClassArray(Blackhole blackhole) {
+        for (Iterator<JsonConverterTest.SimpleClass> it = backend.readArray(new ByteArrayInputStream(simpleArray), simpleConverter); it.hasNext();) {
+            blackhole.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public void readPrimitiveWrapperArray(Blackhole blackhole) {
+        for (Iterator<JsonConverterTest.SimpleClassWithPrimitiveWrappers> it = backend.readArray(new ByteArrayInputStream(wrapperArray), wrapperConverter); it.hasNext();) {
+            blackhole.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public JsonConverterTest.ClassWithMapFields readMapObject() {
+        return backend.readObject(new ByteArrayInputStream(mapObject), mapConverter);
+    }
+}
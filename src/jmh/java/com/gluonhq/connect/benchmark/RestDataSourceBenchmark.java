@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.benchmark;
+
+import com.gluonhq.connect.HttpServerManager;
+import com.gluonhq.connect.converter.StringInputConverter;
+import com.gluonhq.connect.provider.RestClient;
+import com.gluonhq.connect.source.RestDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures a complete round trip of a GET request with a {@link RestDataSource} against the local Vert.x server
+ * that is also used by the tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestDataSourceBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private HttpServerManager httpServerManager;
+
+    @Setup
+    public void setup() throws InterruptedException, TimeoutException {
+        String body = Item.jsonArray(size);
+        httpServerManager = new HttpServerManager();
+        httpServerManager.startHttpServer(request -> request.response()
+                .putHeader("Content-Type", "application/json")
+                .end(body));
+    }
+
+    @Setup(Level.Iteration)
+    public void clearRequests() {
+        httpServerManager.clearRequests();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpServerManager.close();
+    }
+
+    @Benchmark
+    public String get() throws IOException {
+        RestDataSource dataSource = RestClient.create()
+                .method("GET")
+                .host("http://localhost:45000")
+                .createRestDataSource();
+
+        StringInputConverter converter = new StringInputConverter();
+        converter.setInputStream(dataSource.getInputStream());
+        return converter.read();
+    }
+}
@@ -38,7 +38,8 @@ import com.gluonhq.connect.provider.ObjectDataRemover;
  * {@link GluonObservableObject} and it is passed in as a parameter to the {@link DataProvider#removeObject(GluonObservableObject, ObjectDataRemover) remove method},
  * then the object will enter the <code>REMOVED</code> state when the remove operation succeeded successfully. When the
  * operation was cancelled, the state of the observable will be changed to <code>CANCELLED</code>. Signaling the
- * cancellation of an operation is done by throwing a {@link java.util.concurrent.CancellationException}. In all other
+ * cancellation of an operation is done by throwing a {@link java.util.concurrent.CancellationException} or by calling
+ * {@link GluonObservable#cancel()}. In all other
  * cases, the state will become <code>SUCCEEDED</code>.
  */
 public enum ConnectState {
@@ -132,4 +132,15 @@ public interface GluonObservable extends EventTarget {
      */
     void setOnRemoved(EventHandler<ConnectStateEvent> value);
 
+    /**
+     * Cancels the {@link com.gluonhq.connect.provider.DataProvider} operation that is currently running or waiting to
+     * be run for this observable. The state of the observable will transition to the CANCELLED state.
+     *
+     * @return true if an operation was cancelled; false if no operation was running or waiting for this observable
+     * @see com.gluonhq.connect.provider.DataProvider#cancel(GluonObservable)
+     */
+    default boolean cancel() {
+        return com.gluonhq.connect.provider.DataProvider.cancel(this);
+    }
+
 }
@@ -35,13 +35,19 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import javafx.event.EventDispatchChain;
 import javafx.event.EventHandler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 import static com.gluonhq.connect.ConnectState.CANCELLED;
 import static com.gluonhq.connect.ConnectState.READY;
 import static com.gluonhq.connect.ConnectStateEvent.*;
@@ -49,6 +55,10 @@ import static com.gluonhq.connect.ConnectStateEvent.*;
 /**
  * A GluonObservableList is an ObservableList that is linked with a data source.
  *
+ * <p>The elements are stored directly in an array-backed list. Bulk operations like {@link #addAll(Collection)},
+ * {@link #setAll(Collection)}, {@link #removeAll(Collection)} and {@link #sort(Comparator)} modify that storage in one
+ * go and fire a single change event.</p>
+ *
  * @param <E> the type of the elements inside this list
  * @see DataProvider#retrieveList(ListDataReader)
  */
@@ -58,8 +68,7 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
     private final ObjectProperty<ConnectState> state = new SimpleObjectProperty<>(this, "state", READY);
     private final ObjectProperty<Throwable> exception = new SimpleObjectProperty<>(this, "exception");
 
-    private final ObservableList<E> backing = FXCollections.observableArrayList();
-    private final SortedList<E> backingSorted = new SortedList<>(backing);
+    private final ArrayList<E> elements = new ArrayList<>();
 
     @Override
     public boolean isInitialized() {
@@ -157,6 +166,17 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
         getEventHelper().setOnRemoved(value);
     }
 
+    /**
+     * Returns whether any listeners are attached to this list, including the listeners that are added by controls
+     * and bindings. This is used by a {@link com.gluonhq.connect.provider.Refresher} to pause refreshing while
+     * nobody is interested in the contents of the list.
+     *
+     * @return true if at least one invalidation or list change listener is attached
+     */
+    public boolean isObserved() {
+        return hasListeners();
+    }
+
     /**
      * Returns the element at the specified position in this list.
      *
@@ -165,7 +185,7 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
      */
     @Override
     public E get(int index) {
-        return backingSorted.get(index);
+        return elements.get(index);
     }
 
     /**
@@ -175,7 +195,7 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
      */
     @Override
     public int size() {
-        return backing.size();
+        return elements.size();
     }
 
     /**
@@ -198,7 +218,7 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
      */
     @Override
     protected void doAdd(int index, E element) {
-        backing.add(index, element);
+        elements.add(index, element);
     }
 
     /**
@@ -222,7 +242,7 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
      */
     @Override
     protected E doSet(int index, E element) {
-        return backing.set(index, element);
+        return elements.set(index, element);
     }
 
     /**
@@ -236,7 +256,188 @@ public class GluonObservableList<E> extends ModifiableObservableListBase<E> impl
      */
     @Override
     protected E doRemove(int index) {
-        return backing.remove(index);
+        return elements.remove(index);
+    }
+
+    /**
+     * Appends all of the elements in the specified collection to the end of this list. The elements are added to the
+     * underlying storage in one operation and a single change event is fired for all of them.
+     *
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this list at the specified position. The elements
+     * are added to the underlying storage in one operation and a single change event is fired for all of them.
+     *
+     * @param index index at which to insert the first element from the specified collection
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         {@code (index < 0 || index > size())}
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        beginChange();
+        try {
+            elements.addAll(index, c);
+            nextAdd(index, index + c.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Replaces all the elements of this list with the elements in the specified collection. A single change event is
+     * fired that replaces the old elements with the new ones.
+     *
+     * @param col the collection with elements that will be added to this list
+     * @return true (as specified by Collection.add(E))
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(col);
+            nextReplace(0, elements.size(), removed);
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection. The remaining
+     * elements are compacted in a single pass and a single change event is fired for all removed elements.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection. The remaining elements
+     * are compacted in a single pass and a single change event is fired for all removed elements.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate. The remaining elements are compacted
+     * in a single pass and a single change event is fired for all removed elements.
+     *
+     * @param filter a predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+
+        int size = elements.size();
+        int retained = 0;
+        beginChange();
+        try {
+            for (int i = 0; i < size; i++) {
+                E element = elements.get(i);
+                if (filter.test(element)) {
+                    nextRemove(retained, element);
+                } else {
+                    elements.set(retained++, element);
+                }
+            }
+            if (retained < size) {
+                elements.subList(retained, size).clear();
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+        return retained < size;
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator. The elements are sorted in the
+     * underlying storage and a single permutation change event is fired.
+     *
+     * @param c the comparator used to compare list elements, or null to use the natural ordering of the elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        int size = elements.size();
+        if (size < 2) {
+            return;
+        }
+
+        Comparator<? super E> comparator = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> comparator.compare(elements.get(i1), elements.get(i2)));
+
+        int[] permutation = new int[size];
+        List<E> sorted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            permutation[order[i]] = i;
+            sorted.add(elements.get(order[i]));
+        }
+
+        beginChange();
+        try {
+            for (int i = 0; i < size; i++) {
+                elements.set(i, sorted.get(i));
+            }
+            nextPermutation(0, size, permutation);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            nextRemove(fromIndex, removed);
+            modCount++;
+        } finally {
+            endChange();
+        }
     }
 
     @Override
@@ -28,17 +28,29 @@ package com.gluonhq.connect;
 
 import com.gluonhq.connect.provider.DataProvider;
 import com.gluonhq.connect.provider.ObjectDataReader;
+import com.gluonhq.impl.connect.Conflator;
 import com.gluonhq.impl.connect.EventHelper;
+import com.gluonhq.impl.connect.GluonObservableObjectHelper;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.WritableObjectValue;
 import javafx.event.EventDispatchChain;
 import javafx.event.EventHandler;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
 import static com.gluonhq.connect.ConnectState.CANCELLED;
 import static com.gluonhq.connect.ConnectState.READY;
 import static com.gluonhq.connect.ConnectStateEvent.*;
@@ -46,15 +58,26 @@ import static com.gluonhq.connect.ConnectStateEvent.*;
 /**
  * A GluonObservableObject is an ObservableObject that is linked with a data source.
  *
+ * <p>When the object is refreshed at a high rate, updates can be {@link #setConflating(boolean) conflated}, so that
+ * intermediate values are dropped instead of being applied one after the other.</p>
+ *
  * @param <T> the type of the object that is held in this observable
  * @see DataProvider#retrieveObject(ObjectDataReader)
  */
 public class GluonObservableObject<T> extends SimpleObjectProperty<T> implements GluonObservable, WritableObjectValue<T> {
 
+    static {
+        GluonObservableObjectHelper.setAccessor(GluonObservableObject::submitUpdate);
+    }
+
     private final BooleanProperty initialized = new SimpleBooleanProperty(this, "initialized", false);
     private final ObjectProperty<ConnectState> state = new SimpleObjectProperty<>(this, "state", READY);
     private final ObjectProperty<Throwable> exception = new SimpleObjectProperty<>(this, "exception");
 
+    private final Conflator conflator = new Conflator();
+    private volatile boolean conflating;
+    private final List<WeakReference<Object>> listeners = new ArrayList<>();
+
     @Override
     public boolean isInitialized() {
         return initialized.get();
@@ -151,6 +174,101 @@ public class GluonObservableObject<T> extends SimpleObjectProperty<T> implements
         getEventHelper().setOnRemoved(value);
     }
 
+    /**
+     * Returns whether updates to this observable are conflated.
+     *
+     * @return true if only the latest pending update is applied
+     * @see #setConflating(boolean)
+     */
+    public boolean isConflating() {
+        return conflating;
+    }
+
+    /**
+     * Sets whether updates to this observable are conflated. When this observable is refreshed at a high rate, e.g.
+     * by polling or by data that is pushed from a server, the DataProvider might produce new values faster than the
+     * JavaFX Application Thread can apply them. When conflating is enabled, an update that is still waiting to be
+     * applied is dropped as soon as a newer update arrives, so that only the latest value and state are applied.
+     * By default, updates are not conflated and every update is applied in order.
+     *
+     * @param conflating true to only apply the latest pending update
+     */
+    public void setConflating(boolean conflating) {
+        this.conflating = conflating;
+    }
+
+    /**
+     * Schedules an update of this observable, like setting its value and state, on the JavaFX Application Thread.
+     * This is used by the {@link DataProvider} to apply the result of an operation. When this observable is
+     * {@link #setConflating(boolean) conflating}, an update that is still pending is replaced by the new one.
+     *
+     * @param update the update to run on the JavaFX Application Thread
+     */
+    void submitUpdate(Runnable update) {
+        if (conflating) {
+            conflator.submit(update);
+        } else {
+            Platform.runLater(update);
+        }
+    }
+
+    /**
+     * Returns whether any listeners are attached to the value of this observable, including the listeners that are
+     * added by bindings. This is used by a {@link com.gluonhq.connect.provider.Refresher} to pause refreshing while
+     * nobody is interested in the value. The listeners are only weakly referenced, so a weak listener of a binding
+     * that was garbage collected no longer counts as an observer. This method must be called from the JavaFX
+     * Application Thread.
+     *
+     * @return true if at least one invalidation or change listener is attached
+     */
+    public boolean isObserved() {
+        listeners.removeIf(GluonObservableObject::isCollected);
+        return !listeners.isEmpty();
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        super.addListener(listener);
+        trackListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+        untrackListener(listener);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super T> listener) {
+        super.addListener(listener);
+        trackListener(listener);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super T> listener) {
+        super.removeListener(listener);
+        untrackListener(listener);
+    }
+
+    private void trackListener(Object listener) {
+        listeners.removeIf(GluonObservableObject::isCollected);
+        listeners.add(new WeakReference<>(listener));
+    }
+
+    private void untrackListener(Object listener) {
+        for (Iterator<WeakReference<Object>> it = listeners.iterator(); it.hasNext();) {
+            if (Objects.equals(it.next().get(), listener)) {
+                it.remove();
+                return;
+            }
+        }
+    }
+
+    private static boolean isCollected(WeakReference<Object> reference) {
+        Object listener = reference.get();
+        return listener == null || (listener instanceof WeakListener && ((WeakListener) listener).wasGarbageCollected());
+    }
+
     @Override
     public EventDispatchChain buildEventDispatchChain(EventDispatchChain tail) {
         return getEventHelper().buildEventDispatchChain(tail);
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect;
+
+import com.gluonhq.connect.provider.DataProvider;
+import com.gluonhq.connect.provider.PageLoader;
+import com.gluonhq.impl.connect.EventHelper;
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableListBase;
+import javafx.event.EventDispatchChain;
+import javafx.event.EventHandler;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.gluonhq.connect.ConnectState.CANCELLED;
+import static com.gluonhq.connect.ConnectState.READY;
+import static com.gluonhq.connect.ConnectStateEvent.*;
+
+/**
+ * A GluonObservablePagedList is a read-only ObservableList that is linked with a very large remote list. Only the
+ * pages of the list that are accessed are loaded, by using a {@link PageLoader}. The size of the list is the total
+ * number of elements in the remote list, so that a control like a ListView can be bound to the list directly.
+ *
+ * <p>When an element is requested from a page that is not loaded yet, <code>null</code> is returned and the page is
+ * loaded in the background. Once the page is loaded, a change event is fired for the elements of that page. The
+ * number of pages that are kept in memory is limited: when the limit is reached, the page that was least recently
+ * accessed is evicted and a change event is fired for its elements. It will be loaded again when one of its elements
+ * is requested again. Pages that are requested while other pages are still loading are never evicted, so a viewport
+ * that spans more pages than the limit does not keep evicting and reloading its own pages.</p>
+ *
+ * <p>A page that failed to load is not requested again until the list is {@link #refresh() refreshed}.</p>
+ *
+ * <p>Like other observables, the list stays in the {@link ConnectState#CANCELLED} state once it is
+ * {@link #cancel() cancelled}. The pages that were still loading are ignored and no more pages are loaded, not even
+ * when the list is refreshed. The pages that were already loaded remain available.</p>
+ *
+ * <p>All methods of this list must be called from the JavaFX Application Thread.</p>
+ *
+ * @param <E> the type of the elements inside this list
+ * @see DataProvider#retrievePagedList(PageLoader, int, int)
+ */
+public class GluonObservablePagedList<E> extends ObservableListBase<E> implements GluonObservable {
+
+    private static final Logger LOG = Logger.getLogger(GluonObservablePagedList.class.getName());
+
+    private final BooleanProperty initialized = new SimpleBooleanProperty(this, "initialized", false);
+    private final ObjectProperty<ConnectState> state = new SimpleObjectProperty<>(this, "state", READY);
+    private final ObjectProperty<Throwable> exception = new SimpleObjectProperty<>(this, "exception");
+
+    private final PageLoader<E> pageLoader;
+    private final int pageSize;
+    private final int maxCachedPages;
+    private final Executor executor;
+
+    private final Map<Integer, List<E>> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Integer> loadingPages = new HashSet<>();
+    private final Set<Integer> failedPages = new HashSet<>();
+    private final Set<Integer> requestedPages = new HashSet<>();
+    private int generation;
+    private boolean refreshing;
+    private int size;
+
+    /**
+     * Construct a new paged list. Use {@link DataProvider#retrievePagedList(PageLoader, int, int)} to create a paged
+     * list that loads its pages with the threads of the DataProvider.
+     *
+     * @param pageLoader the page loader that is used to load the pages of the list
+     * @param pageSize the number of elements in a single page
+     * @param maxCachedPages the maximum number of pages that are kept in memory
+     * @param executor the executor that is used to load the pages in the background
+     */
+    public GluonObservablePagedList(PageLoader<E> pageLoader, int pageSize, int maxCachedPages, Executor executor) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1, but was " + pageSize);
+        }
+        if (maxCachedPages < 1) {
+            throw new IllegalArgumentException("The maximum number of cached pages must be at least 1, but was " + maxCachedPages);
+        }
+
+        this.pageLoader = Objects.requireNonNull(pageLoader);
+        this.pageSize = pageSize;
+        this.maxCachedPages = maxCachedPages;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized.get();
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty initializedProperty() {
+        return initialized;
+    }
+
+    @Override
+    public ConnectState getState() {
+        return state.get();
+    }
+
+    public void setState(ConnectState state) {
+        final ConnectState s = getState();
+        if (s != CANCELLED) {
+            this.state.set(state);
+
+            // Invoke the event handlers
+            switch (this.state.get()) {
+                case CANCELLED:
+                    fireEvent(new ConnectStateEvent(this, CONNECT_STATE_CANCELLED));
+                    break;
+                case FAILED:
+                    fireEvent(new ConnectStateEvent(this, CONNECT_STATE_FAILED));
+                    break;
+                case READY:
+                    // This event can never meaningfully occur, because the
+                    // GluonObservable begins life as ready and can never go back to it!
+                    break;
+                case RUNNING:
+                    fireEvent(new ConnectStateEvent(this, CONNECT_STATE_RUNNING));
+                    break;
+                case REMOVED:
+                    fireEvent(new ConnectStateEvent(this, CONNECT_STATE_REMOVED));
+                    break;
+                case SUCCEEDED:
+                    fireEvent(new ConnectStateEvent(this, CONNECT_STATE_SUCCEEDED));
+                    break;
+                default:
+                    throw new AssertionError("Should be unreachable");
+            }
+        }
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<ConnectState> stateProperty() {
+        return state;
+    }
+
+    @Override
+    public Throwable getException() {
+        return exception.get();
+    }
+
+    public void setException(Throwable exception) {
+        this.exception.set(exception);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Throwable> exceptionProperty() {
+        return exception;
+    }
+
+    @Override
+    public void setOnReady(EventHandler<ConnectStateEvent> value) {
+        getEventHelper().setOnReady(value);
+    }
+
+    @Override
+    public void setOnRunning(EventHandler<ConnectStateEvent> value) {
+        getEventHelper().setOnRunning(value);
+    }
+
+    @Override
+    public void setOnFailed(EventHandler<ConnectStateEvent> value) {
+        getEventHelper().setOnFailed(value);
+    }
+
+    @Override
+    public void setOnSucceeded(EventHandler<ConnectStateEvent> value) {
+        getEventHelper().setOnSucceeded(value);
+    }
+
+    @Override
+    public void setOnCancelled(EventHandler<ConnectStateEvent> value) {
+        getEventHelper().setOnCancelled(value);
+    }
+
+    @Override
+    public void setOnRemoved(EventHandler<ConnectStateEvent> value) {
+        getEventHelper().setOnRemoved(value);
+    }
+
+    /**
+     * Returns the element at the specified position in this list. When the page that contains the element is not
+     * loaded yet, <code>null</code> is returned and the page will be loaded in the background, unless loading the
+     * page failed before.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list, or <code>null</code> if it is not loaded yet
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+
+        int page = index / pageSize;
+        requestedPages.add(page);
+        List<E> items = pages.get(page);
+        if (items == null) {
+            if (!failedPages.contains(page)) {
+                loadPage(page);
+            }
+            return null;
+        }
+
+        int offset = index - page * pageSize;
+        return offset < items.size() ? items.get(offset) : null;
+    }
+
+    /**
+     * Returns the total number of elements in the remote list, as reported by the last page that was loaded.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements in a single page.
+     *
+     * @return the number of elements in a single page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns whether the element at the specified position in this list is currently loaded. This method does not
+     * trigger the loading of the page that contains the element.
+     *
+     * @param index index of the element
+     * @return true if the page that contains the element is loaded
+     */
+    public boolean isLoaded(int index) {
+        return pages.containsKey(index / pageSize);
+    }
+
+    /**
+     * Discards all loaded pages and loads the first page of the list again. Pages that failed to load will be
+     * requested again when they are accessed. The state of the list is set to {@link ConnectState#RUNNING} until the
+     * first page is loaded. A list that was cancelled is not refreshed.
+     */
+    public void refresh() {
+        if (getState() == CANCELLED) {
+            return;
+        }
+
+        generation++;
+        pages.clear();
+        loadingPages.clear();
+        failedPages.clear();
+        requestedPages.clear();
+        refreshing = true;
+
+        setState(ConnectState.RUNNING);
+        loadPage(0);
+    }
+
+    private void loadPage(int page) {
+        if (getState() == CANCELLED || !loadingPages.add(page)) {
+            return;
+        }
+
+        final int requestGeneration = generation;
+        executor.execute(() -> {
+            try {
+                PageLoader.Page<E> result = pageLoader.loadPage(page * pageSize, pageSize);
+                Platform.runLater(() -> pageLoaded(requestGeneration, page, result));
+            } catch (CancellationException ex) {
+                Platform.runLater(() -> setState(ConnectState.CANCELLED));
+            } catch (Exception ex) {
+                Platform.runLater(() -> pageFailed(requestGeneration, page, ex));
+            }
+        });
+    }
+
+    void pageLoaded(int requestGeneration, int page, PageLoader.Page<E> result) {
+        if (requestGeneration != generation || getState() == CANCELLED) {
+            return;
+        }
+
+        loadingPages.remove(page);
+        List<E> items = result.getItems();
+        pages.put(page, items);
+
+        int newSize = Math.max(0, result.getTotalSize());
+        if (result.isEstimate() && !(refreshing && page == 0)) {
+            // an estimate is based on the position of the loaded page only, so it never shrinks the list
+            newSize = Math.max(size, newSize);
+        }
+        LOG.log(Level.FINE, "Loaded page " + page + " with " + items.size() + " elements, total size: " + newSize);
+
+        beginChange();
+        try {
+            if (refreshing && page == 0) {
+                refreshing = false;
+                // the list was refreshed, so all the elements that were known before might have changed
+                int common = Math.min(size, newSize);
+                if (common > 0) {
+                    nextReplace(0, common, Collections.nCopies(common, null));
+                }
+            } else {
+                int from = page * pageSize;
+                int to = Math.min(Math.min(from + items.size(), size), newSize);
+                if (from < to) {
+                    nextReplace(from, to, Collections.nCopies(to - from, null));
+                }
+            }
+
+            if (newSize > size) {
+                nextAdd(size, newSize);
+            } else if (newSize < size) {
+                nextRemove(newSize, Collections.nCopies(size - newSize, null));
+            }
+            size = newSize;
+
+            evictPages(page);
+        } finally {
+            endChange();
+        }
+
+        if (loadingPages.isEmpty()) {
+            requestedPages.clear();
+        }
+
+        if (getState() != ConnectState.SUCCEEDED) {
+            if (!isInitialized()) {
+                initialized.set(true);
+            }
+            setState(ConnectState.SUCCEEDED);
+        }
+    }
+
+    void pageFailed(int requestGeneration, int page, Exception ex) {
+        if (requestGeneration != generation || getState() == CANCELLED) {
+            return;
+        }
+
+        loadingPages.remove(page);
+        failedPages.add(page);
+        if (loadingPages.isEmpty()) {
+            requestedPages.clear();
+        }
+        LOG.log(Level.FINE, "Failed to load page " + page, ex);
+        setException(ex);
+        setState(ConnectState.FAILED);
+    }
+
+    /**
+     * Evicts the least recently accessed pages until no more than the maximum number of pages is cached. The page
+     * that was just loaded and the pages that were requested since all pending pages were last loaded are kept,
+     * even when that exceeds the maximum. A replace change is fired for the elements of each evicted page, so that
+     * they are requested again when they are still needed. Must be called between beginChange and endChange.
+     */
+    private void evictPages(int loadedPage) {
+        Iterator<Map.Entry<Integer, List<E>>> iterator = pages.entrySet().iterator();
+        while (pages.size() > maxCachedPages && iterator.hasNext()) {
+            Map.Entry<Integer, List<E>> entry = iterator.next();
+            int page = entry.getKey();
+            if (page == loadedPage || requestedPages.contains(page)) {
+                continue;
+            }
+
+            iterator.remove();
+            int from = page * pageSize;
+            int to = Math.min(from + entry.getValue().size(), size);
+            if (from < to) {
+                nextReplace(from, to, entry.getValue().subList(0, to - from));
+            }
+            LOG.log(Level.FINE, "Evicted page " + page);
+        }
+    }
+
+    @Override
+    public EventDispatchChain buildEventDispatchChain(EventDispatchChain tail) {
+        return getEventHelper().buildEventDispatchChain(tail);
+    }
+
+    private void fireEvent(ConnectStateEvent event) {
+        getEventHelper().fireEvent(event);
+    }
+
+    private EventHelper eventHelper = null;
+    private EventHelper getEventHelper() {
+        if (eventHelper == null) {
+            eventHelper = new EventHelper(this);
+        }
+        return eventHelper;
+    }
+}
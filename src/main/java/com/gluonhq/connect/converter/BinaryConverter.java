@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.impl.connect.converter.BinaryInput;
+import com.gluonhq.impl.connect.converter.BinaryOutput;
+import com.gluonhq.impl.connect.converter.ClassInspector;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.gluonhq.impl.connect.converter.BinaryOutput.*;
+
+/**
+ * A utility class to convert Java objects into a compact binary format and to convert that binary format back into
+ * Java objects. The binary format is an alternative to JSON that is well suited for storing objects locally, for
+ * instance with a {@link com.gluonhq.connect.provider.FileClient}.
+ *
+ * <p>The properties are resolved in exactly the same way as the {@link JsonConverter} does: a property is any field
+ * that has both a getter and a setter method, optionally renamed with an {@literal @XmlElement} annotation. Each
+ * property is written as its name followed by a type tag and the value. Property names are only written the first
+ * time they occur in a stream. All later occurrences are replaced by a small index, which keeps lists of objects of
+ * the same type compact. Integral numbers are written as variable length quantities and strings are written as
+ * length-prefixed UTF-8 bytes.</p>
+ *
+ * <p>Because every value is tagged with its type, properties that are unknown to the target class are skipped when
+ * reading, and enum constants that no longer exist are read as <code>null</code>. This allows the target class to
+ * evolve without invalidating data that was written previously.</p>
+ *
+ * @param <T> the type of the object to convert from and into the binary format
+ */
+public class BinaryConverter<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(BinaryConverter.class.getName());
+
+    private final Class<T> targetClass;
+
+    /**
+     * Construct a BinaryConverter to convert between the binary format and objects of the specified
+     * <code>targetClass</code>.
+     *
+     * @param targetClass The target class defining the objects being converted from and into the binary format.
+     */
+    public BinaryConverter(Class<T> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    /**
+     * Returns the target class that defines the objects being converted from and into the binary format.
+     *
+     * @return The target class.
+     */
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Reads an object in the binary format from the provided InputStream and converts it into a Java object. The
+     * InputStream is not closed by this method.
+     *
+     * @param inputStream the InputStream to read the binary data from
+     * @return The Java object that is converted from the binary data.
+     * @throws IOException when the data could not be read or is not in the expected binary format
+     */
+    public T readFromBinary(InputStream inputStream) throws IOException {
+        BinaryInput in = new BinaryInput(inputStream);
+        in.readHeader();
+        return targetClass.cast(readValue(in, in.readByte(), targetClass, targetClass));
+    }
+
+    /**
+     * Converts the provided Java object into the binary format and writes it to the provided OutputStream. The
+     * OutputStream is flushed, but not closed by this method.
+     *
+     * @param t the Java object to convert into the binary format
+     * @param outputStream the OutputStream to write the binary data to
+     * @throws IOException when the data could not be written
+     */
+    public void writeToBinary(T t, OutputStream outputStream) throws IOException {
+        BinaryOutput out = new BinaryOutput(outputStream);
+        out.writeHeader();
+        writeValue(out, t);
+        out.flush();
+    }
+
+    private Object readObject(BinaryInput in, Class<?> type) throws IOException {
+        ClassInspector<?> inspector = ClassInspector.resolve(type);
+        Object object;
+        try {
+            object = inspector.newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IOException("Failed to create object of type " + type, ex);
+        }
+
+        Map<String, Method> setters = inspector.getSetters();
+        int size = in.readLength();
+        for (int i = 0; i < size; i++) {
+            String property = in.readName();
+            int valueType = in.readByte();
+
+            Method setter = setters == null ? null : setters.get(property);
+            if (setter == null) {
+                LOGGER.log(Level.FINEST, "Property " + property + " not defined on class " + type + ".");
+                in.skipValue(valueType);
+                continue;
+            }
+
+            Class<?> parameterType = setter.getParameterTypes()[0];
+            Object value = readValue(in, valueType, parameterType, setter.getGenericParameterTypes()[0]);
+            if (value == null && parameterType.isPrimitive()) {
+                continue;
+            }
+
+            try {
+                inspector.setValue(object, property, value);
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                LOGGER.log(Level.WARNING, "Failed to call setter " + setter + " with value " + property, ex);
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Returns the constant of the enum with the specified name. A constant that no longer exists is read as
+     * <code>null</code>, so that removing a constant does not invalidate data that was written previously.
+     */
+    private static Object enumValue(Class<?> type, String name) {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        LOGGER.log(Level.WARNING, "Unknown constant " + name + " of " + type + ", reading it as null.");
+        return null;
+    }
+
+    private Object readValue(BinaryInput in, int valueType, Class<?> type, Type genericType) throws IOException {
+        switch (valueType) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_FALSE:
+                return Boolean.FALSE;
+            case TYPE_TRUE:
+                return Boolean.TRUE;
+            case TYPE_INTEGRAL:
+                return convertNumber(in.readSignedVarLong(), type);
+            case TYPE_FLOAT:
+                return convertNumber(in.readFloat(), type);
+            case TYPE_DOUBLE:
+                return convertNumber(in.readDouble(), type);
+            case TYPE_BIG_DECIMAL: {
+                int scale = (int) in.readSignedVarLong();
+                return convertNumber(new BigDecimal(new BigInteger(in.readBytes()), scale), type);
+            }
+            case TYPE_BIG_INTEGER:
+                return convertNumber(new BigInteger(in.readBytes()), type);
+            case TYPE_STRING: {
+                String string = in.readString();
+                if (type.isEnum()) {
+                    return enumValue(type, string);
+                }
+                return string;
+            }
+            case TYPE_LIST: {
+                Class<?> elementClass = typeArgument(genericType, 0);
+                int size = in.readLength();
+                List<Object> values;
+                if (ObservableList.class.isAssignableFrom(type)) {
+                    values = FXCollections.observableArrayList();
+                } else {
+                    // a corrupt size must not allocate a huge list before the end of the input is reached
+                    values = new ArrayList<>(Math.min(size, 1024));
+                }
+                for (int i = 0; i < size; i++) {
+                    values.add(readValue(in, in.readByte(), elementClass, elementClass));
+                }
+                return values;
+            }
+            case TYPE_MAP: {
+                Class<?> valueClass = typeArgument(genericType, 1);
+                int size = in.readLength();
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = in.readString();
+                    map.put(key, readValue(in, in.readByte(), valueClass, valueClass));
+                }
+                return map;
+            }
+            case TYPE_OBJECT:
+                return readObject(in, type);
+            default:
+                throw new IOException("Unknown value type: " + valueType);
+        }
+    }
+
+    private void writeValue(BinaryOutput out, Object value) throws IOException {
+        if (value instanceof ObservableValue) {
+            value = ((ObservableValue<?>) value).getValue();
+        }
+
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+        } else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            out.writeByte(TYPE_INTEGRAL);
+            out.writeSignedVarLong(((Number) value).longValue());
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal bigDecimal = (BigDecimal) value;
+            out.writeByte(TYPE_BIG_DECIMAL);
+            out.writeSignedVarLong(bigDecimal.scale());
+            out.writeBytes(bigDecimal.unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            out.writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            out.writeString((String) value);
+        } else if (value instanceof Enum) {
+            out.writeByte(TYPE_STRING);
+            out.writeString(((Enum<?>) value).name());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(TYPE_LIST);
+            out.writeVarInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(TYPE_MAP);
+            out.writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeString(entry.getKey().toString());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            writeObject(out, value);
+        }
+    }
+
+    private void writeObject(BinaryOutput out, Object object) throws IOException {
+        ClassInspector<?> inspector = ClassInspector.resolve(object.getClass());
+        Map<String, Method> getters = inspector.getGetters();
+
+        out.writeByte(TYPE_OBJECT);
+        out.writeVarInt(getters == null ? 0 : getters.size());
+        if (getters != null) {
+            for (Map.Entry<String, Method> entry : getters.entrySet()) {
+                Method getter = entry.getValue();
+
+                Object value;
+                try {
+                    value = inspector.getValue(object, entry.getKey());
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    LOGGER.log(Level.WARNING, "Failed to call getter " + getter + " on object " + object, ex);
+                    value = null;
+                }
+
+                out.writeName(entry.getKey());
+                writeValue(out, value);
+            }
+        }
+    }
+
+    private static Object convertNumber(Number number, Class<?> type) {
+        switch (type.getName()) {
+            case "byte":
+            case "java.lang.Byte":
+                return number.byteValue();
+            case "short":
+            case "java.lang.Short":
+                return number.shortValue();
+            case "int":
+            case "java.lang.Integer":
+                return number.intValue();
+            case "long":
+            case "java.lang.Long":
+                return number.longValue();
+            case "float":
+            case "java.lang.Float":
+                return number.floatValue();
+            case "double":
+            case "java.lang.Double":
+                return number.doubleValue();
+            case "java.lang.String":
+                return number.toString();
+            case "java.math.BigDecimal":
+                return number instanceof BigDecimal ? number : new BigDecimal(number.toString());
+            case "java.math.BigInteger":
+                return number instanceof BigInteger ? number : new BigDecimal(number.toString()).toBigInteger();
+            default:
+                return number;
+        }
+    }
+
+    private static Class<?> typeArgument(Type genericType, int index) {
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (arguments.length > index) {
+                if (arguments[index] instanceof Class) {
+                    return (Class<?>) arguments[index];
+                } else if (arguments[index] instanceof ParameterizedType) {
+                    return (Class<?>) ((ParameterizedType) arguments[index]).getRawType();
+                }
+            }
+        }
+        return Object.class;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An InputConverter that converts data in a compact binary format read from an InputStream into an object. The
+ * actual conversion from the binary format to an object is handled by an instance of {@link BinaryConverter}. The
+ * data is typically written by a {@link BinaryOutputConverter}.
+ *
+ * @param <T> the type of the object to convert the binary data into
+ */
+public class BinaryInputConverter<T> extends InputStreamInputConverter<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(BinaryInputConverter.class.getName());
+
+    private final BinaryConverter<T> converter;
+
+    /**
+     * Construct a new instance of a BinaryInputConverter that is able to convert the data read from the InputStream
+     * into objects of the specified <code>targetClass</code>.
+     *
+     * @param targetClass The class defining the objects being converted from the binary format.
+     */
+    public BinaryInputConverter(Class<T> targetClass) {
+        this.converter = new BinaryConverter<>(targetClass);
+    }
+
+    /**
+     * Converts the binary data that is read from the InputStream into an object and returns it. The InputStream will
+     * be closed after the object has been read.
+     *
+     * @return An object converted from the binary data that was read from the InputStream, or <code>null</code> when
+     * the data could not be read.
+     */
+    @Override
+    public T read() {
+        long start = System.nanoTime();
+        try (InputStream inputStream = getInputStream()) {
+            return converter.readFromBinary(inputStream);
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Something went wrong while reading binary data from InputStream.", ex);
+            return null;
+        } finally {
+            Metrics.getRecorder().recordTiming("BinaryInputConverter", Phase.DECODE, System.nanoTime() - start);
+        }
+    }
+}
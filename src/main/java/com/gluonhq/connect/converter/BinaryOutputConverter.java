@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An OutputConverter that converts an object into a compact binary format that is written to an OutputStream. The
+ * actual conversion to the binary format is handled by using an instance of {@link BinaryConverter}. The written data
+ * can be read again with a {@link BinaryInputConverter}.
+ *
+ * @param <T> the type of the object to convert into the binary format
+ */
+public class BinaryOutputConverter<T> extends OutputStreamOutputConverter<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(BinaryOutputConverter.class.getName());
+
+    private final BinaryConverter<T> converter;
+
+    /**
+     * Construct a new instance of a BinaryOutputConverter that is able to convert objects of the specified
+     * <code>targetClass</code> into the binary format and write them into the OutputStream.
+     *
+     * @param targetClass The class defining the objects being converted into the binary format.
+     */
+    public BinaryOutputConverter(Class<T> targetClass) {
+        this.converter = new BinaryConverter<>(targetClass);
+    }
+
+    /**
+     * Converts an object into the binary format and writes it to the OutputStream. The OutputStream will be closed
+     * after the object has been written.
+     *
+     * @param t The object to convert into the binary format that will be written to the OutputStream.
+     */
+    @Override
+    public void write(T t) {
+        try (OutputStream outputStream = getOutputStream()) {
+            converter.writeToBinary(t, outputStream);
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Something went wrong while writing binary data to OutputStream.", ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which a {@link ModelBinder} is generated at compile time. The binder is generated by the
+ * annotation processor that is included with Gluon Connect, which runs when the library is added to the annotation
+ * processor path of the compiler, for instance with Gradle:
+ *
+ * <pre>
+ *     annotationProcessor 'com.gluonhq:connect:&lt;version&gt;'
+ * </pre>
+ *
+ * <p>The processor is only registered in <code>META-INF/services</code>, not in the module descriptor, so that the
+ * module doesn't need <code>java.compiler</code> at runtime. It must therefore be added to the annotation processor
+ * path, also when the application itself is modular.</p>
+ *
+ * <p>The generated binder has the name of the model class followed by <code>_ModelBinder</code>, with the names of
+ * enclosing classes joined by an underscore. It is found automatically by the converters, which then create the
+ * objects and access their properties without reflection. Model classes without a generated binder keep on working
+ * as before, by inspecting their methods at runtime.</p>
+ *
+ * <p>An annotated class must not be abstract, must have a no-argument constructor that is not private and, when it is
+ * a nested class, must be static.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Bindable {
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An InputConverter that reads all the bytes from an InputStream into a ByteBuffer. The returned buffer is a read-only
+ * view on the array that the bytes were read into, so the bytes are not copied again. See {@link RawInputConverter}
+ * for how the array is sized.
+ */
+public class ByteBufferInputConverter extends RawInputConverter<ByteBuffer> {
+
+    private static final Logger LOGGER = Logger.getLogger(ByteBufferInputConverter.class.getName());
+
+    /**
+     * Reads all the bytes from the InputStream.
+     *
+     * @return A read-only ByteBuffer, positioned at zero, with the bytes that were read from the InputStream.
+     */
+    @Override
+    public ByteBuffer read() {
+        long start = System.nanoTime();
+        try (InputStream inputStream = getInputStream()) {
+            return ByteBuffer.wrap(readAllBytes(inputStream)).asReadOnlyBuffer();
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Something went wrong while reading bytes from InputStream.", ex);
+            return null;
+        } finally {
+            Metrics.getRecorder().recordTiming("ByteBufferInputConverter", Phase.DECODE, System.nanoTime() - start);
+        }
+    }
+}
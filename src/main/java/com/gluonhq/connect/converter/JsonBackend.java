@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * A JsonBackend tokenizes JSON that is read from an InputStream and binds it into objects. The JSON converters
+ * delegate all reading to a backend, which by default is the {@link JsonBackends#objectModel() object model backend}
+ * that builds a tree of {@link javax.json.JsonValue JsonValues} and binds it with {@link JsonConverter#readFromJson}.
+ * Alternative backends can bind the tokens straight into the target objects, without materializing the tree first.
+ *
+ * <p>The {@link JsonConverter} that is passed to the backend defines the target class and how its properties are
+ * bound. A backend must give the same results as {@link JsonConverter#readFromJson} for the types that are supported
+ * by the JsonConverter. Implementations must be safe to use from multiple threads at once. A backend can be set on a
+ * converter, set as the default with {@link JsonBackends#setDefault(JsonBackend)}, or provided as a service that is
+ * discovered with the {@link java.util.ServiceLoader}.</p>
+ *
+ * <p>Malformed JSON is reported by throwing a {@link javax.json.JsonException}.</p>
+ */
+public interface JsonBackend {
+
+    /**
+     * Reads a JSON object from the InputStream and binds it into an object of the target class of the specified
+     * converter. When the target class is {@link javax.json.JsonObject}, the JSON object itself is returned.
+     *
+     * @param input the InputStream to read the JSON object from
+     * @param converter the converter that defines the target class and its properties
+     * @param <T> the type of the object to bind the JSON object into
+     * @return the bound object
+     */
+    <T> T readObject(InputStream input, JsonConverter<T> converter);
+
+    /**
+     * Reads a JSON array from the InputStream and returns an Iterator over its elements, bound into objects of the
+     * target class of the specified converter. The supported element types are the same as for the
+     * {@link JsonIterableInputConverter}. A backend may read and bind the elements lazily, while the Iterator is
+     * consumed. The InputStream is closed when the last element was returned.
+     *
+     * @param input the InputStream to read the JSON array from
+     * @param converter the converter that defines the target class of the elements and its properties
+     * @param <E> the type of the objects to bind the elements into
+     * @return an Iterator over the bound elements
+     */
+    <E> Iterator<E> readArray(InputStream input, JsonConverter<E> converter);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.impl.connect.converter.ObjectModelJsonBackend;
+import com.gluonhq.impl.connect.converter.StreamingJsonBackend;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides access to the built-in {@link JsonBackend JsonBackends} and to the backend that is used by default. When
+ * no default was set, the first implementation that is found with the {@link ServiceLoader} is used. If no
+ * implementation is found, the {@link #objectModel() object model backend} is used.
+ */
+public final class JsonBackends {
+
+    private static final Logger LOG = Logger.getLogger(JsonBackends.class.getName());
+
+    private static final JsonBackend OBJECT_MODEL = new ObjectModelJsonBackend();
+    private static final JsonBackend STREAMING = new StreamingJsonBackend();
+
+    private static volatile JsonBackend defaultBackend;
+
+    private JsonBackends() {
+    }
+
+    /**
+     * Returns the backend that reads the JSON into a tree of {@link javax.json.JsonValue JsonValues} with a
+     * {@link javax.json.JsonReader}, after which the tree is bound with {@link JsonConverter#readFromJson}.
+     *
+     * @return the object model backend
+     */
+    public static JsonBackend objectModel() {
+        return OBJECT_MODEL;
+    }
+
+    /**
+     * Returns the backend that pulls the tokens from a {@link javax.json.stream.JsonParser} and binds them straight
+     * into the target objects. No tree of JSON values is built and the elements of a JSON array are read lazily, one
+     * at a time.
+     *
+     * @return the streaming backend
+     */
+    public static JsonBackend streaming() {
+        return STREAMING;
+    }
+
+    /**
+     * Returns the backend that is used by the JSON converters on which no backend was set.
+     *
+     * @return the default backend, never <code>null</code>
+     */
+    public static JsonBackend getDefault() {
+        JsonBackend result = defaultBackend;
+        if (result == null) {
+            synchronized (JsonBackends.class) {
+                result = defaultBackend;
+                if (result == null) {
+                    result = loadBackend();
+                    defaultBackend = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the backend that is used by the JSON converters on which no backend was set.
+     *
+     * @param backend the default backend, or <code>null</code> to use the object model backend
+     */
+    public static void setDefault(JsonBackend backend) {
+        defaultBackend = backend == null ? OBJECT_MODEL : backend;
+    }
+
+    private static JsonBackend loadBackend() {
+        try {
+            Iterator<JsonBackend> iterator = ServiceLoader.load(JsonBackend.class).iterator();
+            if (iterator.hasNext()) {
+                JsonBackend service = Objects.requireNonNull(iterator.next());
+                LOG.log(Level.FINE, "Using JSON backend " + service.getClass().getName());
+                return service;
+            }
+        } catch (RuntimeException | Error ex) {
+            LOG.log(Level.WARNING, "Failed to load JSON backend.", ex);
+        }
+        return OBJECT_MODEL;
+    }
+}
@@ -27,6 +27,7 @@
 package com.gluonhq.connect.converter;
 
 import com.gluonhq.impl.connect.converter.ClassInspector;
+import com.gluonhq.impl.connect.converter.StringInterner;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.FloatProperty;
@@ -48,12 +49,17 @@ import javax.json.JsonValue;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -64,6 +70,12 @@ import java.util.logging.Logger;
  */
 public class JsonConverter<T> {
 
+    /**
+     * The default maximum number of distinct values that are shared for the {@link #setInternedProperties(Collection)
+     * interned properties}.
+     */
+    public static final int DEFAULT_INTERN_CACHE_SIZE = 1024;
+
     private static final Logger LOGGER = Logger.getLogger(JsonConverter.class.getName());
 
     private static final JsonBuilderFactory builderFactory = Json.createBuilderFactory(null);
@@ -71,6 +83,11 @@ public class JsonConverter<T> {
     private final Class<T> targetClass;
     private final ClassInspector<T> inspector;
 
+    private Set<String> properties = Collections.emptySet();
+    private Set<String> internedProperties = Collections.emptySet();
+    private int internCacheSize = DEFAULT_INTERN_CACHE_SIZE;
+    private StringInterner interner;
+
     /**
      * Construct a JsonConverter to convert between JSON and objects of the specified <code>targetClass</code>.
      *
@@ -90,6 +107,93 @@ public class JsonConverter<T> {
         return targetClass;
     }
 
+    /**
+     * Returns the names of the properties that are bound when converting from JSON.
+     *
+     * @return an unmodifiable set of the projected properties, which is empty when all properties are bound
+     */
+    public Set<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Sets the names of the properties that are bound when converting from JSON. All other properties of the target
+     * class are left untouched, which saves decoding values that are not needed, for instance when a view only
+     * shows a few of the properties of wide records. The projection only applies to the properties of the target class
+     * itself, nested objects are always converted completely. Writing to JSON is not affected by the projection.
+     *
+     * @param properties the names of the properties to bind, or <code>null</code> or an empty collection to bind all
+     *                   properties
+     */
+    public void setProperties(Collection<String> properties) {
+        this.properties = properties == null || properties.isEmpty() ?
+                Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(properties));
+    }
+
+    /**
+     * Returns the names of the properties for which equal string values are shared when converting from JSON.
+     *
+     * @return an unmodifiable set of the interned properties, which is empty when no values are shared
+     */
+    public Set<String> getInternedProperties() {
+        return internedProperties;
+    }
+
+    /**
+     * Sets the names of the properties for which equal string values are shared when converting from JSON. This is
+     * useful for properties with only a few distinct values, like a status or a country code: when a large list is
+     * converted, all objects then refer to the same few String instances instead of each holding its own copy. The
+     * string elements of list properties are shared as well. At most {@link #getInternCacheSize()} distinct values
+     * are kept by this converter, further values are not shared.
+     *
+     * @param internedProperties the names of the properties whose values to share, or <code>null</code> or an empty
+     *                           collection to not share any values
+     */
+    public void setInternedProperties(Collection<String> internedProperties) {
+        this.internedProperties = internedProperties == null || internedProperties.isEmpty() ?
+                Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(internedProperties));
+        this.interner = this.internedProperties.isEmpty() ? null : new StringInterner(internCacheSize);
+    }
+
+    /**
+     * Returns the maximum number of distinct values that are shared for the interned properties.
+     *
+     * @return the maximum number of distinct values to share
+     */
+    public int getInternCacheSize() {
+        return internCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of distinct values that are shared for the interned properties. Setting the size
+     * discards the values that were shared so far. The default size is {@link #DEFAULT_INTERN_CACHE_SIZE}.
+     *
+     * @param internCacheSize the maximum number of distinct values to share
+     */
+    public void setInternCacheSize(int internCacheSize) {
+        if (internCacheSize < 0) {
+            throw new IllegalArgumentException("The intern cache size can not be negative: " + internCacheSize);
+        }
+        this.internCacheSize = internCacheSize;
+        this.interner = internedProperties.isEmpty() ? null : new StringInterner(internCacheSize);
+    }
+
+    /**
+     * Returns the shared instance of a string value of the specified property. When the property is not one of the
+     * {@link #setInternedProperties(Collection) interned properties}, the value itself is returned.
+     *
+     * @param property the name of the property the value belongs to
+     * @param value the string value that was read from JSON
+     * @return the shared instance that is equal to the value, or the value itself
+     */
+    public String intern(String property, String value) {
+        StringInterner interner = this.interner;
+        if (interner == null || !internedProperties.contains(property)) {
+            return value;
+        }
+        return interner.intern(value);
+    }
+
     /**
      * Convert the provided JSON Object into a Java object. If a new instance could not be created from the specified
      * <code>targetClass</code> in the constructor, then <code>null</code> will be returned.
@@ -102,7 +206,10 @@ public class JsonConverter<T> {
      *
      * <p>The property name will then be looked up in the provided JSON Object. If a key was not found, the property
      * will be ignored. Otherwise, the setter method will be called with the value from the JSON Object that is mapped
-     * to the key. The JsonConverter is able to convert from all types of JSON values, except for nested JSON Arrays.</p>
+     * to the key. The JsonConverter is able to convert from all types of JSON values, except for nested JSON Arrays.
+     * JSON Arrays are converted into a List, or into an <code>int[]</code>, <code>long[]</code> or
+     * <code>double[]</code> when the setter takes such a primitive array.
+     * When {@link #setProperties(Collection) properties} are projected, only those properties are looked up.</p>
      *
      * @param json the instance of the JSON Object that needs to be converted into a Java object
      * @return The Java object that is converted from the provided JSON Object.
@@ -112,7 +219,7 @@ public class JsonConverter<T> {
 
         try {
             if (! Map.class.isAssignableFrom(targetClass)) {
-                t = targetClass.getDeclaredConstructor().newInstance();
+                t = inspector.newInstance();
             } else {
                 LOGGER.log(Level.WARNING, "Map not yet supported");
             }
@@ -120,6 +227,9 @@ public class JsonConverter<T> {
             Map<String, Method> settersMappedByPropertyName = this.inspector.getSetters();
             if (settersMappedByPropertyName != null) {
                 for (String property : settersMappedByPropertyName.keySet()) {
+                    if (!properties.isEmpty() && !properties.contains(property)) {
+                        continue;
+                    }
                     if (!json.containsKey(property)) {
                         LOGGER.log(Level.FINEST, "Property " + property + " not defined on json object for class " + targetClass + ".");
                         continue;
@@ -146,7 +256,7 @@ public class JsonConverter<T> {
                                 if (parameterType.isEnum()) {
                                     args[0] = Enum.valueOf(parameterType.asSubclass(Enum.class), stringProperty.getString());
                                 } else {
-                                    args[0] = stringProperty.getString();
+                                    args[0] = intern(property, stringProperty.getString());
                                 }
                                 break;
                             case NUMBER:
@@ -190,12 +300,13 @@ public class JsonConverter<T> {
                                 break;
                             case ARRAY:
                                 JsonArray arrayProperty = (JsonArray) jsonValue;
-                                List<Object> values;
-                                if (ObservableList.class.isAssignableFrom(parameterType)) {
-                                    values = FXCollections.observableArrayList();
-                                } else {
-                                    values = new ArrayList<>();
+                                if (parameterType.isArray()) {
+                                    args[0] = readPrimitiveArray(arrayProperty, parameterType.getComponentType(), property);
+                                    break;
                                 }
+
+                                Class<?> listClass = listElementClass(setter.getGenericParameterTypes()[0]);
+                                List<Object> values = new ArrayList<>(arrayProperty.size());
                                 for (JsonValue arrayValue : arrayProperty) {
                                     switch (arrayValue.getValueType()) {
                                         case NULL:
@@ -209,11 +320,9 @@ public class JsonConverter<T> {
                                             break;
                                         case STRING:
                                             JsonString stringArrayValue = (JsonString) arrayValue;
-                                            values.add(stringArrayValue.getString());
+                                            values.add(intern(property, stringArrayValue.getString()));
                                             break;
                                         case NUMBER: {
-                                            ParameterizedType listType = (ParameterizedType) setter.getGenericParameterTypes()[0];
-                                            Class<?> listClass = (Class<?>) listType.getActualTypeArguments()[0];
                                             JsonNumber numberArrayValue = (JsonNumber) arrayValue;
                                             switch (listClass.getName()) {
                                                 case "byte":
@@ -246,11 +355,13 @@ public class JsonConverter<T> {
                                                 case "java.math.BigInteger":
                                                     values.add(numberArrayValue.bigIntegerValue());
                                                     break;
-                                            }
-                                            if (numberArrayValue.isIntegral()) {
-                                                values.add(numberArrayValue.longValue());
-                                            } else {
-                                                values.add(numberArrayValue.doubleValue());
+                                                default:
+                                                    if (numberArrayValue.isIntegral()) {
+                                                        values.add(numberArrayValue.longValue());
+                                                    } else {
+                                                        values.add(numberArrayValue.doubleValue());
+                                                    }
+                                                    break;
                                             }
                                             break;
                                         }
@@ -259,15 +370,14 @@ public class JsonConverter<T> {
                                             LOGGER.log(Level.WARNING, "Arrays within arrays not yet supported.");
                                             break;
                                         case OBJECT: {
-                                            ParameterizedType listType = (ParameterizedType) setter.getGenericParameterTypes()[0];
-                                            Class<?> listClass = (Class<?>) listType.getActualTypeArguments()[0];
                                             JsonConverter<?> jsonConverter = new JsonConverter<>(listClass);
                                             values.add(jsonConverter.readFromJson((JsonObject) arrayValue));
                                             break;
                                         }
                                     }
                                 }
-                                args[0] = values;
+                                // wrapping the filled list avoids copying it into a new observable list
+                                args[0] = ObservableList.class.isAssignableFrom(parameterType) ? FXCollections.observableList(values) : values;
                                 break;
                             case OBJECT:
                                 JsonObject jsonObject = (JsonObject) jsonValue;
@@ -363,7 +473,7 @@ public class JsonConverter<T> {
                         }
 
                         try {
-                            setter.invoke(t, args);
+                            inspector.setValue(t, property, args[0]);
                         } catch (IllegalArgumentException | InvocationTargetException ex) {
                             LOGGER.log(Level.WARNING, "Failed to call setter " + setter + " with value " + property, ex);
                         }
@@ -377,6 +487,51 @@ public class JsonConverter<T> {
         return t;
     }
 
+    /**
+     * Reads a JSON Array of numbers directly into an <code>int[]</code>, <code>long[]</code> or <code>double[]</code>,
+     * without boxing the elements. Returns <code>null</code> when the component type is not supported or when the
+     * array contains a value that is not a number.
+     */
+    private Object readPrimitiveArray(JsonArray jsonArray, Class<?> componentType, String property) {
+        int size = jsonArray.size();
+        try {
+            if (int.class.equals(componentType)) {
+                int[] array = new int[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = jsonArray.getJsonNumber(i).intValue();
+                }
+                return array;
+            } else if (long.class.equals(componentType)) {
+                long[] array = new long[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = jsonArray.getJsonNumber(i).longValue();
+                }
+                return array;
+            } else if (double.class.equals(componentType)) {
+                double[] array = new double[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = jsonArray.getJsonNumber(i).doubleValue();
+                }
+                return array;
+            }
+        } catch (ClassCastException ex) {
+            LOGGER.log(Level.WARNING, "Property " + property + " of class " + targetClass + " can only hold numbers: " + jsonArray);
+            return null;
+        }
+        LOGGER.log(Level.WARNING, "Arrays of type " + componentType + " are not supported, use a List instead.");
+        return null;
+    }
+
+    private static Class<?> listElementClass(Type listType) {
+        if (listType instanceof ParameterizedType) {
+            Type elementType = ((ParameterizedType) listType).getActualTypeArguments()[0];
+            if (elementType instanceof Class) {
+                return (Class<?>) elementType;
+            }
+        }
+        return Object.class;
+    }
+
     /**
      * Convert the provided Java object into a JSON Object.
      *
@@ -390,8 +545,9 @@ public class JsonConverter<T> {
      * was returned by calling the getter method on the provided Java object.</p>
      *
      * <p>As the return type of the getter method, all primitive java types are supported as well as the basic JavaFX
-     * property objects (like BooleanProperty, IntegerProperty, etc...). {@link java.util.List Lists} are supported as
-     * well and will be converted into a JSON Array. If the getter returns any other type, then the returned value will
+     * property objects (like BooleanProperty, IntegerProperty, etc...). {@link java.util.List Lists} and arrays of type
+     * <code>int[]</code>, <code>long[]</code> and <code>double[]</code> are supported as well and will be converted
+     * into a JSON Array. If the getter returns any other type, then the returned value will
      * be converted into a JSON Object as well by using a JsonConverter.</p>
      *
      * @param t the Java object to convert into a JSON Object
@@ -415,7 +571,7 @@ public class JsonConverter<T> {
     }
 
     private void writeProperty(JsonObjectBuilder jsonObjectBuilder, String property, Method method, T target) throws IllegalAccessException, InvocationTargetException {
-        Object value = method.invoke(target);
+        Object value = inspector.getValue(target, property);
 
         if (boolean.class.equals(method.getReturnType())) {
             jsonObjectBuilder.add(property, (boolean) value);
@@ -491,6 +647,36 @@ public class JsonConverter<T> {
             } else {
                 jsonObjectBuilder.add(property, (BigInteger) value);
             }
+        } else if (int[].class.equals(method.getReturnType())) {
+            if (value == null) {
+                jsonObjectBuilder.addNull(property);
+            } else {
+                JsonArrayBuilder jsonArrayBuilder = builderFactory.createArrayBuilder();
+                for (int item : (int[]) value) {
+                    jsonArrayBuilder.add(item);
+                }
+                jsonObjectBuilder.add(property, jsonArrayBuilder);
+            }
+        } else if (long[].class.equals(method.getReturnType())) {
+            if (value == null) {
+                jsonObjectBuilder.addNull(property);
+            } else {
+                JsonArrayBuilder jsonArrayBuilder = builderFactory.createArrayBuilder();
+                for (long item : (long[]) value) {
+                    jsonArrayBuilder.add(item);
+                }
+                jsonObjectBuilder.add(property, jsonArrayBuilder);
+            }
+        } else if (double[].class.equals(method.getReturnType())) {
+            if (value == null) {
+                jsonObjectBuilder.addNull(property);
+            } else {
+                JsonArrayBuilder jsonArrayBuilder = builderFactory.createArrayBuilder();
+                for (double item : (double[]) value) {
+                    jsonArrayBuilder.add(item);
+                }
+                jsonObjectBuilder.add(property, jsonArrayBuilder);
+            }
         } else if (List.class.isAssignableFrom(method.getReturnType())) {
             List list = (List) value;
             if (list != null) {
@@ -26,14 +26,15 @@
  */
 package com.gluonhq.connect.converter;
 
-import com.gluonhq.impl.connect.converter.JsonUtil;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
 
-import javax.json.JsonObject;
-import javax.json.JsonReader;
+import java.util.Collection;
+import java.util.Set;
 
 /**
- * An InputConverter that converts a JSON Object read from an InputStream into an object. The actual conversion from
- * JSON to an object is handled by an instance of {@link JsonConverter}.
+ * An InputConverter that converts a JSON Object read from an InputStream into an object. The JSON is read and bound
+ * by a {@link JsonBackend}, according to the properties that are defined by a {@link JsonConverter}.
  *
  * @param <T> the type of the object to convert the JSON Object into
  */
@@ -41,6 +42,8 @@ public class JsonInputConverter<T> extends InputStreamInputConverter<T> {
 
     private final JsonConverter<T> converter;
 
+    private JsonBackend backend;
+
     /**
      * Construct a new instance of a JsonInputConverter that is able to convert the data read from the InputStream into
      * objects of the specified <code>targetClass</code>.
@@ -51,23 +54,64 @@ public class JsonInputConverter<T> extends InputStreamInputConverter<T> {
         this.converter = new JsonConverter<>(targetClass);
     }
 
+    /**
+     * Returns the names of the properties that are bound when converting from JSON.
+     *
+     * @return an unmodifiable set of the projected properties, which is empty when all properties are bound
+     * @see JsonConverter#getProperties()
+     */
+    public Set<String> getProperties() {
+        return converter.getProperties();
+    }
+
+    /**
+     * Sets the names of the properties that are bound when converting from JSON. All other properties are left
+     * untouched and, depending on the {@link JsonBackend}, are skipped without decoding their values.
+     *
+     * @param properties the names of the properties to bind, or <code>null</code> or an empty collection to bind all
+     *                   properties
+     * @see JsonConverter#setProperties(Collection)
+     */
+    public void setProperties(Collection<String> properties) {
+        converter.setProperties(properties);
+    }
+
+    /**
+     * Returns the backend that reads and binds the JSON.
+     *
+     * @return the backend that was set on this converter, or <code>null</code> when the
+     * {@link JsonBackends#getDefault() default backend} is used
+     */
+    public JsonBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets the backend that reads and binds the JSON.
+     *
+     * @param backend the backend to use, or <code>null</code> to use the
+     *                {@link JsonBackends#getDefault() default backend}
+     */
+    public void setBackend(JsonBackend backend) {
+        this.backend = backend;
+    }
+
     /**
      * Converts a JSON Object that is read from the InputStream into an object and returns it. If the specified
      * <code>targetClass</code> in the constructor equals to JsonObject.class, then this method will just return the
-     * read JSON object directly instead of running the conversion. Otherwise, a {@link JsonConverter} will be used to
-     * convert the JSON Object into the final object to return.
+     * read JSON object directly instead of running the conversion. Otherwise, the JSON Object is bound into the final
+     * object to return by the {@link JsonBackend}, which uses a {@link JsonConverter} by default.
      *
      * @return An object converted from the JSON Object that was read from the InputStream.
      */
     @Override
     public T read() {
-        try (JsonReader reader = JsonUtil.createJsonReader(getInputStream())) {
-            JsonObject jsonObject = reader.readObject();
-            if (JsonObject.class.isAssignableFrom(converter.getTargetClass())) {
-                return (T) jsonObject;
-            } else {
-                return converter.readFromJson(jsonObject);
-            }
+        long start = System.nanoTime();
+        try {
+            JsonBackend jsonBackend = backend != null ? backend : JsonBackends.getDefault();
+            return jsonBackend.readObject(getInputStream(), converter);
+        } finally {
+            Metrics.getRecorder().recordTiming("JsonInputConverter", Phase.DECODE, System.nanoTime() - start);
         }
     }
 }
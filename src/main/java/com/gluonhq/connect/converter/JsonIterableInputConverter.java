@@ -26,27 +26,50 @@
  */
 package com.gluonhq.connect.converter;
 
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.converter.JsonElementConverter;
 import com.gluonhq.impl.connect.converter.JsonUtil;
 
 import javax.json.JsonArray;
-import javax.json.JsonObject;
 import javax.json.JsonReader;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * An IterableInputConverter that converts a JSON Array read from an InputStream into an Iterator that can be used to
- * iterate over a list of objects. The actual conversion from JSON to an object is handled by an instance of
- * {@link JsonConverter}.
+ * iterate over a list of objects. The JSON is read and bound by a {@link JsonBackend}, according to the properties
+ * that are defined by a {@link JsonConverter}.
  *
  * @param <E> the type of the object that the items in the JSON Array are converted into
  */
 public class JsonIterableInputConverter<E> extends InputStreamIterableInputConverter<E> implements Iterator<E> {
 
-    private final Class<E> targetClass;
+    /**
+     * The default minimum number of elements in the JSON Array for which the elements are converted in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    private final JsonConverter<E> converter;
+    private final JsonElementConverter<E> elementConverter;
+
+    private JsonBackend backend;
+    private boolean parallel;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
+    private Iterator<E> elements;
     private JsonArray jsonArray;
     private int index;
-    private JsonConverter<E> converter;
+    private List<ForkJoinTask<Object[]>> chunks;
+    private int chunkSize;
+    private long decodeNanos;
 
     /**
      * Construct a new instance of a JsonIterableInputConverter that is able to convert the data read from the
@@ -70,7 +93,119 @@ public class JsonIterableInputConverter<E> extends InputStreamIterableInputConve
      * @param targetClass The class defining the objects being converted from JSON.
      */
     public JsonIterableInputConverter(Class<E> targetClass) {
-        this.targetClass = targetClass;
+        this.converter = new JsonConverter<>(targetClass);
+        this.elementConverter = new JsonElementConverter<>(converter);
+    }
+
+    /**
+     * Returns the names of the properties that are bound when converting from JSON.
+     *
+     * @return an unmodifiable set of the projected properties, which is empty when all properties are bound
+     * @see JsonConverter#getProperties()
+     */
+    public Set<String> getProperties() {
+        return converter.getProperties();
+    }
+
+    /**
+     * Sets the names of the properties that are bound when converting from JSON. All other properties are left
+     * untouched and, depending on the {@link JsonBackend}, are skipped without decoding their values.
+     *
+     * @param properties the names of the properties to bind, or <code>null</code> or an empty collection to bind all
+     *                   properties
+     * @see JsonConverter#setProperties(Collection)
+     */
+    public void setProperties(Collection<String> properties) {
+        converter.setProperties(properties);
+    }
+
+    /**
+     * Returns the names of the properties for which equal string values are shared when converting from JSON.
+     *
+     * @return an unmodifiable set of the interned properties, which is empty when no values are shared
+     * @see JsonConverter#getInternedProperties()
+     */
+    public Set<String> getInternedProperties() {
+        return converter.getInternedProperties();
+    }
+
+    /**
+     * Sets the names of the properties for which equal string values are shared when converting from JSON. Sharing
+     * the values of properties with only a few distinct values, like a status or a category, considerably reduces
+     * the memory that is held by a large list of converted objects.
+     *
+     * @param internedProperties the names of the properties whose values to share, or <code>null</code> or an empty
+     *                           collection to not share any values
+     * @see JsonConverter#setInternedProperties(Collection)
+     */
+    public void setInternedProperties(Collection<String> internedProperties) {
+        converter.setInternedProperties(internedProperties);
+    }
+
+    /**
+     * Returns the backend that reads and binds the JSON.
+     *
+     * @return the backend that was set on this converter, or <code>null</code> when the
+     * {@link JsonBackends#getDefault() default backend} is used
+     */
+    public JsonBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets the backend that reads and binds the JSON. Note that the JSON Array is always read with the
+     * {@link JsonBackends#objectModel() object model backend} when its elements are converted in
+     * {@link #setParallel(boolean) parallel}, as the elements must be available up front to split them in chunks.
+     *
+     * @param backend the backend to use, or <code>null</code> to use the
+     *                {@link JsonBackends#getDefault() default backend}
+     */
+    public void setBackend(JsonBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Returns whether the elements of large JSON Arrays are converted in parallel.
+     *
+     * @return true if the elements of large JSON Arrays are converted in parallel
+     * @see #setParallel(boolean)
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the elements of large JSON Arrays are converted in parallel. When enabled and the JSON Array
+     * contains at least {@link #getParallelThreshold() threshold} elements, the elements are split in chunks that are
+     * converted into objects by the tasks of the common {@link ForkJoinPool}. The elements are still returned by
+     * {@link #next()} in the order of the JSON Array, as soon as the chunk that contains them is converted. The target
+     * class must be safe to instantiate and populate from multiple threads at once. By default, elements are converted
+     * one by one in the thread that calls {@link #next()}.
+     *
+     * @param parallel true to convert the elements of large JSON Arrays in parallel
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the minimum number of elements in the JSON Array for which the elements are converted in parallel.
+     *
+     * @return the minimum number of elements to convert in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the minimum number of elements in the JSON Array for which the elements are converted in parallel, when
+     * {@link #setParallel(boolean) parallel} conversion is enabled. Smaller arrays are converted sequentially, as
+     * the cost of scheduling the tasks would outweigh the gain.
+     *
+     * @param parallelThreshold the minimum number of elements to convert in parallel
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -81,35 +216,57 @@ public class JsonIterableInputConverter<E> extends InputStreamIterableInputConve
      */
     @Override
     public E next() {
-        if (Boolean.class.isAssignableFrom(targetClass)) {
-            return (E) (Boolean) jsonArray.getBoolean(index++);
-        } else if (Byte.class.isAssignableFrom(targetClass)) {
-            return (E) (Byte) ((Integer) jsonArray.getInt(index++)).byteValue();
-        } else if (Double.class.isAssignableFrom(targetClass)) {
-            return (E) (Double) jsonArray.getJsonNumber(index++).doubleValue();
-        } else if (Float.class.isAssignableFrom(targetClass)) {
-            return (E) (Float) ((Double) jsonArray.getJsonNumber(index++).doubleValue()).floatValue();
-        } else if (Integer.class.isAssignableFrom(targetClass)) {
-            return (E) (Integer) jsonArray.getInt(index++);
-        } else if (Long.class.isAssignableFrom(targetClass)) {
-            return (E) (Long) jsonArray.getJsonNumber(index++).longValue();
-        } else if (Short.class.isAssignableFrom(targetClass)) {
-            return (E) (Short) ((Integer) jsonArray.getInt(index++)).shortValue();
-        } else if (String.class.isAssignableFrom(targetClass)) {
-            return (E) jsonArray.getString(index++);
-        } else {
-            JsonObject jsonObject = jsonArray.getJsonObject(index++);
-            if (JsonObject.class.isAssignableFrom(targetClass)) {
-                return (E) jsonObject;
-            } else {
-                if (converter == null) {
-                    converter = new JsonConverter<>(targetClass);
-                }
-                return converter.readFromJson(jsonObject);
+        long start = System.nanoTime();
+        try {
+            return convertNext();
+        } finally {
+            decodeNanos += System.nanoTime() - start;
+            if (!hasNext()) {
+                Metrics.getRecorder().recordTiming("JsonIterableInputConverter", Phase.DECODE, decodeNanos);
+                Metrics.getRecorder().recordElements("JsonIterableInputConverter", index);
             }
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private E convertNext() {
+        if (chunks == null) {
+            E element = elements.next();
+            index++;
+            return element;
+        }
+
+        int chunk = index / chunkSize;
+        Object[] elements = chunks.get(chunk).join();
+        E element = (E) elements[index % chunkSize];
+        index++;
+        if (index % chunkSize == 0 || index == jsonArray.size()) {
+            // release the converted chunk as soon as all its elements were returned
+            chunks.set(chunk, null);
+        }
+        return element;
+    }
+
+    private void convertInParallel() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int size = jsonArray.size();
+        int tasks = pool.getParallelism() * 4;
+        chunkSize = Math.max(MIN_CHUNK_SIZE, (size + tasks - 1) / tasks);
+
+        chunks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < size; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(size, from + chunkSize);
+            chunks.add(pool.submit(() -> {
+                Object[] elements = new Object[end - start];
+                for (int i = start; i < end; i++) {
+                    elements[i - start] = elementConverter.convert(jsonArray.get(i));
+                }
+                return elements;
+            }));
+        }
+    }
+
     /**
      * Returns <code>true</code> if the iteration has more elements, in this case if there are more elements to be
      * returned from the JSON Array that was read from the InputStream.
@@ -118,13 +275,14 @@ public class JsonIterableInputConverter<E> extends InputStreamIterableInputConve
      */
     @Override
     public boolean hasNext() {
-        return index < jsonArray.size();
+        return chunks != null ? index < jsonArray.size() : elements.hasNext();
     }
 
     /**
      * Returns an Iterator that loops over the items in the JSON Array that is read from the InputStream. This
      * implementation returns itself as the Iterator. Each element inside the JSON Array will be converted into the
-     * correct object when the {@link #next} method is called.
+     * correct object when the {@link #next} method is called, unless the elements are converted in
+     * {@link #setParallel(boolean) parallel}, in which case the conversion of all elements is started here.
      *
      * @return An Iterator that can be used to loop over the objects that are contained in the JSON Array that was read
      * from the InputStream.
@@ -132,9 +290,28 @@ public class JsonIterableInputConverter<E> extends InputStreamIterableInputConve
     @Override
     public Iterator<E> iterator() {
         index = 0;
+        elements = null;
+        jsonArray = null;
+        chunks = null;
 
-        try (JsonReader reader = JsonUtil.createJsonReader(getInputStream())) {
-            jsonArray = reader.readArray();
+        long start = System.nanoTime();
+        if (parallel && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            try (JsonReader reader = JsonUtil.createJsonReader(getInputStream())) {
+                jsonArray = reader.readArray();
+            }
+            if (jsonArray.size() >= parallelThreshold) {
+                convertInParallel();
+            } else {
+                elements = jsonArray.stream().map(elementConverter::convert).iterator();
+            }
+        } else {
+            JsonBackend jsonBackend = backend != null ? backend : JsonBackends.getDefault();
+            elements = jsonBackend.readArray(getInputStream(), converter);
+        }
+        decodeNanos = System.nanoTime() - start;
+        if (!hasNext()) {
+            Metrics.getRecorder().recordTiming("JsonIterableInputConverter", Phase.DECODE, decodeNanos);
+            Metrics.getRecorder().recordElements("JsonIterableInputConverter", 0);
         }
 
         return this;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * A ModelBinder creates objects of a model class and reads and writes their properties with plain method calls. The
+ * binders are generated at compile time for classes that are annotated with {@link Bindable}, and are used by the
+ * converters instead of reflection. The properties of a binder are the same as those that the converters find by
+ * inspecting the getter and setter methods of the model class at runtime.
+ *
+ * <p>Implementations must have a public no-argument constructor and must be safe to use from multiple threads at
+ * once.</p>
+ *
+ * @param <T> the type of the model class
+ */
+public interface ModelBinder<T> {
+
+    /**
+     * Returns the model class that is bound by this binder.
+     *
+     * @return the model class
+     */
+    Class<T> getTargetClass();
+
+    /**
+     * Creates a new instance of the model class by calling its no-argument constructor.
+     *
+     * @return a new instance of the model class
+     */
+    T newInstance();
+
+    /**
+     * Returns the getter methods of the model class, mapped by property name. The methods describe the type of each
+     * property, but are not invoked by the converters.
+     *
+     * @return the getter methods mapped by property name
+     */
+    Map<String, Method> getGetters();
+
+    /**
+     * Returns the setter methods of the model class, mapped by property name. The methods describe the type of each
+     * property, but are not invoked by the converters.
+     *
+     * @return the setter methods mapped by property name
+     */
+    Map<String, Method> getSetters();
+
+    /**
+     * Returns the value of a property by calling its getter.
+     *
+     * @param target the object to read the property from
+     * @param property the name of the property
+     * @return the value that was returned by the getter
+     * @throws IllegalArgumentException when the property is unknown
+     */
+    Object get(T target, String property);
+
+    /**
+     * Sets the value of a property by calling its setter. The value must be of the type of the setter, or of a type
+     * that can be widened into the primitive type of the setter.
+     *
+     * @param target the object to set the property on
+     * @param property the name of the property
+     * @param value the value to pass to the setter
+     * @throws IllegalArgumentException when the property is unknown or the value is not of the right type
+     */
+    void set(T target, String property, Object value);
+}
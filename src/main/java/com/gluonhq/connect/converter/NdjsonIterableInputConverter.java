@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.converter.JsonElementConverter;
+import com.gluonhq.impl.connect.converter.JsonUtil;
+
+import javax.json.JsonReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An IterableInputConverter that converts newline-delimited JSON (also known as NDJSON or JSON Lines) read from an
+ * InputStream into an Iterator that can be used to iterate over a list of objects. Each non-empty line holds one
+ * JSON value, which is only read and converted when the {@link #next()} method is called. Unlike the
+ * {@link JsonIterableInputConverter}, the whole input is never held in memory, so this converter can be used for
+ * feeds and files of any size.
+ *
+ * <p>The supported target classes are the same as for the {@link JsonIterableInputConverter}.</p>
+ *
+ * @param <E> the type of the object that the lines are converted into
+ */
+public class NdjsonIterableInputConverter<E> extends InputStreamIterableInputConverter<E> implements Iterator<E> {
+
+    private final JsonConverter<E> converter;
+    private final JsonElementConverter<E> elementConverter;
+
+    private BufferedReader reader;
+    private String nextLine;
+    private int count;
+    private long decodeNanos;
+
+    /**
+     * Construct a new instance of a NdjsonIterableInputConverter that is able to convert the lines read from the
+     * InputStream into objects of the specified <code>targetClass</code>.
+     *
+     * @param targetClass The class defining the objects being converted from JSON.
+     */
+    public NdjsonIterableInputConverter(Class<E> targetClass) {
+        this.converter = new JsonConverter<>(targetClass);
+        this.elementConverter = new JsonElementConverter<>(converter);
+    }
+
+    /**
+     * Returns the names of the properties for which equal string values are shared when converting from JSON.
+     *
+     * @return an unmodifiable set of the interned properties, which is empty when no values are shared
+     * @see JsonConverter#getInternedProperties()
+     */
+    public Set<String> getInternedProperties() {
+        return converter.getInternedProperties();
+    }
+
+    /**
+     * Sets the names of the properties for which equal string values are shared when converting from JSON. Sharing
+     * the values of properties with only a few distinct values, like a status or a category, considerably reduces
+     * the memory that is held by a large list of converted objects.
+     *
+     * @param internedProperties the names of the properties whose values to share, or <code>null</code> or an empty
+     *                           collection to not share any values
+     * @see JsonConverter#setInternedProperties(Collection)
+     */
+    public void setInternedProperties(Collection<String> internedProperties) {
+        converter.setInternedProperties(internedProperties);
+    }
+
+    /**
+     * Returns <code>true</code> if the iteration has more elements, in this case if there is another non-empty line
+     * available in the InputStream.
+     *
+     * @return <code>true</code> if there are more items available in the Iterator, <code>false</code> otherwise.
+     */
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    /**
+     * Returns the next element in the iteration. In this case, it will be an object that is converted from the JSON
+     * value on the next non-empty line of the InputStream.
+     *
+     * @return An object converted from the JSON value on the next line.
+     * @throws UncheckedIOException when reading from the InputStream failed
+     */
+    @Override
+    public E next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+
+        long start = System.nanoTime();
+        E element;
+        try (JsonReader jsonReader = JsonUtil.createJsonReader(nextLine)) {
+            element = elementConverter.convert(jsonReader.readValue());
+        }
+        count++;
+        decodeNanos += System.nanoTime() - start;
+
+        advance();
+        return element;
+    }
+
+    /**
+     * Returns an Iterator that loops over the lines that are read from the InputStream. This implementation returns
+     * itself as the Iterator.
+     *
+     * @return An Iterator that can be used to loop over the objects that are contained in the lines of the
+     * InputStream.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        reader = new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        count = 0;
+        decodeNanos = 0;
+        advance();
+        return this;
+    }
+
+    private void advance() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            nextLine = line;
+        } catch (IOException ex) {
+            nextLine = null;
+            closeReader();
+            throw new UncheckedIOException("Failed to read the next line of newline-delimited JSON.", ex);
+        }
+
+        if (nextLine == null) {
+            closeReader();
+            Metrics.getRecorder().recordTiming("NdjsonIterableInputConverter", Phase.DECODE, decodeNanos);
+            Metrics.getRecorder().recordElements("NdjsonIterableInputConverter", count);
+        }
+    }
+
+    private void closeReader() {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            // nothing left to read
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An InputConverter that streams all the bytes from an InputStream into a file. The bytes are transferred with
+ * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}, so large bodies are written to the file without
+ * being collected on the heap. When the InputStream is a {@link FileInputStream}, the file is copied channel to
+ * channel, which allows the operating system to copy the data without passing it through the application.
+ *
+ * <p>An existing file at the target path is overwritten. The path of the file is returned by {@link #read()} when
+ * all the bytes were transferred. When the transfer fails, the incomplete file is deleted.</p>
+ */
+public class PathInputConverter extends InputStreamInputConverter<Path> {
+
+    private static final Logger LOGGER = Logger.getLogger(PathInputConverter.class.getName());
+
+    private final Path target;
+
+    /**
+     * Construct a new instance of a PathInputConverter that writes the data read from the InputStream into the file
+     * at the specified <code>target</code> path.
+     *
+     * @param target the path of the file to write the data into
+     */
+    public PathInputConverter(Path target) {
+        this.target = target;
+    }
+
+    /**
+     * Returns the path of the file that the data is written into.
+     *
+     * @return the path of the target file
+     */
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * Transfers all the bytes from the InputStream into the target file.
+     *
+     * @return The path of the target file, or <code>null</code> when the bytes could not be transferred.
+     */
+    @Override
+    public Path read() {
+        long start = System.nanoTime();
+        try (InputStream inputStream = getInputStream();
+             FileChannel fileChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ReadableByteChannel source = inputStream instanceof FileInputStream ?
+                    ((FileInputStream) inputStream).getChannel() : Channels.newChannel(inputStream);
+
+            // a blocking channel only transfers zero bytes when the end of the stream is reached
+            long position = 0;
+            long count;
+            while ((count = fileChannel.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+                position += count;
+            }
+            return target;
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Something went wrong while transferring bytes from InputStream to " + target + ".", ex);
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to delete incomplete file " + target + ".", e);
+            }
+            return null;
+        } finally {
+            Metrics.getRecorder().recordTiming("PathInputConverter", Phase.DECODE, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * An abstract InputConverter that reads the raw bytes from an InputStream without interpreting them. When the length
+ * of the content is known in advance, for instance from the <code>Content-Length</code> header of an HTTP response,
+ * the bytes are read in one pass into an array of exactly that size. The length of a file is detected automatically
+ * when the InputStream is a {@link FileInputStream}.
+ *
+ * @param <T> the type of the object that holds the raw bytes
+ */
+public abstract class RawInputConverter<T> extends InputStreamInputConverter<T> {
+
+    // the largest array size that can be allocated on most virtual machines
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private long contentLength = -1;
+
+    /**
+     * Returns the expected number of bytes that will be read from the InputStream.
+     *
+     * @return the expected length of the content, or -1 when it is unknown
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Sets the expected number of bytes that will be read from the InputStream. The length is only used to size the
+     * buffers that are read into: reading still continues until the end of the InputStream is reached.
+     *
+     * @param contentLength the expected length of the content, or -1 when it is unknown
+     */
+    public void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    /**
+     * Reads all the remaining bytes from the InputStream. The InputStream is not closed by this method.
+     *
+     * @return an array that contains all the bytes that were read
+     * @throws IOException when reading from the InputStream failed
+     */
+    protected byte[] readAllBytes() throws IOException {
+        return readAllBytes(getInputStream());
+    }
+
+    /**
+     * Reads all the remaining bytes from the specified InputStream. The InputStream is not closed by this method.
+     *
+     * @param inputStream the InputStream to read from
+     * @return an array that contains all the bytes that were read
+     * @throws IOException when reading from the InputStream failed
+     */
+    protected byte[] readAllBytes(InputStream inputStream) throws IOException {
+        long expected = contentLength;
+        if (inputStream instanceof FileInputStream) {
+            expected = ((FileInputStream) inputStream).getChannel().size() - ((FileInputStream) inputStream).getChannel().position();
+        }
+        if (expected < 0 || expected > MAX_ARRAY_SIZE) {
+            return inputStream.readAllBytes();
+        }
+
+        byte[] bytes = new byte[(int) expected];
+        int length = inputStream.readNBytes(bytes, 0, bytes.length);
+        if (length < bytes.length) {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        int next = inputStream.read();
+        if (next < 0) {
+            return bytes;
+        }
+
+        // the content is longer than expected, e.g. because it was compressed
+        byte[] remaining = inputStream.readAllBytes();
+        byte[] all = Arrays.copyOf(bytes, bytes.length + 1 + remaining.length);
+        all[bytes.length] = (byte) next;
+        System.arraycopy(remaining, 0, all, bytes.length + 1, remaining.length);
+        return all;
+    }
+}
@@ -26,21 +26,95 @@
  */
 package com.gluonhq.connect.converter;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.BufferPool;
+
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.StringWriter;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * An InputConverter that reads a string from an InputStream.
+ * An InputConverter that reads a string from an InputStream. The InputStream is read in bulk into a single buffer and
+ * decoded once, so the content is returned exactly as it was read, including its line endings. Content that fits in a
+ * buffer of the shared pool is read into a pooled buffer. Larger content is read into a buffer of exactly the
+ * {@link #setContentLength(long) content length} when it is known, or into a buffer that grows as needed.
+ *
+ * <p>The charset is detected from a byte order mark at the start of the InputStream. When there is none, the charset
+ * that was specified on the converter is used, which is typically taken from the <code>Content-Type</code> header of
+ * an HTTP response. UTF-8 is used when no charset was specified.</p>
  */
 public class StringInputConverter extends InputStreamInputConverter<String> {
 
     private static final Logger LOGGER = Logger.getLogger(StringInputConverter.class.getName());
 
+    // the largest array size that can be allocated on most virtual machines
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private Charset charset;
+    private long contentLength = -1;
+
+    /**
+     * Construct a new instance of a StringInputConverter that decodes the string as UTF-8, unless a byte order mark
+     * is found.
+     */
+    public StringInputConverter() {
+        this(null);
+    }
+
+    /**
+     * Construct a new instance of a StringInputConverter that decodes the string with the specified charset, unless
+     * a byte order mark is found.
+     *
+     * @param charset the charset to decode the string with, or <code>null</code> to use UTF-8
+     */
+    public StringInputConverter(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the charset that is used to decode the string when the InputStream does not start with a byte order
+     * mark.
+     *
+     * @return the charset to decode the string with, or <code>null</code> when UTF-8 is used
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Sets the charset that is used to decode the string when the InputStream does not start with a byte order mark.
+     *
+     * @param charset the charset to decode the string with, or <code>null</code> to use UTF-8
+     */
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the expected number of bytes that will be read from the InputStream.
+     *
+     * @return the expected length of the content, or -1 when it is unknown
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Sets the expected number of bytes that will be read from the InputStream, typically taken from the
+     * <code>Content-Length</code> header of an HTTP response. The length is only used to size the buffer that is
+     * read into: reading still continues until the end of the InputStream is reached.
+     *
+     * @param contentLength the expected length of the content, or -1 when it is unknown
+     */
+    public void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
+
     /**
      * Reads a string from an InputStream.
      *
@@ -48,24 +122,64 @@ public class StringInputConverter extends InputStreamInputConverter<String> {
      */
     @Override
     public String read() {
-        try (StringWriter stringWriter = new StringWriter()) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(getInputStream())); BufferedWriter writer = new BufferedWriter(stringWriter)) {
-                boolean firstWrite = true;
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (firstWrite) {
-                        firstWrite = false;
-                    } else {
-                        writer.newLine();
+        long start = System.nanoTime();
+        BufferPool pool = BufferPool.getShared();
+        byte[] pooled = null;
+        try (InputStream inputStream = getInputStream()) {
+            byte[] buffer;
+            if (contentLength > pool.getBufferSize() && contentLength <= MAX_ARRAY_SIZE) {
+                buffer = new byte[(int) contentLength];
+            } else {
+                buffer = pooled = pool.acquire();
+            }
+
+            int length = 0;
+            int count;
+            while ((count = inputStream.read(buffer, length, buffer.length - length)) != -1) {
+                length += count;
+                if (length == buffer.length) {
+                    int next = inputStream.read();
+                    if (next < 0) {
+                        break;
+                    }
+                    if (buffer.length == MAX_ARRAY_SIZE) {
+                        throw new IOException("The content is too large to be read into a string.");
                     }
-                    writer.write(line);
+                    // the content is longer than the buffer, so continue in a larger buffer on the heap
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(MAX_ARRAY_SIZE, buffer.length * 2L));
+                    buffer[length++] = (byte) next;
                 }
             }
-
-            return stringWriter.toString();
+            return decode(buffer, length);
         } catch (IOException ex) {
             LOGGER.log(Level.SEVERE, "Something went wrong while reading string from InputStream.", ex);
             return null;
+        } finally {
+            pool.release(pooled);
+            Metrics.getRecorder().recordTiming("StringInputConverter", Phase.DECODE, System.nanoTime() - start);
+        }
+    }
+
+    private String decode(byte[] buffer, int length) {
+        if (startsWith(buffer, length, 0xEF, 0xBB, 0xBF)) {
+            return new String(buffer, 3, length - 3, StandardCharsets.UTF_8);
+        } else if (startsWith(buffer, length, 0xFE, 0xFF)) {
+            return new String(buffer, 2, length - 2, StandardCharsets.UTF_16BE);
+        } else if (startsWith(buffer, length, 0xFF, 0xFE)) {
+            return new String(buffer, 2, length - 2, StandardCharsets.UTF_16LE);
+        }
+        return new String(buffer, 0, length, charset == null ? StandardCharsets.UTF_8 : charset);
+    }
+
+    private static boolean startsWith(byte[] buffer, int length, int... bom) {
+        if (length < bom.length) {
+            return false;
+        }
+        for (int i = 0; i < bom.length; i++) {
+            if ((buffer[i] & 0xFF) != bom[i]) {
+                return false;
+            }
         }
+        return true;
     }
 }
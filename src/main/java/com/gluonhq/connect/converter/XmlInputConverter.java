@@ -26,37 +26,36 @@
  */
 package com.gluonhq.connect.converter;
 
-import com.gluonhq.impl.connect.converter.ClassInspector;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.converter.XmlBinder;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Map;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
- * An InputConverter that converts a XML Object read from an InputStream into an object. 
+ * An InputConverter that converts a XML Object read from an InputStream into an object. The XML is read in a single
+ * streaming pass, so only the object that is being bound is kept in memory. Child elements and attributes are bound
+ * on the matching setters of the target class: primitives, primitive wrappers, Strings, BigDecimals, BigIntegers and
+ * enums are read from the text content, other types are bound as nested objects and List properties are filled with
+ * all the repeated child elements that have the same name.
  * 
  * @param <T> the type of the object to convert the XML Object into
  */
 public class XmlInputConverter<T> extends InputStreamInputConverter<T>  {
 
-    private Class<T> clazz;
-    private final ClassInspector<T> inspector;
-    private String tag;
+    private static final Logger LOGGER = Logger.getLogger(XmlInputConverter.class.getName());
+
+    private final Class<T> clazz;
+    private final String tag;
     
     /**
      * Construct a new instance of a XmlInputConverter that is able to convert the data read from the InputStream into
-     * objects of the specified <code>targetClass</code>.
+     * objects of the specified <code>targetClass</code>. The root element of the XML document is bound into the
+     * object.
      *
      * @param targetClass The class defining the objects being converted from XML.
      */
@@ -76,63 +75,28 @@ public class XmlInputConverter<T> extends InputStreamInputConverter<T>  {
      */
     public XmlInputConverter(Class<T> targetClass, String tag) {
         this.clazz = targetClass;
-        this.inspector = ClassInspector.resolve(targetClass);
         this.tag = tag;
     }
     
     @Override
     public T read() {
-        try {
-            DocumentBuilderFactory factory =
-                DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            InputStream is = getInputStream();
-            T answer = clazz.newInstance();
-            Document doc = builder.parse(is);
-            Node rootNode = doc.getDocumentElement();
-            if (tag != null) {
-                NodeList nodeList = doc.getElementsByTagName(tag);
-                if (nodeList.getLength() > 0) rootNode = nodeList.item(0);
-                parseDom (rootNode.getChildNodes(), answer);
-            }
-            return answer;
-        } catch (InstantiationException ex) {
-            Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (IllegalAccessException ex) {
-            Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (ParserConfigurationException ex) {
-            Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (SAXException ex) {
-            Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (IOException ex) {
-            Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-        }
-        return null;
-    }
-
-    private void parseDom(NodeList childNodes, T answer) {
-                    Map<String, Method> setters = this.inspector.getSetters();
-        Set<String> keySet = setters.keySet();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node item = childNodes.item(i);
-            if (keySet.contains(item.getNodeName())) {
-                try {
-                    Method setter = setters.get(item.getNodeName());
-                    Class<?> parameterType = setter.getParameterTypes()[0];
-                    if (parameterType.isAssignableFrom(String.class)) {
-                        setter.invoke(answer, item.getTextContent());
-                    }
-                } catch (IllegalAccessException ex) {
-                    Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-                } catch (IllegalArgumentException ex) {
-                    Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
-                } catch (InvocationTargetException ex) {
-                    Logger.getLogger(XmlInputConverter.class.getName()).log(Level.SEVERE, null, ex);
+        long start = System.nanoTime();
+        try (InputStream is = getInputStream()) {
+            XMLStreamReader reader = XmlBinder.createReader(is);
+            try {
+                if (!XmlBinder.nextStartElement(reader, tag)) {
+                    LOGGER.log(Level.WARNING, "No element found with tag " + tag);
+                    return null;
                 }
+                return XmlBinder.bind(reader, clazz);
+            } finally {
+                reader.close();
             }
+        } catch (IOException | XMLStreamException | ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.log(Level.SEVERE, null, ex);
+        } finally {
+            Metrics.getRecorder().recordTiming("XmlInputConverter", Phase.DECODE, System.nanoTime() - start);
         }
+        return null;
     }
-                    
-                    
-    
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.converter.XmlBinder;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IterableInputConverter that converts repeated XML elements read from an InputStream into an Iterator that can be
+ * used to iterate over a list of objects. The XML is read with a streaming parser and each element is only bound
+ * when the {@link #next()} method is called, so feeds with any number of elements can be read with constant memory.
+ *
+ * <p>By default, every child element of the root element is converted into an object. When a tag is specified, every
+ * element with that name is converted instead, regardless of where it is located in the document. The elements are
+ * bound in the same way as by the {@link XmlInputConverter}.</p>
+ *
+ * @param <E> the type of the object that the XML elements are converted into
+ */
+public class XmlIterableInputConverter<E> extends InputStreamIterableInputConverter<E> implements Iterator<E> {
+
+    private final Class<E> targetClass;
+    private final String tag;
+
+    private XMLStreamReader reader;
+    private boolean hasNext;
+    private int count;
+    private long decodeNanos;
+
+    /**
+     * Construct a new instance of a XmlIterableInputConverter that is able to convert the child elements of the root
+     * element into objects of the specified <code>targetClass</code>.
+     *
+     * @param targetClass The class defining the objects being converted from XML.
+     */
+    public XmlIterableInputConverter(Class<E> targetClass) {
+        this(targetClass, null);
+    }
+
+    /**
+     * Construct a new instance of a XmlIterableInputConverter that is able to convert all the elements with the
+     * specified <code>tag</code> into objects of the specified <code>targetClass</code>.
+     *
+     * @param targetClass The class defining the objects being converted from XML.
+     * @param tag the name of the repeated elements to convert, or <code>null</code> to convert the child elements of
+     *            the root element
+     */
+    public XmlIterableInputConverter(Class<E> targetClass, String tag) {
+        this.targetClass = targetClass;
+        this.tag = tag;
+    }
+
+    /**
+     * Returns <code>true</code> if the iteration has more elements, in this case if another matching XML element was
+     * found in the InputStream.
+     *
+     * @return <code>true</code> if there are more items available in the Iterator, <code>false</code> otherwise.
+     */
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Returns the next element in the iteration. In this case, it will be an object that is bound from the next
+     * matching XML element of the InputStream. A property of the element that can't be bound is skipped, so that
+     * a single malformed value doesn't abort the iteration. When the element itself can't be bound, the InputStream
+     * is closed before the exception is thrown.
+     *
+     * @return An object converted from the next matching XML element.
+     * @throws UncheckedIOException when the XML could not be read from the InputStream
+     */
+    @Override
+    public E next() {
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+
+        long start = System.nanoTime();
+        E element;
+        try {
+            element = XmlBinder.bind(reader, targetClass);
+        } catch (XMLStreamException ex) {
+            throw fail(ex);
+        } catch (ReflectiveOperationException ex) {
+            hasNext = false;
+            close();
+            throw new IllegalStateException("Failed to bind XML element into " + targetClass, ex);
+        } catch (RuntimeException ex) {
+            hasNext = false;
+            close();
+            throw ex;
+        }
+        count++;
+        decodeNanos += System.nanoTime() - start;
+
+        advance();
+        return element;
+    }
+
+    /**
+     * Returns an Iterator that loops over the XML elements that are read from the InputStream. This implementation
+     * returns itself as the Iterator.
+     *
+     * @return An Iterator that can be used to loop over the objects that are contained in the XML elements of the
+     * InputStream.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        count = 0;
+        decodeNanos = 0;
+        try {
+            reader = XmlBinder.createReader(getInputStream());
+            // move inside the root element, so that the first child element can be found
+            hasNext = tag != null || XmlBinder.nextStartElement(reader, null);
+        } catch (XMLStreamException ex) {
+            throw fail(ex);
+        }
+        if (hasNext) {
+            advance();
+        } else {
+            finish();
+        }
+        return this;
+    }
+
+    private void advance() {
+        try {
+            hasNext = tag != null ? XmlBinder.nextStartElement(reader, tag) : nextChildElement();
+        } catch (XMLStreamException ex) {
+            throw fail(ex);
+        }
+
+        if (!hasNext) {
+            finish();
+        }
+    }
+
+    private boolean nextChildElement() throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                // end of the root element
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void finish() {
+        close();
+        Metrics.getRecorder().recordTiming("XmlIterableInputConverter", Phase.DECODE, decodeNanos);
+        Metrics.getRecorder().recordElements("XmlIterableInputConverter", count);
+    }
+
+    private UncheckedIOException fail(XMLStreamException ex) {
+        hasNext = false;
+        close();
+        return new UncheckedIOException("Failed to read the next XML element.", new IOException(ex));
+    }
+
+    private void close() {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+            getInputStream().close();
+        } catch (XMLStreamException | IOException ex) {
+            // nothing left to read
+        }
+    }
+}
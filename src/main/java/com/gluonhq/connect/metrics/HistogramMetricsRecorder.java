@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsRecorder} that keeps all measurements in memory. Timings are aggregated per operation and phase
+ * into a {@link Histogram} with exponentially growing buckets, so that recording a timing does not allocate memory.
+ * The recorded values can be retrieved at any time, or logged as a whole by using {@link #toString()}:
+ *
+ * <pre>
+ *     HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+ *     Metrics.setRecorder(recorder);
+ *     ...
+ *     Histogram download = recorder.getHistogram("RestDataSource.GET", Phase.DOWNLOAD);
+ *     System.out.println("p95 download time: " + download.getPercentile(0.95) + " ns");
+ * </pre>
+ */
+public class HistogramMetricsRecorder implements MetricsRecorder {
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> bytes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> elements = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> poolHits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> poolMisses = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    @Override
+    public void recordTiming(String operation, Phase phase, long nanos) {
+        histograms.computeIfAbsent(key(operation, phase), k -> new Histogram()).record(nanos);
+    }
+
+    @Override
+    public void recordBytes(String operation, long bytes) {
+        this.bytes.computeIfAbsent(operation, k -> new LongAdder()).add(bytes);
+    }
+
+    @Override
+    public void recordElements(String operation, long count) {
+        elements.computeIfAbsent(operation, k -> new LongAdder()).add(count);
+    }
+
+    @Override
+    public void recordRetry(String operation) {
+        retries.computeIfAbsent(operation, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordBufferPool(String pool, boolean hit) {
+        (hit ? poolHits : poolMisses).computeIfAbsent(pool, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordQueueDepth(int depth) {
+        queueDepth.set(depth);
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    /**
+     * Returns the histogram with the timings of the specified phase of an operation.
+     *
+     * @param operation the name of the operation
+     * @param phase the phase of the operation
+     * @return the histogram with the recorded timings, or <code>null</code> if no timing was recorded yet
+     */
+    public Histogram getHistogram(String operation, Phase phase) {
+        return histograms.get(key(operation, phase));
+    }
+
+    /**
+     * Returns the total number of bytes that were transferred by the specified operation.
+     *
+     * @param operation the name of the operation
+     * @return the total number of bytes
+     */
+    public long getBytes(String operation) {
+        return sum(bytes.get(operation));
+    }
+
+    /**
+     * Returns the total number of elements that were read or written by the specified operation.
+     *
+     * @param operation the name of the operation
+     * @return the total number of elements
+     */
+    public long getElements(String operation) {
+        return sum(elements.get(operation));
+    }
+
+    /**
+     * Returns the number of times the specified operation was retried.
+     *
+     * @param operation the name of the operation
+     * @return the number of retries
+     */
+    public long getRetries(String operation) {
+        return sum(retries.get(operation));
+    }
+
+    /**
+     * Returns the number of times a buffer was reused from the specified buffer pool.
+     *
+     * @param pool the name of the buffer pool
+     * @return the number of pool hits
+     */
+    public long getBufferPoolHits(String pool) {
+        return sum(poolHits.get(pool));
+    }
+
+    /**
+     * Returns the number of times a new buffer had to be allocated because the specified buffer pool was empty.
+     *
+     * @param pool the name of the buffer pool
+     * @return the number of pool misses
+     */
+    public long getBufferPoolMisses(String pool) {
+        return sum(poolMisses.get(pool));
+    }
+
+    /**
+     * Returns the most recently recorded number of tasks waiting in the queue of the DataProvider.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the highest number of tasks that were waiting in the queue of the DataProvider.
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Discards all recorded measurements.
+     */
+    public void reset() {
+        histograms.clear();
+        bytes.clear();
+        elements.clear();
+        retries.clear();
+        poolHits.clear();
+        poolMisses.clear();
+        queueDepth.set(0);
+        maxQueueDepth.set(0);
+    }
+
+    /**
+     * Returns a summary of all recorded measurements, with one line per operation and phase.
+     *
+     * @return a summary of all recorded measurements
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("HistogramMetricsRecorder{maxQueueDepth=").append(getMaxQueueDepth());
+        new TreeMap<>(histograms).forEach((key, histogram) -> builder.append("\n\t").append(key).append(": ").append(histogram));
+        new TreeMap<>(bytes).forEach((key, value) -> builder.append("\n\t").append(key).append(" bytes: ").append(value.sum()));
+        new TreeMap<>(elements).forEach((key, value) -> builder.append("\n\t").append(key).append(" elements: ").append(value.sum()));
+        new TreeMap<>(retries).forEach((key, value) -> builder.append("\n\t").append(key).append(" retries: ").append(value.sum()));
+        new TreeMap<>(poolHits).forEach((key, value) -> builder.append("\n\t").append(key).append(" hits: ").append(value.sum()));
+        new TreeMap<>(poolMisses).forEach((key, value) -> builder.append("\n\t").append(key).append(" misses: ").append(value.sum()));
+        return builder.append("\n}").toString();
+    }
+
+    private static String key(String operation, Phase phase) {
+        return operation + "/" + phase;
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * A histogram of timings in nanoseconds. Each bucket holds the values between two consecutive powers of two, which
+     * means that percentiles are reported with a precision of a factor two.
+     */
+    public static final class Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        void record(long nanos) {
+            long value = Math.max(0, nanos);
+            buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+            count.increment();
+            sum.add(value);
+            min.accumulateAndGet(value, Math::min);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        /**
+         * Returns the number of recorded values.
+         *
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Returns the sum of all recorded values.
+         *
+         * @return the sum of all recorded values, in nanoseconds
+         */
+        public long getSum() {
+            return sum.sum();
+        }
+
+        /**
+         * Returns the smallest recorded value.
+         *
+         * @return the smallest recorded value in nanoseconds, or 0 if no value was recorded
+         */
+        public long getMin() {
+            return getCount() == 0 ? 0 : min.get();
+        }
+
+        /**
+         * Returns the largest recorded value.
+         *
+         * @return the largest recorded value in nanoseconds, or 0 if no value was recorded
+         */
+        public long getMax() {
+            return getCount() == 0 ? 0 : max.get();
+        }
+
+        /**
+         * Returns the average of all recorded values.
+         *
+         * @return the average of all recorded values in nanoseconds, or 0 if no value was recorded
+         */
+        public double getMean() {
+            long c = getCount();
+            return c == 0 ? 0 : (double) getSum() / c;
+        }
+
+        /**
+         * Returns an estimate of the specified percentile. The estimate is the upper bound of the bucket that contains
+         * the percentile, limited by the largest recorded value.
+         *
+         * @param percentile the percentile to return, between 0 and 1, e.g. 0.99
+         * @return the estimated percentile in nanoseconds, or 0 if no value was recorded
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 1, but was " + percentile);
+            }
+
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                total += buckets.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long threshold = Math.max(1, (long) Math.ceil(percentile * total));
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= threshold) {
+                    long upperBound = i == 0 ? 0 : (i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+                    return Math.max(getMin(), Math.min(upperBound, getMax()));
+                }
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() +
+                    ", mean=" + (long) getMean() +
+                    ", p50=" + getPercentile(0.5) +
+                    ", p95=" + getPercentile(0.95) +
+                    ", p99=" + getPercentile(0.99) +
+                    ", max=" + getMax();
+        }
+    }
+}
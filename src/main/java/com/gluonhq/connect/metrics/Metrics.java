@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.metrics;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides access to the {@link MetricsRecorder} that receives all measurements. When no recorder was set, the first
+ * implementation that is found with the {@link ServiceLoader} is used. If no implementation is found, measurements
+ * are discarded.
+ */
+public final class Metrics {
+
+    private static final Logger LOG = Logger.getLogger(Metrics.class.getName());
+
+    private static final MetricsRecorder NO_OP = new MetricsRecorder() {};
+
+    private static volatile MetricsRecorder recorder;
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the recorder that receives all measurements.
+     *
+     * @return the current metrics recorder, never <code>null</code>
+     */
+    public static MetricsRecorder getRecorder() {
+        MetricsRecorder result = recorder;
+        if (result == null) {
+            synchronized (Metrics.class) {
+                result = recorder;
+                if (result == null) {
+                    result = loadRecorder();
+                    recorder = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the recorder that receives all measurements.
+     *
+     * @param recorder the metrics recorder to use, or <code>null</code> to discard all measurements
+     */
+    public static void setRecorder(MetricsRecorder recorder) {
+        Metrics.recorder = recorder == null ? NO_OP : recorder;
+    }
+
+    /**
+     * Returns whether measurements are currently being recorded.
+     *
+     * @return false if all measurements are discarded
+     */
+    public static boolean isEnabled() {
+        return getRecorder() != NO_OP;
+    }
+
+    private static MetricsRecorder loadRecorder() {
+        try {
+            Iterator<MetricsRecorder> iterator = ServiceLoader.load(MetricsRecorder.class).iterator();
+            if (iterator.hasNext()) {
+                MetricsRecorder service = Objects.requireNonNull(iterator.next());
+                LOG.log(Level.FINE, "Using metrics recorder " + service.getClass().getName());
+                return service;
+            }
+        } catch (RuntimeException | Error ex) {
+            LOG.log(Level.WARNING, "Failed to load metrics recorder.", ex);
+        }
+        return NO_OP;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.metrics;
+
+/**
+ * A MetricsRecorder receives the measurements that are taken by the {@link com.gluonhq.connect.provider.DataProvider},
+ * the {@link com.gluonhq.connect.source.RestDataSource} and the converters. Each measurement belongs to an operation,
+ * which is a short name like <code>DataProvider.retrieveList</code> or <code>RestDataSource.GET</code>.
+ *
+ * <p>The recorder that is used can be set with {@link Metrics#setRecorder(MetricsRecorder)}. Alternatively, an
+ * implementation can be provided as a service that will be discovered with the {@link java.util.ServiceLoader}. All
+ * methods have an empty default implementation and can be called concurrently from multiple threads, so
+ * implementations must be thread safe and return quickly.</p>
+ *
+ * @see HistogramMetricsRecorder
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records the time that was spent in a phase of the specified operation.
+     *
+     * @param operation the name of the operation
+     * @param phase the phase of the operation
+     * @param nanos the time that was spent in the phase, in nanoseconds
+     */
+    default void recordTiming(String operation, Phase phase, long nanos) {
+    }
+
+    /**
+     * Records the number of bytes that were transferred by the specified operation.
+     *
+     * @param operation the name of the operation
+     * @param bytes the number of bytes that were transferred
+     */
+    default void recordBytes(String operation, long bytes) {
+    }
+
+    /**
+     * Records the number of elements that were read or written by the specified operation.
+     *
+     * @param operation the name of the operation
+     * @param count the number of elements
+     */
+    default void recordElements(String operation, long count) {
+    }
+
+    /**
+     * Records that the specified operation is retried.
+     *
+     * @param operation the name of the operation
+     */
+    default void recordRetry(String operation) {
+    }
+
+    /**
+     * Records the number of tasks that are waiting in the queue of the DataProvider.
+     *
+     * @param depth the number of tasks that are waiting to be run
+     */
+    default void recordQueueDepth(int depth) {
+    }
+
+    /**
+     * Records that a buffer was taken from the specified buffer pool. A miss means that the pool was empty and a new
+     * buffer had to be allocated.
+     *
+     * @param pool the name of the buffer pool
+     * @param hit true if a pooled buffer was reused, false if a new buffer was allocated
+     */
+    default void recordBufferPool(String pool, boolean hit) {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.metrics;
+
+/**
+ * The phases of an operation for which a timing can be recorded by a {@link MetricsRecorder}.
+ */
+public enum Phase {
+
+    /**
+     * The time a task waited in the queue of the DataProvider before it started running.
+     */
+    QUEUE,
+
+    /**
+     * The time a task of the DataProvider was running in its background thread.
+     */
+    EXECUTE,
+
+    /**
+     * The time it took to establish a connection and send the request.
+     */
+    CONNECT,
+
+    /**
+     * The time between sending the request and receiving the response headers.
+     */
+    FIRST_BYTE,
+
+    /**
+     * The time between receiving the response headers and reading the last byte of the response body.
+     */
+    DOWNLOAD,
+
+    /**
+     * The time a converter spent converting data into objects. When the converter reads directly from a network
+     * stream, this includes the time that was spent waiting for the data to arrive.
+     */
+    DECODE,
+
+    /**
+     * The time between posting the result of a task to the JavaFX Application Thread and applying it.
+     */
+    DELIVERY
+}
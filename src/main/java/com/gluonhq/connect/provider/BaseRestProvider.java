@@ -26,8 +26,12 @@
  */
 package com.gluonhq.connect.provider;
 
+import com.gluonhq.connect.MultiValuedMap;
 import com.gluonhq.connect.source.RestDataSource;
 
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -37,15 +41,22 @@ public class BaseRestProvider {
 
     private static final Logger LOG = Logger.getLogger(BaseRestProvider.class.getName());
 
+    private static final String RESPONSE_HEADER_CONTENT_ENCODING = "Content-Encoding";
+    private static final String RESPONSE_HEADER_CONTENT_LENGTH = "Content-Length";
     private static final String RESPONSE_HEADER_CONTENT_TYPE = "Content-Type";
 
     protected static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
+    protected static final String CONTENT_TYPE_APPLICATION_NDJSON = "application/x-ndjson";
+    protected static final String CONTENT_TYPE_APPLICATION_XML = "application/xml";
     protected static final String CONTENT_TYPE_TEXT_PLAIN = "text/plain";
+    protected static final String CONTENT_TYPE_TEXT_XML = "text/xml";
 
     protected final RestDataSource dataSource;
+    private final MultiValuedMap<String, String> queryParams;
 
     public BaseRestProvider(RestDataSource dataSource) {
         this.dataSource = dataSource;
+        this.queryParams = dataSource.getQueryParams();
     }
 
     /**
@@ -65,18 +76,102 @@ public class BaseRestProvider {
      * @return the Content-Type response header or <code>null</code> if the response header is not provided
      */
     String getContentType() {
-        String contentType = null;
+        String contentType = getResponseHeader(RESPONSE_HEADER_CONTENT_TYPE);
 
-        Map<String, List<String>> responseHeaders = dataSource.getResponseHeaders();
-        if (responseHeaders.containsKey(RESPONSE_HEADER_CONTENT_TYPE)) {
-            List<String> contentTypes = responseHeaders.get(RESPONSE_HEADER_CONTENT_TYPE);
-            if (! contentTypes.isEmpty()) {
-                contentType = contentTypes.get(0);
+        LOG.log(Level.FINE, "Detected Content-Type from response headers: " + contentType);
+
+        return contentType;
+    }
+
+    /**
+     * Returns the charset that is specified with the <code>charset</code> parameter of the Content-Type response header
+     * from the rest data source. Note that the method {@link RestDataSource#getInputStream()} should already be called
+     * before calling this method.
+     *
+     * @return the charset of the response or <code>null</code> if it is not provided or not supported
+     */
+    Charset getContentCharset() {
+        String contentType = getResponseHeader(RESPONSE_HEADER_CONTENT_TYPE);
+        if (contentType == null) {
+            return null;
+        }
+
+        for (String parameter : contentType.split(";")) {
+            int index = parameter.indexOf('=');
+            if (index > 0 && parameter.substring(0, index).trim().equalsIgnoreCase("charset")) {
+                String name = parameter.substring(index + 1).trim().replace("\"", "");
+                try {
+                    return Charset.forName(name);
+                } catch (IllegalCharsetNameException | UnsupportedCharsetException ex) {
+                    LOG.log(Level.FINE, "Ignoring unsupported charset in Content-Type: " + contentType);
+                    return null;
+                }
             }
         }
+        return null;
+    }
 
-        LOG.log(Level.FINE, "Detected Content-Type from response headers: " + contentType);
+    /**
+     * Returns the length of the response body as specified by the Content-Length response header from the rest data
+     * source. The length is not returned when the body is encoded, as it will not match the length of the decoded
+     * body. Note that the method {@link RestDataSource#getInputStream()} should already be called before calling this
+     * method.
+     *
+     * @return the length of the response body or -1 if it is not known
+     */
+    long getContentLength() {
+        String contentLength = getResponseHeader(RESPONSE_HEADER_CONTENT_LENGTH);
+        if (contentLength == null || getResponseHeader(RESPONSE_HEADER_CONTENT_ENCODING) != null) {
+            return -1;
+        }
 
-        return contentType;
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException ex) {
+            LOG.log(Level.FINE, "Ignoring invalid Content-Length: " + contentLength);
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the first value of the specified response header from the rest data source, ignoring the case of the
+     * header name. Note that the method {@link RestDataSource#getInputStream()} should already be called before calling
+     * this method.
+     *
+     * @param name the name of the response header
+     * @return the first value of the response header or <code>null</code> if the response header is not provided
+     */
+    String getResponseHeader(String name) {
+        Map<String, List<String>> responseHeaders = dataSource.getResponseHeaders();
+        if (responseHeaders == null) {
+            return null;
+        }
+
+        List<String> values = responseHeaders.get(name);
+        if (values == null) {
+            for (Map.Entry<String, List<String>> entry : responseHeaders.entrySet()) {
+                if (name.equalsIgnoreCase(entry.getKey())) {
+                    values = entry.getValue();
+                    break;
+                }
+            }
+        }
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Replaces the query parameters of the rest data source with a copy, so that query parameters can be added for
+     * a single request without modifying the ones that are shared with the {@link RestClient}. The copy is always
+     * made from the query parameters that the rest data source had when this provider was created, so that the
+     * parameters that were added for a previous request are not sent again.
+     */
+    void copyQueryParams() {
+        MultiValuedMap<String, String> copy = new MultiValuedMap<>();
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+            for (String value : entry.getValue()) {
+                copy.putSingle(entry.getKey(), value);
+            }
+        }
+        dataSource.setQueryParams(copy);
     }
 }
@@ -27,18 +27,41 @@
 package com.gluonhq.connect.provider;
 
 import com.gluonhq.connect.ConnectState;
+import com.gluonhq.connect.GluonObservable;
 import com.gluonhq.connect.GluonObservableList;
 import com.gluonhq.connect.GluonObservableObject;
+import com.gluonhq.connect.GluonObservablePagedList;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.MetricsRecorder;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.CallSite;
+import com.gluonhq.impl.connect.GluonObservableObjectHelper;
+import com.gluonhq.impl.connect.ListDiff;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,24 +70,44 @@ import java.util.logging.Logger;
  * {@link GluonObservableList}. All operations on the DataProvider happen in an asynchronous background thread. You can
  * use the properties on the {@link com.gluonhq.connect.GluonObservable} entity to get information about the progress
  * of the operation.
+ *
+ * <p>Operations are run by a fixed number of threads. When all threads are busy, waiting operations are started in
+ * order of their {@link Priority}. An operation that is waiting or running can be aborted with
+ * {@link GluonObservable#cancel()}.</p>
  */
 public class DataProvider {
 
     private static final Logger LOG = Logger.getLogger(DataProvider.class.getName());
 
     private static final AtomicInteger THREAD_NUMBER = new AtomicInteger(0);
-    private static ExecutorService executorService = Executors.newFixedThreadPool(5, runnable -> {
+    private static final AtomicInteger STREAM_THREAD_NUMBER = new AtomicInteger(0);
+    private static final AtomicInteger QUEUE_DEPTH = new AtomicInteger(0);
+    private static final AtomicLong TASK_SEQUENCE = new AtomicLong(0);
+    private static final Map<GluonObservable, List<ProviderTask>> TASKS = new IdentityHashMap<>();
+    private static final ThreadLocal<ProviderTask> CURRENT_TASK = new ThreadLocal<>();
+    private static final Object NOT_READ = new Object();
+    private static ThreadPoolExecutor executorService = new ThreadPoolExecutor(5, 5, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(), runnable -> {
         Thread thread = Executors.defaultThreadFactory().newThread(runnable);
         thread.setName("DataProviderThread-" + THREAD_NUMBER.getAndIncrement());
         thread.setDaemon(true);
         return thread;
     });
+    private static ThreadPoolExecutor streamExecutorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), runnable -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName("DataProviderStream-" + STREAM_THREAD_NUMBER.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Writes the object by using the specified ObjectDataWriter. A GluonObservableObject is returned,
      * that will contain the written version of the provided object when the write operation completed
      * successfully.
      *
+     * <p>The operation is scheduled with {@link Priority#INTERACTIVE interactive} priority.</p>
+     *
      * @param object the object to store
      * @param writer the writer to use for storing the object
      * @param <T> the type of the object to store
@@ -72,32 +115,47 @@ public class DataProvider {
      * successful completion of the write operation
      */
     public static <T> GluonObservableObject<T> storeObject(T object, ObjectDataWriter<T> writer) {
+        return storeObject(object, writer, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Same as {@link #storeObject(Object, ObjectDataWriter)}, but the operation is scheduled with the specified
+     * priority.
+     *
+     * @param object the object to store
+     * @param writer the writer to use for storing the object
+     * @param priority the priority with which the operation is scheduled
+     * @param <T> the type of the object to store
+     * @return an instance of GluonObservableObject that will hold the written version of the provided object upon
+     * successful completion of the write operation
+     */
+    public static <T> GluonObservableObject<T> storeObject(T object, ObjectDataWriter<T> writer, Priority priority) {
         GluonObservableObject<T> observable = writer.newGluonObservableObject();
 
-        final StackTraceElement[] callingStack = LOG.isLoggable(Level.FINE) ? Thread.currentThread().getStackTrace() : null;
-        executorService.execute(() -> {
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        execute("DataProvider.storeObject", priority, observable, writer, () -> observable.setState(ConnectState.CANCELLED), () -> {
             try {
                 Optional<T> toSet = writer.writeObject(object);
 
                 if (!observable.isInitialized()) {
-                    Platform.runLater(() -> {
+                    deliver("DataProvider.storeObject", observable, () -> {
                         observable.set(toSet.orElse(object));
                         ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
                         observable.setState(ConnectState.SUCCEEDED);
                     });
                 } else {
-                    Platform.runLater(() -> {
+                    deliver("DataProvider.storeObject", observable, () -> {
                         observable.set(toSet.orElse(object));
                         observable.setState(ConnectState.SUCCEEDED);
                     });
                 }
             } catch (CancellationException ex) {
-                Platform.runLater(() -> {
+                runLater(observable, () -> {
                     observable.setState(ConnectState.CANCELLED);
                 });
             } catch (Exception ex) {
-                Platform.runLater(() -> {
-                    observable.setException(callingStack != null ? DataProvider.generateFullException(callingStack, ex) : ex);
+                runLater(observable, () -> {
+                    observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
                     observable.setState(ConnectState.FAILED);
                 });
             }
@@ -109,40 +167,98 @@ public class DataProvider {
      * Retrieves an object using the specified ObjectDataReader. A GluonObservableObject is returned,
      * that will contain the object when the read operation completed successfully.
      *
+     * <p>The operation is scheduled with {@link Priority#INTERACTIVE interactive} priority.</p>
+     *
      * @param reader the reader to use for retrieving the object
      * @param <T> the type of the object to retrieve
      * @return an instance of GluonObservableObject that will hold the retrieved object upon successful completion
      * of the read operation
      */
     public static <T> GluonObservableObject<T> retrieveObject(ObjectDataReader<T> reader) {
+        return retrieveObject(reader, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Same as {@link #retrieveObject(ObjectDataReader)}, but the operation is scheduled with the specified priority.
+     *
+     * @param reader the reader to use for retrieving the object
+     * @param priority the priority with which the operation is scheduled
+     * @param <T> the type of the object to retrieve
+     * @return an instance of GluonObservableObject that will hold the retrieved object upon successful completion
+     * of the read operation
+     */
+    public static <T> GluonObservableObject<T> retrieveObject(ObjectDataReader<T> reader, Priority priority) {
         GluonObservableObject<T> observable = reader.newGluonObservableObject();
+        return readObject("DataProvider.retrieveObject", observable, reader, priority);
+    }
+
+    /**
+     * Refreshes the provided GluonObservableObject with the object that is read using the specified ObjectDataReader.
+     * The {@link ObjectDataReader#newGluonObservableObject()} method of the reader is not called. When the observable
+     * is refreshed at a high rate, consider making it {@link GluonObservableObject#setConflating(boolean) conflating},
+     * so that only the latest read object is applied.
+     *
+     * <p>The reader is read once. Readers like the ones that are created by a {@link RestClient} can't be read again,
+     * so a new reader must be passed each time the observable is refreshed:</p>
+     *
+     * <pre>
+     *     DataProvider.refreshObject(weather, restClient.createObjectDataReader(Weather.class));
+     * </pre>
+     *
+     * <p>The operation is scheduled with {@link Priority#INTERACTIVE interactive} priority.</p>
+     *
+     * @param observable the observable to refresh
+     * @param reader the reader to use for retrieving the object
+     * @param <T> the type of the object to retrieve
+     * @return the provided GluonObservableObject
+     */
+    public static <T> GluonObservableObject<T> refreshObject(GluonObservableObject<T> observable, ObjectDataReader<T> reader) {
+        return refreshObject(observable, reader, Priority.INTERACTIVE);
+    }
 
+    /**
+     * Same as {@link #refreshObject(GluonObservableObject, ObjectDataReader)}, but the operation is scheduled with the
+     * specified priority.
+     *
+     * @param observable the observable to refresh
+     * @param reader the reader to use for retrieving the object
+     * @param priority the priority with which the operation is scheduled
+     * @param <T> the type of the object to retrieve
+     * @return the provided GluonObservableObject
+     */
+    public static <T> GluonObservableObject<T> refreshObject(GluonObservableObject<T> observable, ObjectDataReader<T> reader,
+                                                             Priority priority) {
+        return readObject("DataProvider.refreshObject", observable, reader, priority);
+    }
+
+    private static <T> GluonObservableObject<T> readObject(String operation, GluonObservableObject<T> observable,
+                                                           ObjectDataReader<T> reader, Priority priority) {
         Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
 
-        final StackTraceElement[] callingStack = LOG.isLoggable(Level.FINE) ? Thread.currentThread().getStackTrace() : null;
-        executorService.execute(() -> {
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        execute(operation, priority, observable, reader, () -> observable.setState(ConnectState.CANCELLED), () -> {
             try {
                 T t = reader.readObject();
 
                 if (!observable.isInitialized()) {
-                    Platform.runLater(() -> {
+                    deliver(operation, observable, () -> {
                         observable.set(t);
                         ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
                         observable.setState(ConnectState.SUCCEEDED);
                     });
                 } else {
-                    Platform.runLater(() -> {
+                    deliver(operation, observable, () -> {
                         observable.set(t);
                         observable.setState(ConnectState.SUCCEEDED);
                     });
                 }
             } catch (CancellationException ex) {
-                Platform.runLater(() -> {
+                runLater(observable, () -> {
                     observable.setState(ConnectState.CANCELLED);
                 });
             } catch (Exception ex) {
-                Platform.runLater(() -> {
-                    observable.setException(callingStack != null ? DataProvider.generateFullException(callingStack, ex) : ex);
+                runLater(observable, () -> {
+                    observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
                     observable.setState(ConnectState.FAILED);
                 });
             }
@@ -155,30 +271,45 @@ public class DataProvider {
      * observable will be updated to {@link ConnectState#REMOVED} and the contained object will be set to
      * <code>null</code> when the remove operation completed successfully.
      *
+     * <p>The operation is scheduled with {@link Priority#INTERACTIVE interactive} priority.</p>
+     *
      * @param observable the observable to remove
      * @param remover the remover to use for removing the object
      * @param <T> the type of the object that is contained in the GluonObservableObject
      */
     public static <T> void removeObject(GluonObservableObject<T> observable, ObjectDataRemover<T> remover) {
+        removeObject(observable, remover, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Same as {@link #removeObject(GluonObservableObject, ObjectDataRemover)}, but the operation is scheduled with the
+     * specified priority.
+     *
+     * @param observable the observable to remove
+     * @param remover the remover to use for removing the object
+     * @param priority the priority with which the operation is scheduled
+     * @param <T> the type of the object that is contained in the GluonObservableObject
+     */
+    public static <T> void removeObject(GluonObservableObject<T> observable, ObjectDataRemover<T> remover, Priority priority) {
         Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
 
-        final StackTraceElement[] callingStack = LOG.isLoggable(Level.FINE) ? Thread.currentThread().getStackTrace() : null;
-        executorService.execute(() -> {
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        execute("DataProvider.removeObject", priority, observable, remover, () -> observable.setState(ConnectState.CANCELLED), () -> {
             try {
                 Optional<T> t = remover.removeObject(observable);
 
-                Platform.runLater(() -> {
+                deliver("DataProvider.removeObject", observable, () -> {
                     observable.set(t.orElse(null));
                     ((SimpleObjectProperty<Throwable>) observable.exceptionProperty()).set(null);
                     observable.setState(ConnectState.REMOVED);
                 });
             } catch (CancellationException ex) {
-                Platform.runLater(() -> {
+                runLater(observable, () -> {
                     observable.setState(ConnectState.CANCELLED);
                 });
             } catch (Exception ex) {
-                Platform.runLater(() -> {
-                    observable.setException(callingStack != null ? DataProvider.generateFullException(callingStack, ex) : ex);
+                runLater(observable, () -> {
+                    observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
                     observable.setState(ConnectState.FAILED);
                 });
             }
@@ -190,43 +321,173 @@ public class DataProvider {
      * that exist in the list. The returned list can be used immediately: you can manipulate its items or assign it to
      * a JavaFX ListView for instance.
      *
+     * <p>The operation is scheduled with {@link Priority#INTERACTIVE interactive} priority.</p>
+     *
      * @param reader the reader to use for retrieving the list
      * @param <E> the type of the objects inside the list
      * @return an instance of GluonObservableList that will hold the items contained in the list upon successful
      * completion of the read operation
      */
     public static <E> GluonObservableList<E> retrieveList(ListDataReader<E> reader) {
+        return retrieveList(reader, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Same as {@link #retrieveList(ListDataReader)}, but the operation is scheduled with the specified priority.
+     *
+     * @param reader the reader to use for retrieving the list
+     * @param priority the priority with which the operation is scheduled
+     * @param <E> the type of the objects inside the list
+     * @return an instance of GluonObservableList that will hold the items contained in the list upon successful
+     * completion of the read operation
+     */
+    public static <E> GluonObservableList<E> retrieveList(ListDataReader<E> reader, Priority priority) {
         GluonObservableList<E> observable = reader.newGluonObservableList();
 
         Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
 
-        final StackTraceElement[] callingStack = LOG.isLoggable(Level.FINE) ? Thread.currentThread().getStackTrace() : null;
-        executorService.execute(() -> {
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        execute("DataProvider.retrieveList", priority, observable, reader, () -> observable.setState(ConnectState.CANCELLED), () -> {
             try {
+                long count = 0;
                 for (Iterator<E> it = reader.iterator(); it.hasNext();) {
                     E e = it.next();
                     if (e != null) {
-                        Platform.runLater(() -> observable.add(e));
+                        runLater(observable, () -> observable.add(e));
+                        count++;
                     }
                 }
+                Metrics.getRecorder().recordElements("DataProvider.retrieveList", count);
 
                 if (!observable.isInitialized()) {
-                    Platform.runLater(() -> {
+                    deliver("DataProvider.retrieveList", observable, () -> {
                         ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
                         observable.setState(ConnectState.SUCCEEDED);
                     });
                 } else {
-                    Platform.runLater(() -> {
+                    deliver("DataProvider.retrieveList", observable, () -> {
                         observable.setState(ConnectState.SUCCEEDED);
                     });
                 }
             } catch (CancellationException ex) {
-                Platform.runLater(() -> {
+                runLater(observable, () -> {
+                    observable.setState(ConnectState.CANCELLED);
+                });
+            } catch (Exception ex) {
+                runLater(observable, () -> {
+                    observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
+                    observable.setState(ConnectState.FAILED);
+                });
+            }
+        });
+        return observable;
+    }
+
+    /**
+     * Retrieves a very large list page by page using the specified PageLoader. A GluonObservablePagedList is
+     * returned, which only loads the pages that are actually accessed. The pages are loaded with the same threads
+     * that are used by the other DataProvider methods. At most <code>maxCachedPages</code> pages are kept in memory,
+     * the least recently accessed page is evicted first.
+     *
+     * <p>{@link GluonObservable#cancel() Cancelling} the list removes the pages that are waiting to be loaded and
+     * closes the HTTP connections of the pages that a {@link RestPageLoader} is loading. The list then stays in the
+     * {@link ConnectState#CANCELLED} state and doesn't load any more pages. A new paged list must be retrieved to
+     * load the pages again.</p>
+     *
+     * @param pageLoader the page loader to use for loading the pages of the list
+     * @param pageSize the number of objects in a single page
+     * @param maxCachedPages the maximum number of pages that are kept in memory
+     * @param <E> the type of the objects inside the list
+     * @return an instance of GluonObservablePagedList that will hold the total number of objects in the list upon
+     * successful completion of loading the first page
+     */
+    public static <E> GluonObservablePagedList<E> retrievePagedList(PageLoader<E> pageLoader, int pageSize, int maxCachedPages) {
+        // the pages are loaded with the observable as owner, so that cancelling it cancels all the pending pages
+        AtomicReference<GluonObservablePagedList<E>> owner = new AtomicReference<>();
+        GluonObservablePagedList<E> observable = new GluonObservablePagedList<>(pageLoader, pageSize, maxCachedPages,
+                task -> execute("DataProvider.retrievePagedList", Priority.INTERACTIVE, owner.get(), pageLoader,
+                        () -> owner.get().setState(ConnectState.CANCELLED), task));
+        owner.set(observable);
+
+        Platform.runLater(observable::refresh);
+
+        return observable;
+    }
+
+    /**
+     * Refreshes the provided GluonObservableList with the items that are read using the specified ListDataReader.
+     * Instead of clearing the list and adding all the items again, the read items are compared with the items that
+     * are already in the list. Items are matched by the key that is returned by the <code>keyExtractor</code>. Only
+     * the differences are applied to the list on the JavaFX Application Thread: items with a new key are added, items
+     * whose key was not read anymore are removed and matched items that are not {@link Object#equals(Object) equal}
+     * are replaced in place. Controls that are bound to the list will therefore only be notified about the items that
+     * actually changed.
+     *
+     * <p>The keys returned by the key extractor must be unique within the list. The
+     * {@link ListDataReader#newGluonObservableList()} method of the reader is not called.</p>
+     *
+     * <p>The reader is read once. Readers like the ones that are created by a {@link RestClient} can't be read again,
+     * so a new reader must be passed each time the list is refreshed:</p>
+     *
+     * <pre>
+     *     DataProvider.refreshList(list, restClient.createListDataReader(Todo.class), Todo::getId);
+     * </pre>
+     *
+     * <p>The operation is scheduled with {@link Priority#INTERACTIVE interactive} priority.</p>
+     *
+     * @param observable the list to refresh
+     * @param reader the reader to use for retrieving the new contents of the list
+     * @param keyExtractor the function that returns the key that identifies an item in the list
+     * @param <E> the type of the objects inside the list
+     * @return the provided GluonObservableList
+     */
+    public static <E> GluonObservableList<E> refreshList(GluonObservableList<E> observable, ListDataReader<E> reader,
+                                                         Function<? super E, ?> keyExtractor) {
+        return refreshList(observable, reader, keyExtractor, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Same as {@link #refreshList(GluonObservableList, ListDataReader, Function)}, but the operation is scheduled
+     * with the specified priority.
+     *
+     * @param observable the list to refresh
+     * @param reader the reader to use for retrieving the new contents of the list
+     * @param keyExtractor the function that returns the key that identifies an item in the list
+     * @param priority the priority with which the operation is scheduled
+     * @param <E> the type of the objects inside the list
+     * @return the provided GluonObservableList
+     */
+    public static <E> GluonObservableList<E> refreshList(GluonObservableList<E> observable, ListDataReader<E> reader,
+                                                         Function<? super E, ?> keyExtractor, Priority priority) {
+        Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
+
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        execute("DataProvider.refreshList", priority, observable, reader, () -> observable.setState(ConnectState.CANCELLED), () -> {
+            try {
+                List<E> elements = new ArrayList<>();
+                for (Iterator<E> it = reader.iterator(); it.hasNext();) {
+                    E e = it.next();
+                    if (e != null) {
+                        elements.add(e);
+                    }
+                }
+                Metrics.getRecorder().recordElements("DataProvider.refreshList", elements.size());
+
+                deliver("DataProvider.refreshList", observable, () -> {
+                    int modifications = ListDiff.apply(observable, elements, keyExtractor);
+                    LOG.log(Level.FINE, "Refreshed list with " + modifications + " modifications.");
+                    if (!observable.isInitialized()) {
+                        ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
+                    }
+                    observable.setState(ConnectState.SUCCEEDED);
+                });
+            } catch (CancellationException ex) {
+                runLater(observable, () -> {
                     observable.setState(ConnectState.CANCELLED);
                 });
             } catch (Exception ex) {
-                Platform.runLater(() -> {
-                    observable.setException(callingStack != null ? DataProvider.generateFullException(callingStack, ex) : ex);
+                runLater(observable, () -> {
+                    observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
                     observable.setState(ConnectState.FAILED);
                 });
             }
@@ -235,19 +496,555 @@ public class DataProvider {
     }
 
     /**
-     * When the logging level of the LOG instance is set to fine or lower, the stack of the thread that called the
+     * Periodically refreshes the provided GluonObservableObject with the object that is read using an ObjectDataReader
+     * from the specified supplier, according to the specified refresh policy. The first refresh starts immediately.
+     * The object is always read into the provided observable, so listeners and bindings only need to be attached once.
+     *
+     * <p>The supplier is called for each refresh, because a reader like the ones created by a
+     * {@link RestClient} can only be read once. For example:</p>
+     *
+     * <pre>
+     *     Refresher refresher = DataProvider.scheduleRefresh(observable,
+     *             () -&gt; restClient.createObjectDataReader(Weather.class), policy);
+     * </pre>
+     *
+     * <p>A newly read object that is {@link Object#equals(Object) equal} to the previously read object is not applied
+     * to the observable and counts as unchanged, which increases the interval when the policy has a
+     * {@link RefreshPolicy#backoff(double, java.time.Duration) backoff}. A failed refresh sets the exception and the
+     * {@link ConnectState#FAILED} state on the observable, is recorded as a retry with the current
+     * {@link Metrics#getRecorder() metrics recorder} and also increases the interval.</p>
+     *
+     * <p>The refreshes are scheduled with {@link Priority#BACKGROUND background} priority. Cancelling the observable
+     * while it is being refreshed stops the returned refresher.</p>
+     *
+     * @param observable the observable to refresh periodically
+     * @param readerSupplier the supplier of a new reader to use for retrieving the object on each refresh
+     * @param policy the policy that describes how often the observable is refreshed
+     * @param <T> the type of the object to retrieve
+     * @return the refresher that can be used to stop refreshing the observable
+     */
+    public static <T> Refresher scheduleRefresh(GluonObservableObject<T> observable,
+                                                Supplier<? extends ObjectDataReader<T>> readerSupplier,
+                                                RefreshPolicy policy) {
+        final String operation = "DataProvider.scheduleRefresh";
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        final AtomicReference<Object> previous = new AtomicReference<>(NOT_READ);
+
+        Refresher refresher = new Refresher(policy, observable::isObserved, Platform::runLater, r -> {
+            final ObjectDataReader<T> reader = readerSupplier.get();
+            execute(operation, Priority.BACKGROUND, observable, reader, () -> {
+                r.stop();
+                observable.setState(ConnectState.CANCELLED);
+            }, () -> {
+                try {
+                    T t = reader.readObject();
+
+                    Object last = previous.getAndSet(t);
+                    boolean changed = last == NOT_READ || !Objects.equals(last, t);
+                    if (changed) {
+                        deliver(operation, observable, () -> {
+                            observable.set(t);
+                            if (!observable.isInitialized()) {
+                                ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
+                            }
+                            observable.setState(ConnectState.SUCCEEDED);
+                        });
+                    } else {
+                        deliver(operation, observable, () -> {
+                            if (observable.getState() != ConnectState.SUCCEEDED) {
+                                observable.setState(ConnectState.SUCCEEDED);
+                            }
+                        });
+                    }
+                    r.refreshCompleted(changed);
+                } catch (CancellationException ex) {
+                    r.stop();
+                    runLater(observable, () -> {
+                        observable.setState(ConnectState.CANCELLED);
+                    });
+                } catch (Exception ex) {
+                    Metrics.getRecorder().recordRetry(operation);
+                    runLater(observable, () -> {
+                        observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
+                        observable.setState(ConnectState.FAILED);
+                    });
+                    r.refreshFailed();
+                }
+            });
+        });
+        refresher.start();
+        return refresher;
+    }
+
+    /**
+     * Periodically refreshes the provided GluonObservableList with the items that are read using a ListDataReader
+     * from the specified supplier, according to the specified refresh policy. The supplier is called for each refresh,
+     * because a reader can only be read once. Each refresh applies only the differences to the list, in the same way
+     * as {@link #refreshList(GluonObservableList, ListDataReader, Function)}. A refresh that did not modify the list
+     * counts as unchanged, which increases the interval when the policy has a
+     * {@link RefreshPolicy#backoff(double, java.time.Duration) backoff}. A failed refresh is recorded as a retry and
+     * also increases the interval.
+     *
+     * <p>The refreshes are scheduled with {@link Priority#BACKGROUND background} priority. Cancelling the observable
+     * while it is being refreshed stops the returned refresher.</p>
+     *
+     * @param observable the list to refresh periodically
+     * @param readerSupplier the supplier of a new reader to use for retrieving the contents of the list on each refresh
+     * @param keyExtractor the function that returns the key that identifies an item in the list
+     * @param policy the policy that describes how often the list is refreshed
+     * @param <E> the type of the objects inside the list
+     * @return the refresher that can be used to stop refreshing the list
+     */
+    public static <E> Refresher scheduleRefresh(GluonObservableList<E> observable,
+                                                Supplier<? extends ListDataReader<E>> readerSupplier,
+                                                Function<? super E, ?> keyExtractor, RefreshPolicy policy) {
+        final String operation = "DataProvider.scheduleRefresh";
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+
+        Refresher refresher = new Refresher(policy, observable::isObserved, Platform::runLater, r -> {
+            final ListDataReader<E> reader = readerSupplier.get();
+            execute(operation, Priority.BACKGROUND, observable, reader, () -> {
+                r.stop();
+                observable.setState(ConnectState.CANCELLED);
+            }, () -> {
+                try {
+                    List<E> elements = new ArrayList<>();
+                    for (Iterator<E> it = reader.iterator(); it.hasNext();) {
+                        E e = it.next();
+                        if (e != null) {
+                            elements.add(e);
+                        }
+                    }
+                    Metrics.getRecorder().recordElements(operation, elements.size());
+
+                    deliver(operation, observable, () -> {
+                        boolean changed = ListDiff.apply(observable, elements, keyExtractor) > 0 || !observable.isInitialized();
+                        if (!observable.isInitialized()) {
+                            ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
+                        }
+                        if (observable.getState() != ConnectState.SUCCEEDED) {
+                            observable.setState(ConnectState.SUCCEEDED);
+                        }
+                        r.refreshCompleted(changed);
+                    });
+                } catch (CancellationException ex) {
+                    r.stop();
+                    runLater(observable, () -> {
+                        observable.setState(ConnectState.CANCELLED);
+                    });
+                } catch (Exception ex) {
+                    Metrics.getRecorder().recordRetry(operation);
+                    runLater(observable, () -> {
+                        observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
+                        observable.setState(ConnectState.FAILED);
+                    });
+                    r.refreshFailed();
+                }
+            });
+        });
+        refresher.start();
+        return refresher;
+    }
+
+    /**
+     * Streams objects that are pushed by a server into a new GluonObservableObject, which always holds the latest
+     * object that was received. The returned observable is
+     * {@link GluonObservableObject#setConflating(boolean) conflating}, so that only the latest object is applied when
+     * objects arrive faster than they can be shown. Its state is set to {@link ConnectState#SUCCEEDED} when the first
+     * object was received.
+     *
+     * <p>The stream is read in a dedicated thread, so it doesn't occupy one of the DataProvider threads. It keeps
+     * running, reconnecting when the connection is lost, until the observable is
+     * {@link GluonObservable#cancel() cancelled} or the server refuses the connection, in which case the state is set
+     * to {@link ConnectState#FAILED}.</p>
+     *
+     * @param reader the reader to use for receiving the objects
+     * @param <T> the type of the objects to receive
+     * @return an instance of GluonObservableObject that holds the latest object that was received
+     */
+    public static <T> GluonObservableObject<T> streamObject(EventStreamReader<T> reader) {
+        GluonObservableObject<T> observable = reader.newGluonObservableObject();
+        observable.setConflating(true);
+        return streamObject(observable, reader);
+    }
+
+    /**
+     * Same as {@link #streamObject(EventStreamReader)}, but the objects are streamed into the provided observable.
+     *
+     * @param observable the observable that is updated with each object that is received
+     * @param reader the reader to use for receiving the objects
+     * @param <T> the type of the objects to receive
+     * @return the provided GluonObservableObject
+     */
+    public static <T> GluonObservableObject<T> streamObject(GluonObservableObject<T> observable, EventStreamReader<T> reader) {
+        final String operation = "DataProvider.streamObject";
+        Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
+
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        stream(operation, observable, reader, reader::read, t -> deliver(operation, observable, () -> {
+            observable.set(t);
+            if (!observable.isInitialized()) {
+                ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
+                observable.setState(ConnectState.SUCCEEDED);
+            }
+        }), () -> observable.setState(ConnectState.CANCELLED), ex -> {
+            observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
+            observable.setState(ConnectState.FAILED);
+        });
+        return observable;
+    }
+
+    /**
+     * Streams objects that are pushed by a server into a new GluonObservableList, adding each received object at the
+     * end of the list. See {@link #streamObject(EventStreamReader)} for how the stream is read.
+     *
+     * @param reader the reader to use for receiving the objects
+     * @param <E> the type of the objects to receive
+     * @return an instance of GluonObservableList to which the received objects are added
+     */
+    public static <E> GluonObservableList<E> streamList(EventStreamReader<E> reader) {
+        return streamList(reader.newGluonObservableList(), reader, null);
+    }
+
+    /**
+     * Streams objects that are pushed by a server into the provided GluonObservableList. When a key extractor is
+     * specified, a received object replaces the object in the list with the same key, or is added at the end of the
+     * list when no object with that key exists yet. Without a key extractor, each received object is added at the end
+     * of the list. Objects that arrive while the list is being updated are applied together on the next pulse of the
+     * JavaFX Application Thread. See {@link #streamObject(EventStreamReader)} for how the stream is read.
+     *
+     * @param observable the list that is updated with the objects that are received
+     * @param reader the reader to use for receiving the objects
+     * @param keyExtractor the function that returns the key that identifies an object in the list, or <code>null</code>
+     *                     to add all objects
+     * @param <E> the type of the objects to receive
+     * @return the provided GluonObservableList
+     */
+    public static <E> GluonObservableList<E> streamList(GluonObservableList<E> observable, EventStreamReader<E> reader,
+                                                        Function<? super E, ?> keyExtractor) {
+        final String operation = "DataProvider.streamList";
+        Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
+
+        final ConcurrentLinkedQueue<E> pending = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        stream(operation, observable, reader, reader::read, e -> {
+            pending.add(e);
+            if (scheduled.compareAndSet(false, true)) {
+                deliver(operation, observable, () -> {
+                    scheduled.set(false);
+                    List<E> received = new ArrayList<>();
+                    for (E element; (element = pending.poll()) != null;) {
+                        received.add(element);
+                    }
+                    if (keyExtractor == null) {
+                        observable.addAll(received);
+                    } else {
+                        ListDiff.merge(observable, received, keyExtractor);
+                    }
+                    if (!observable.isInitialized()) {
+                        ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
+                        observable.setState(ConnectState.SUCCEEDED);
+                    }
+                });
+            }
+        }, () -> observable.setState(ConnectState.CANCELLED), ex -> {
+            observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
+            observable.setState(ConnectState.FAILED);
+        });
+        return observable;
+    }
+
+    /**
+     * Keeps a new GluonObservableList in sync with a resource on a WebSocket endpoint. The frames that are received
+     * for the resource are mapped to mutations of the list by the specified synchronizer. Frames that arrive while
+     * the list is being updated are applied together on the next pulse of the JavaFX Application Thread. The state of
+     * the list is set to {@link ConnectState#SUCCEEDED} when the first frame was applied.
+     *
+     * <p>The frames are received in a dedicated thread, so it doesn't occupy one of the DataProvider threads. The
+     * list is kept in sync, reconnecting when the connection is lost, until it is
+     * {@link GluonObservable#cancel() cancelled}.</p>
+     *
+     * @param synchronizer the synchronizer that maps the frames of the resource to mutations of the list
+     * @param <E> the type of the objects inside the list
+     * @return an instance of GluonObservableList that is kept in sync with the resource
+     */
+    public static <E> GluonObservableList<E> synchronizeList(WebSocketListSynchronizer<E> synchronizer) {
+        return synchronizeList(synchronizer.newGluonObservableList(), synchronizer);
+    }
+
+    /**
+     * Same as {@link #synchronizeList(WebSocketListSynchronizer)}, but the provided list is kept in sync.
+     *
+     * @param observable the list that is kept in sync with the resource
+     * @param synchronizer the synchronizer that maps the frames of the resource to mutations of the list
+     * @param <E> the type of the objects inside the list
+     * @return the provided GluonObservableList
+     */
+    public static <E> GluonObservableList<E> synchronizeList(GluonObservableList<E> observable,
+                                                             WebSocketListSynchronizer<E> synchronizer) {
+        final String operation = "DataProvider.synchronizeList";
+        Platform.runLater(() -> observable.setState(ConnectState.RUNNING));
+
+        final ConcurrentLinkedQueue<WebSocketListSynchronizer.Change<E>> pending = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final CallSite callSite = LOG.isLoggable(Level.FINE) ? CallSite.capture() : null;
+        stream(operation, observable, synchronizer, synchronizer::read, change -> {
+            pending.add(change);
+            if (scheduled.compareAndSet(false, true)) {
+                deliver(operation, observable, () -> {
+                    scheduled.set(false);
+                    int modifications = 0;
+                    for (WebSocketListSynchronizer.Change<E> c; (c = pending.poll()) != null;) {
+                        modifications += synchronizer.apply(observable, c);
+                    }
+                    LOG.log(Level.FINE, "Synchronized list with " + modifications + " modifications.");
+                    if (!observable.isInitialized()) {
+                        ((SimpleBooleanProperty) observable.initializedProperty()).set(true);
+                        observable.setState(ConnectState.SUCCEEDED);
+                    }
+                });
+            }
+        }, () -> observable.setState(ConnectState.CANCELLED), ex -> {
+            observable.setException(callSite != null ? DataProvider.generateFullException(callSite, ex) : ex);
+            observable.setState(ConnectState.FAILED);
+        });
+        return observable;
+    }
+
+    private static <T> void stream(String operation, GluonObservable observable, Object source, StreamSource<T> streamSource,
+                                   Consumer<T> consumer, Runnable cancelAction, Consumer<Exception> failAction) {
+        execute(streamExecutorService, operation, Priority.BACKGROUND, observable, source, cancelAction, () -> {
+            try {
+                streamSource.read(consumer);
+            } catch (InterruptedException | CancellationException ex) {
+                runLater(observable, cancelAction);
+            } catch (Exception ex) {
+                runLater(observable, () -> failAction.accept(ex));
+            }
+        });
+    }
+
+    /**
+     * Cancels the operations that are currently running or waiting to be run for the provided observable, like the
+     * pages of a {@link GluonObservablePagedList} that are still loading. When an operation is still waiting, it is
+     * removed from the queue. When it is already running, its thread is interrupted and the HTTP connection of a rest
+     * reader, writer, remover or page loader is closed, so that blocking network calls return immediately. The
+     * WebSocket channel of a list synchronizer is closed, so it stops receiving frames. The state of the observable
+     * is changed to {@link ConnectState#CANCELLED} and the result of the operation, if any, is discarded.
+     *
+     * @param observable the observable of which to cancel the operation
+     * @return <code>true</code> if an operation was cancelled, <code>false</code> if no operation was running or
+     * waiting for the observable
+     * @see GluonObservable#cancel()
+     */
+    public static boolean cancel(GluonObservable observable) {
+        List<ProviderTask> tasks;
+        synchronized (TASKS) {
+            tasks = TASKS.remove(observable);
+        }
+        boolean cancelled = false;
+        if (tasks != null) {
+            for (ProviderTask task : tasks) {
+                cancelled |= task.cancel();
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Submits the task to the executor service with the specified priority. The time the task waited in the queue,
+     * the time it took to run and the number of waiting tasks are recorded with the current
+     * {@link Metrics#getRecorder() metrics recorder}.
+     *
+     * @param operation the name of the operation that is recorded
+     * @param priority the priority of the task
+     * @param observable the observable that can be used to cancel the task, or <code>null</code>
+     * @param source the reader, writer or remover that is used by the task, or <code>null</code>
+     * @param cancelAction the action that is run on the JavaFX Application Thread when the task is cancelled
+     * @param task the task to run in one of the DataProvider threads
+     */
+    private static void execute(String operation, Priority priority, GluonObservable observable, Object source,
+                                Runnable cancelAction, Runnable task) {
+        execute(executorService, operation, priority, observable, source, cancelAction, task);
+    }
+
+    private static void execute(ThreadPoolExecutor executor, String operation, Priority priority, GluonObservable observable,
+                                Object source, Runnable cancelAction, Runnable task) {
+        ProviderTask providerTask = new ProviderTask(operation, priority, observable, source, cancelAction, task);
+        if (observable != null) {
+            synchronized (TASKS) {
+                TASKS.computeIfAbsent(observable, o -> new ArrayList<>(1)).add(providerTask);
+            }
+        }
+        Metrics.getRecorder().recordQueueDepth(QUEUE_DEPTH.incrementAndGet());
+        executor.execute(providerTask);
+    }
+
+    /**
+     * Runs the runnable on the JavaFX Application Thread and records the time it took before it was run.
+     *
+     * @param operation the name of the operation that is recorded
+     * @param observable the observable that is updated by the runnable
+     * @param runnable the runnable that applies the result of the operation
+     */
+    private static void deliver(String operation, GluonObservable observable, Runnable runnable) {
+        final long posted = System.nanoTime();
+        runLater(observable, () -> {
+            Metrics.getRecorder().recordTiming(operation, Phase.DELIVERY, System.nanoTime() - posted);
+            runnable.run();
+        });
+    }
+
+    /**
+     * Runs the runnable on the JavaFX Application Thread, unless the task that is running in the current thread
+     * was cancelled in the meantime. Updates of a {@link GluonObservableObject} are submitted to the observable, so
+     * that they can be conflated.
+     *
+     * @param observable the observable that is updated by the runnable
+     * @param runnable the runnable that applies the result of the operation
+     */
+    private static void runLater(GluonObservable observable, Runnable runnable) {
+        final ProviderTask task = CURRENT_TASK.get();
+        Runnable update = () -> {
+            if (task == null || !task.isCancelled()) {
+                runnable.run();
+            }
+        };
+        if (observable instanceof GluonObservableObject) {
+            GluonObservableObjectHelper.submitUpdate((GluonObservableObject<?>) observable, update);
+        } else {
+            Platform.runLater(update);
+        }
+    }
+
+    /**
+     * When the logging level of the LOG instance is set to fine or lower, the call site of the thread that called the
      * DataProvider method will be added to the Exception and set as the exception property of the GluonObservable
-     * object. When the log level is higher, only the Exception that was thrown will be set.
+     * object. When the log level is higher, only the Exception that was thrown will be set. Only a bounded number of
+     * frames of the call site are captured and they are only converted into a stack trace here, when a failure
+     * actually occurred.
      *
-     * @param callingStack the stack of the thread that called the DataProvider method at the time the method is called
+     * @param callSite the call site of the thread that called the DataProvider method at the time the method is called
      * @param cause the actual Exception that was thrown inside one of the DataProvider threads
-     * @return an Exception that has the provided <code>callingStack</code> as it's stack trace, and the provided
-     * <code>cause</code> as the cause of the Exception.
+     * @return an Exception that has the stack trace of the provided <code>callSite</code> as it's stack trace, and the
+     * provided <code>cause</code> as the cause of the Exception.
      */
-    private static Exception generateFullException(StackTraceElement[] callingStack, Exception cause) {
+    private static Exception generateFullException(CallSite callSite, Exception cause) {
         Exception exception = new Exception(cause);
-        exception.setStackTrace(callingStack);
+        exception.setStackTrace(callSite.getStackTrace());
         return exception;
     }
 
+    /**
+     * Reads a stream and passes each received item to the consumer, until an exception is thrown.
+     */
+    @FunctionalInterface
+    private interface StreamSource<T> {
+        void read(Consumer<T> consumer) throws Exception;
+    }
+
+    private static final class ProviderTask implements Runnable, Comparable<ProviderTask> {
+
+        private final String operation;
+        private final Priority priority;
+        private final GluonObservable observable;
+        private final Object source;
+        private final Runnable cancelAction;
+        private final Runnable task;
+        private final long sequence = TASK_SEQUENCE.getAndIncrement();
+        private final long queued = System.nanoTime();
+
+        private volatile boolean cancelled;
+        private Thread runner;
+
+        ProviderTask(String operation, Priority priority, GluonObservable observable, Object source,
+                     Runnable cancelAction, Runnable task) {
+            this.operation = operation;
+            this.priority = priority == null ? Priority.INTERACTIVE : priority;
+            this.observable = observable;
+            this.source = source;
+            this.cancelAction = cancelAction;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            final long started = System.nanoTime();
+            MetricsRecorder recorder = Metrics.getRecorder();
+            recorder.recordQueueDepth(QUEUE_DEPTH.decrementAndGet());
+            recorder.recordTiming(operation, Phase.QUEUE, started - queued);
+
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+
+            CURRENT_TASK.set(this);
+            try {
+                task.run();
+            } finally {
+                CURRENT_TASK.remove();
+                synchronized (this) {
+                    runner = null;
+                    // clear the interrupt that was caused by cancelling, so the thread can be reused
+                    Thread.interrupted();
+                }
+                if (observable != null) {
+                    synchronized (TASKS) {
+                        List<ProviderTask> tasks = TASKS.get(observable);
+                        if (tasks != null && tasks.remove(this) && tasks.isEmpty()) {
+                            TASKS.remove(observable);
+                        }
+                    }
+                }
+                recorder.recordTiming(operation, Phase.EXECUTE, System.nanoTime() - started);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        boolean cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return false;
+                }
+                cancelled = true;
+                // the cancel action is queued first, so that it is applied before a failure that is caused by
+                // interrupting or disconnecting the task
+                if (cancelAction != null) {
+                    Platform.runLater(cancelAction);
+                }
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+
+            if (executorService.remove(this)) {
+                Metrics.getRecorder().recordQueueDepth(QUEUE_DEPTH.decrementAndGet());
+            }
+            if (source instanceof BaseRestProvider) {
+                ((BaseRestProvider) source).getRestDataSource().disconnect();
+            } else if (source instanceof EventStreamReader) {
+                ((EventStreamReader<?>) source).disconnect();
+            } else if (source instanceof RestPageLoader) {
+                ((RestPageLoader<?>) source).disconnect();
+            } else if (source instanceof WebSocketListSynchronizer) {
+                ((WebSocketListSynchronizer<?>) source).getChannel().close();
+            }
+
+            LOG.log(Level.FINE, "Cancelled " + operation + " with priority " + priority);
+            return true;
+        }
+
+        @Override
+        public int compareTo(ProviderTask other) {
+            int result = priority.compareTo(other.priority);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.GluonObservableList;
+import com.gluonhq.connect.GluonObservableObject;
+import com.gluonhq.connect.converter.JsonConverter;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.connect.source.EventStreamDataSource;
+import com.gluonhq.connect.source.RestDataSource;
+import com.gluonhq.impl.connect.EventStreamParser;
+import com.gluonhq.impl.connect.converter.JsonUtil;
+
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An EventStreamReader reads the events that are pushed by a server over one long-lived HTTP connection and converts
+ * each event into an object with a {@link JsonConverter}. The data of an event must be a JSON object, or a JSON array
+ * of objects in which case each object is passed on separately. The stream can either consist of Server-Sent Events
+ * or newline-delimited JSON, which is detected from the Content-Type of the response.
+ *
+ * <p>When the connection is lost or closed by the server, the reader waits for the
+ * {@link EventStreamDataSource#getRetryDelay() retry delay} and reconnects, sending the id of the last received event
+ * with the <code>Last-Event-ID</code> header. Each reconnect is recorded as a retry with the current
+ * {@link Metrics#getRecorder() metrics recorder}. Reading stops when the server refuses the connection with an error
+ * response or when the reading thread is interrupted.</p>
+ *
+ * <p><b>Attention:</b> it is advised not to use this class directly, but rather construct it by creating a
+ * {@link RestClient} and build the reader with the {@link RestClient#createEventStreamReader(Class)} method. The
+ * reader is passed in to {@link DataProvider#streamObject(EventStreamReader)} or
+ * {@link DataProvider#streamList(EventStreamReader)}.</p>
+ *
+ * @param <T> the type of the objects that are read from the events
+ */
+public class EventStreamReader<T> {
+
+    private static final Logger LOG = Logger.getLogger(EventStreamReader.class.getName());
+
+    private static final String OPERATION = "EventStreamReader";
+
+    private final EventStreamDataSource dataSource;
+    private final JsonConverter<T> converter;
+
+    /**
+     * Construct a new EventStreamReader.
+     *
+     * @param dataSource the data source that opens the connections to the streaming endpoint
+     * @param converter the converter that converts the data of each event into an object
+     */
+    public EventStreamReader(EventStreamDataSource dataSource, JsonConverter<T> converter) {
+        this.dataSource = dataSource;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns the data source that opens the connections to the streaming endpoint.
+     *
+     * @return the event stream data source
+     */
+    public EventStreamDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns an instance of {@link GluonObservableObject} that holds the latest object that was received.
+     *
+     * @return an instance of GluonObservableObject
+     */
+    public GluonObservableObject<T> newGluonObservableObject() {
+        return new GluonObservableObject<>();
+    }
+
+    /**
+     * Returns an instance of {@link GluonObservableList} to which the received objects are added.
+     *
+     * @return an instance of GluonObservableList
+     */
+    public GluonObservableList<T> newGluonObservableList() {
+        return new GluonObservableList<>();
+    }
+
+    /**
+     * Reads events from the stream and passes the converted objects to the consumer, reconnecting whenever the
+     * connection is lost. This method only returns by throwing an exception.
+     *
+     * @param consumer the consumer that receives the objects in the order they were sent
+     * @throws IOException when the server refused the connection with an error response
+     * @throws InterruptedException when the current thread was interrupted
+     */
+    public void read(Consumer<? super T> consumer) throws IOException, InterruptedException {
+        while (true) {
+            try (InputStream inputStream = dataSource.getInputStream()) {
+                EventStreamParser parser = new EventStreamParser(inputStream, dataSource.isServerSentEvents(),
+                        dataSource.getLastEventId());
+                EventStreamParser.Event event;
+                while ((event = parser.next()) != null) {
+                    dataSource.setLastEventId(parser.getLastEventId());
+                    if (parser.getRetry() >= 0) {
+                        dataSource.setRetryDelay(parser.getRetry());
+                    }
+                    convert(event, consumer);
+                }
+                LOG.log(Level.FINE, "Event stream was closed by the server.");
+            } catch (IOException ex) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException("Reading event stream was interrupted.");
+                }
+                RestDataSource restDataSource = dataSource.getRestDataSource();
+                if (restDataSource != null && (restDataSource.getResponseCode() >= 300 || restDataSource.getResponseCode() == 204)) {
+                    throw ex;
+                }
+                LOG.log(Level.FINE, "Event stream connection was lost.", ex);
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Reading event stream was interrupted.");
+            }
+            Metrics.getRecorder().recordRetry(OPERATION);
+            Thread.sleep(dataSource.getRetryDelay());
+        }
+    }
+
+    /**
+     * Closes the current connection, which makes a thread that is blocked in {@link #read(Consumer)} reconnect, or
+     * stop when it was interrupted.
+     */
+    public void disconnect() {
+        dataSource.disconnect();
+    }
+
+    private void convert(EventStreamParser.Event event, Consumer<? super T> consumer) {
+        JsonStructure json;
+        try (JsonReader reader = JsonUtil.createJsonReader(event.getData())) {
+            json = reader.read();
+        } catch (JsonException ex) {
+            LOG.log(Level.WARNING, "Skipping event " + event.getId() + " with invalid JSON data: " + event.getData(), ex);
+            return;
+        }
+
+        if (json.getValueType() == JsonValue.ValueType.ARRAY) {
+            for (JsonValue value : (JsonArray) json) {
+                if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                    consumer.accept(decode((JsonObject) value));
+                }
+            }
+        } else {
+            consumer.accept(decode((JsonObject) json));
+        }
+    }
+
+    private T decode(JsonObject json) {
+        final long start = System.nanoTime();
+        try {
+            return converter.readFromJson(json);
+        } finally {
+            Metrics.getRecorder().recordTiming(OPERATION, Phase.DECODE, System.nanoTime() - start);
+        }
+    }
+}
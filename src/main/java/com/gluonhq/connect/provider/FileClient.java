@@ -45,6 +45,14 @@ import java.util.Optional;
  *     JsonInputConverter&lt;Sample&gt; converter = new JsonInputConverter&lt;&gt;(Sample.class);
  *     GluonObservableObject&lt;Sample&gt; sample = DataProvider.retrieveObject(fileClient.createObjectDataReader(converter));
  * </pre>
+ *
+ * <p>For larger local caches, the {@link com.gluonhq.connect.converter.BinaryOutputConverter} and
+ * {@link com.gluonhq.connect.converter.BinaryInputConverter} can be used instead of the JSON converters. They store
+ * the objects in a compact binary format that is faster to read and write than JSON.</p>
+ *
+ * <p>Large files with one JSON record per line can be read with constant memory by passing a
+ * {@link com.gluonhq.connect.converter.NdjsonIterableInputConverter} to
+ * {@link #createListDataReader(InputStreamIterableInputConverter)}.</p>
  */
 public class FileClient {
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A PageLoader is an entity that has the ability to read a single page out of a large list of objects. It is used by
+ * a {@link com.gluonhq.connect.GluonObservablePagedList} to load only the pages of the list that are actually
+ * accessed.
+ *
+ * @param <E> the type of the objects contained in the list to read
+ * @see DataProvider#retrievePagedList(PageLoader, int, int)
+ */
+public interface PageLoader<E> {
+
+    /**
+     * Reads a page of objects, starting at the specified offset in the list. This method will be called from a
+     * background thread.
+     *
+     * @param offset the index in the list of the first object to read
+     * @param limit the maximum number of objects to read
+     * @return the page with the read objects and the total number of objects in the list
+     * @throws IOException when something went wrong during the process of reading the objects
+     */
+    Page<E> loadPage(int offset, int limit) throws IOException;
+
+    /**
+     * A page of objects that is read by a {@link PageLoader}.
+     *
+     * @param <E> the type of the objects contained in the page
+     */
+    final class Page<E> {
+
+        private final List<E> items;
+        private final int totalSize;
+        private final boolean estimate;
+
+        /**
+         * Construct a new page with the exact total number of objects in the list.
+         *
+         * @param items the objects contained in the page
+         * @param totalSize the total number of objects in the entire list
+         */
+        public Page(List<E> items, int totalSize) {
+            this(items, totalSize, false);
+        }
+
+        /**
+         * Construct a new page. When the total number of objects in the list is not known, the loader can provide
+         * an estimate instead. An estimated total size will only ever grow the size of the paged list, so that
+         * reloading a page near the start of the list does not shrink it.
+         *
+         * @param items the objects contained in the page
+         * @param totalSize the total number of objects in the entire list
+         * @param estimate true if <code>totalSize</code> is an estimate rather than the exact total size
+         */
+        public Page(List<E> items, int totalSize, boolean estimate) {
+            this.items = items == null ? Collections.emptyList() : items;
+            this.totalSize = totalSize;
+            this.estimate = estimate;
+        }
+
+        /**
+         * Returns the objects contained in this page.
+         *
+         * @return the objects contained in this page
+         */
+        public List<E> getItems() {
+            return items;
+        }
+
+        /**
+         * Returns the total number of objects in the entire list.
+         *
+         * @return the total number of objects in the list
+         */
+        public int getTotalSize() {
+            return totalSize;
+        }
+
+        /**
+         * Returns whether the total number of objects is an estimate rather than the exact total size.
+         *
+         * @return true if the total size is an estimate
+         */
+        public boolean isEstimate() {
+            return estimate;
+        }
+    }
+}
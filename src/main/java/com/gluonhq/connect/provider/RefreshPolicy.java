@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes how often an observable is refreshed by a {@link Refresher}. The observable is refreshed at a fixed
+ * interval. Optionally, the interval is multiplied with a backoff factor each time a refresh did not change the
+ * observable, up to a maximum interval. As soon as the observable changes again, the interval is reset.
+ *
+ * <p>The interval is a fixed delay between the end of a refresh and the start of the next one, rather than a fixed
+ * rate. A refresh that takes longer than the interval, for instance because of a slow server, therefore never
+ * causes the next refreshes to queue up behind it.</p>
+ *
+ * <pre>
+ *     RefreshPolicy policy = RefreshPolicy.every(Duration.ofSeconds(5))
+ *             .backoff(2.0, Duration.ofMinutes(1));
+ *     Refresher refresher = DataProvider.scheduleRefresh(observable,
+ *             () -&gt; restClient.createObjectDataReader(Weather.class), policy);
+ * </pre>
+ *
+ * @see DataProvider#scheduleRefresh(com.gluonhq.connect.GluonObservableObject, java.util.function.Supplier, RefreshPolicy)
+ */
+public class RefreshPolicy {
+
+    private final Duration interval;
+    private double backoffMultiplier = 1.0;
+    private Duration maxInterval;
+    private boolean pauseWhenUnobserved = true;
+
+    private RefreshPolicy(Duration interval) {
+        this.interval = interval;
+        this.maxInterval = interval;
+    }
+
+    /**
+     * Create a policy that refreshes an observable at the specified fixed interval.
+     *
+     * @param interval the time between the end of a refresh and the start of the next one
+     * @return a new refresh policy
+     */
+    public static RefreshPolicy every(Duration interval) {
+        Objects.requireNonNull(interval);
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("The refresh interval must be positive, but was " + interval);
+        }
+        return new RefreshPolicy(interval);
+    }
+
+    /**
+     * Increases the interval each time a refresh did not change the observable. The interval is multiplied with the
+     * specified multiplier, until the maximum interval is reached.
+     *
+     * @param multiplier the factor with which the interval is multiplied, must be at least 1
+     * @param maxInterval the maximum interval between two refreshes
+     * @return a reference to this policy
+     */
+    public RefreshPolicy backoff(double multiplier, Duration maxInterval) {
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("The backoff multiplier must be at least 1, but was " + multiplier);
+        }
+        this.backoffMultiplier = multiplier;
+        this.maxInterval = maxInterval.compareTo(interval) < 0 ? interval : maxInterval;
+        return this;
+    }
+
+    /**
+     * Sets whether refreshing is paused while no listeners are attached to the observable. The first refresh always
+     * happens. Afterwards, when the observable is not observed, the refresher only checks at the base interval whether
+     * a listener was attached in the meantime. This is enabled by default.
+     *
+     * @param pauseWhenUnobserved true to pause refreshing while the observable has no listeners
+     * @return a reference to this policy
+     */
+    public RefreshPolicy pauseWhenUnobserved(boolean pauseWhenUnobserved) {
+        this.pauseWhenUnobserved = pauseWhenUnobserved;
+        return this;
+    }
+
+    /**
+     * Returns the base interval between two refreshes.
+     *
+     * @return the base interval
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the factor with which the interval is multiplied when a refresh did not change the observable.
+     *
+     * @return the backoff multiplier
+     */
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    /**
+     * Returns the maximum interval between two refreshes.
+     *
+     * @return the maximum interval
+     */
+    public Duration getMaxInterval() {
+        return maxInterval;
+    }
+
+    /**
+     * Returns whether refreshing is paused while the observable has no listeners.
+     *
+     * @return true if refreshing is paused while the observable has no listeners
+     */
+    public boolean isPauseWhenUnobserved() {
+        return pauseWhenUnobserved;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshPolicy{" +
+                "interval=" + interval +
+                ", backoffMultiplier=" + backoffMultiplier +
+                ", maxInterval=" + maxInterval +
+                ", pauseWhenUnobserved=" + pauseWhenUnobserved +
+                '}';
+    }
+}
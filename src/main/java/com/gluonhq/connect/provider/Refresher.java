@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A Refresher periodically refreshes an observable according to a {@link RefreshPolicy}. All refreshers share a
+ * single scheduler thread, which only decides when a refresh is due. The refresh itself is run by the
+ * {@link DataProvider} threads with {@link Priority#BACKGROUND background} priority.
+ *
+ * <p>A Refresher is created with one of the <code>scheduleRefresh</code> methods of the DataProvider and keeps
+ * running until {@link #stop()} is called or the operation of the observable is cancelled.</p>
+ */
+public class Refresher {
+
+    private static final Logger LOG = Logger.getLogger(Refresher.class.getName());
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName("DataProviderScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final RefreshPolicy policy;
+    private final BooleanSupplier observed;
+    private final Executor observedExecutor;
+    private final Consumer<Refresher> refresh;
+
+    private volatile boolean stopped;
+    private volatile long intervalNanos;
+    private final AtomicLong refreshes = new AtomicLong();
+    private ScheduledFuture<?> next;
+
+    /**
+     * Construct a new Refresher.
+     *
+     * @param policy the policy that describes how often to refresh
+     * @param observed returns whether the observable currently has listeners
+     * @param observedExecutor the executor that calls <code>observed</code>, which is the JavaFX Application Thread
+     *                         for the observables of the DataProvider
+     * @param refresh starts a refresh, which must call {@link #refreshCompleted(boolean)} or {@link #refreshFailed()}
+     *                when it is done
+     */
+    Refresher(RefreshPolicy policy, BooleanSupplier observed, Executor observedExecutor, Consumer<Refresher> refresh) {
+        this.policy = policy;
+        this.observed = observed;
+        this.observedExecutor = observedExecutor;
+        this.refresh = refresh;
+        this.intervalNanos = policy.getInterval().toNanos();
+    }
+
+    void start() {
+        schedule(0);
+    }
+
+    /**
+     * Stops refreshing. A refresh that is already running will still complete.
+     */
+    public void stop() {
+        stopped = true;
+        synchronized (this) {
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+    }
+
+    /**
+     * Returns whether this refresher was stopped.
+     *
+     * @return true if this refresher was stopped
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Returns the current interval between two refreshes, which grows when the observable did not change and the
+     * policy has a backoff multiplier.
+     *
+     * @return the current interval
+     */
+    public Duration getCurrentInterval() {
+        return Duration.ofNanos(intervalNanos);
+    }
+
+    /**
+     * Returns the policy of this refresher.
+     *
+     * @return the refresh policy
+     */
+    public RefreshPolicy getPolicy() {
+        return policy;
+    }
+
+    void refreshCompleted(boolean changed) {
+        if (changed) {
+            intervalNanos = policy.getInterval().toNanos();
+        } else {
+            backoff();
+        }
+        schedule(intervalNanos);
+    }
+
+    void refreshFailed() {
+        backoff();
+        schedule(intervalNanos);
+    }
+
+    private void backoff() {
+        long maxNanos = policy.getMaxInterval().toNanos();
+        intervalNanos = (long) Math.min(maxNanos, intervalNanos * policy.getBackoffMultiplier());
+    }
+
+    private synchronized void schedule(long delayNanos) {
+        if (!stopped) {
+            next = SCHEDULER.schedule(this::tick, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void tick() {
+        if (stopped) {
+            return;
+        }
+
+        if (refreshes.get() > 0 && policy.isPauseWhenUnobserved()) {
+            // the listeners of an observable can only be inspected safely on the thread that modifies them
+            observedExecutor.execute(() -> {
+                if (stopped) {
+                    return;
+                }
+                if (observed.getAsBoolean()) {
+                    refresh();
+                } else {
+                    LOG.log(Level.FINE, "Refresh paused, observable has no listeners.");
+                    schedule(policy.getInterval().toNanos());
+                }
+            });
+            return;
+        }
+
+        refresh();
+    }
+
+    private void refresh() {
+        refreshes.incrementAndGet();
+        try {
+            refresh.accept(this);
+        } catch (RuntimeException ex) {
+            LOG.log(Level.WARNING, "Failed to start refresh.", ex);
+            refreshFailed();
+        }
+    }
+}
@@ -29,7 +29,9 @@ package com.gluonhq.connect.provider;
 import com.gluonhq.connect.GluonObservableObject;
 import com.gluonhq.connect.converter.InputStreamInputConverter;
 import com.gluonhq.connect.converter.InputStreamIterableInputConverter;
+import com.gluonhq.connect.converter.JsonConverter;
 import com.gluonhq.connect.converter.OutputStreamOutputConverter;
+import com.gluonhq.connect.source.EventStreamDataSource;
 import com.gluonhq.connect.source.RestDataSource;
 import com.gluonhq.connect.MultiValuedMap;
 
@@ -61,6 +63,7 @@ public class RestClient {
     private MultiValuedMap<String, String> multipartStringFields = new MultiValuedMap<>();
     private MultiValuedMap<String, byte[]> multipartByteFields = new MultiValuedMap<>();
     private String contentType;
+    private RestQueryDialect queryDialect;
 
     private RestClient() {
     }
@@ -266,6 +269,19 @@ public class RestClient {
         return this;
     }
 
+    /**
+     * Sets the dialect that is used to translate a {@link RestQuery} into query parameters, when creating a list data
+     * reader with {@link #createListDataReader(Class, RestQuery)}. When no dialect is set, the
+     * {@link RestQueryDialect#standard() standard} dialect will be used.
+     *
+     * @param queryDialect the dialect to translate queries into query parameters
+     * @return A reference to this rest client.
+     */
+    public RestClient queryDialect(RestQueryDialect queryDialect) {
+        this.queryDialect = queryDialect;
+        return this;
+    }
+
     /**
      * Build a RestDataSource that can be used as an InputDataSource to read from or an OutputDataSource to write to the
      * HTTP connection that is created with the parameters specified by this rest client builder.
@@ -286,8 +302,11 @@ public class RestClient {
      *
      * <p>The object data reader will try to detect the converter to use based on the Content-Type response header that
      * is returned from the HTTP connection. The specified <code>targetClass</code> will be passed in to the detected
-     * converter where needed. A custom converter can be specified with {@link #createObjectDataReader(InputStreamInputConverter)}
-     * when no suitable converter could be detected.
+     * converter where needed. When the <code>targetClass</code> is <code>byte[]</code> or {@link java.nio.ByteBuffer},
+     * the raw response body is returned in a buffer that is sized from the Content-Length response header. A custom
+     * converter can be specified with {@link #createObjectDataReader(InputStreamInputConverter)} when no suitable
+     * converter could be detected, for instance a {@link com.gluonhq.connect.converter.PathInputConverter} to stream a
+     * large response body into a file.
      *
      * @param targetClass the class definition of the object to read
      * @param <T> the type of the object to read
@@ -399,8 +418,12 @@ public class RestClient {
      *
      * <p>The list data reader will try to detect the converter to use based on the Content-Type response header that is
      * returned from the HTTP connection. The specified <code>targetClass</code> will be passed in to the detected
-     * converter where needed. A custom converter can be specified with {@link #createListDataReader(InputStreamIterableInputConverter)}
-     * when no suitable converter could be detected.
+     * converter where needed. Responses with the <code>application/x-ndjson</code> Content-Type are read line by line
+     * with a {@link com.gluonhq.connect.converter.NdjsonIterableInputConverter}, while <code>application/xml</code> and
+     * <code>text/xml</code> responses are streamed with a
+     * {@link com.gluonhq.connect.converter.XmlIterableInputConverter} that converts the child elements of the root
+     * element. A custom converter can be specified with
+     * {@link #createListDataReader(InputStreamIterableInputConverter)} when no suitable converter could be detected.
      *
      * @param targetClass the class definition of the objects contained in the list
      * @param <E> the type of the objects contained in the list to read
@@ -426,6 +449,61 @@ public class RestClient {
         return new RestListDataReader<>(createRestDataSource(), converter);
     }
 
+    /**
+     * Creates an instance of {@link ListDataReader} that can be passed directly in the
+     * {@link DataProvider#retrieveList(ListDataReader)} method. The list data reader works the same as the one
+     * created with {@link #createListDataReader(Class)}, but will additionally apply the specified query on the list.
+     *
+     * <p>The query is translated into query parameters of the HTTP request with the
+     * {@link #queryDialect(RestQueryDialect) query dialect}, so that the server only returns the items and properties
+     * that are needed. Filters and sort orders that the dialect can not translate are applied on the client after the
+     * list was read.</p>
+     *
+     * @param targetClass the class definition of the objects contained in the list
+     * @param query the query to apply on the list
+     * @param <E> the type of the objects contained in the list to read
+     * @return a ListDataReader instance that constructs a filtered and sorted list of objects from the HTTP connection
+     */
+    public <E> ListDataReader<E> createListDataReader(Class<E> targetClass, RestQuery query) {
+        return new RestListDataReader<>(createRestDataSource(), targetClass, query, queryDialect);
+    }
+
+    /**
+     * Creates an instance of {@link PageLoader} that can be passed directly in the
+     * {@link DataProvider#retrievePagedList(PageLoader, int, int)} method. Each page is read with a separate HTTP
+     * request, which has the offset and the maximum number of objects of the page added as query parameters. The
+     * total number of objects in the list is read from the specified response header.
+     *
+     * @param targetClass the class definition of the objects contained in the list
+     * @param offsetParam the name of the query parameter that holds the offset of the page, e.g. <code>offset</code>
+     * @param limitParam the name of the query parameter that holds the maximum number of objects in the page, e.g.
+     *                   <code>limit</code>
+     * @param totalSizeHeader the name of the response header that holds the total number of objects in the list, e.g.
+     *                        <code>X-Total-Count</code>
+     * @param <E> the type of the objects contained in the list to read
+     * @return a PageLoader instance that reads pages of objects from the HTTP connection
+     */
+    public <E> PageLoader<E> createPageLoader(Class<E> targetClass, String offsetParam, String limitParam,
+                                              String totalSizeHeader) {
+        return new RestPageLoader<>(this::createRestDataSource, targetClass, offsetParam, limitParam, totalSizeHeader);
+    }
+
+    /**
+     * Creates an instance of {@link EventStreamReader} that can be passed directly in the
+     * {@link DataProvider#streamObject(EventStreamReader)} or {@link DataProvider#streamList(EventStreamReader)}
+     * methods. The reader keeps an HTTP connection open to receive the events that are pushed by the server, either
+     * as Server-Sent Events or as newline-delimited JSON. The data of each event is converted into an object of the
+     * specified <code>targetClass</code> with a {@link JsonConverter}. A new connection is created with the
+     * parameters of this rest client each time the reader reconnects.
+     *
+     * @param targetClass the class definition of the objects to receive
+     * @param <T> the type of the objects to receive
+     * @return an EventStreamReader instance that receives objects from a streaming HTTP connection
+     */
+    public <T> EventStreamReader<T> createEventStreamReader(Class<T> targetClass) {
+        return new EventStreamReader<>(new EventStreamDataSource(this::createRestDataSource), new JsonConverter<>(targetClass));
+    }
+
     private void applyFields(RestDataSource dataSource) {
         dataSource.setHost(host);
         dataSource.setPath(path);
@@ -460,6 +538,7 @@ public class RestClient {
                 ", multipartStringFields=" + multipartStringFields +
                 ", multipartByteFields=" + multipartByteFields +
                 ", contentType='" + contentType + '\'' +
+                ", queryDialect=" + queryDialect +
                 '}';
     }
 }
@@ -29,22 +29,37 @@ package com.gluonhq.connect.provider;
 import com.gluonhq.connect.GluonObservableList;
 import com.gluonhq.connect.converter.InputStreamIterableInputConverter;
 import com.gluonhq.connect.converter.JsonIterableInputConverter;
+import com.gluonhq.connect.converter.NdjsonIterableInputConverter;
+import com.gluonhq.connect.converter.XmlIterableInputConverter;
 import com.gluonhq.connect.source.RestDataSource;
+import com.gluonhq.impl.connect.converter.ClassInspector;
+import javafx.beans.value.ObservableValue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class RestListDataReader<E> extends BaseRestProvider implements ListDataReader<E> {
 
+    private static final Logger LOG = Logger.getLogger(RestListDataReader.class.getName());
+
     private final Class<E> targetClass;
     private final InputStreamIterableInputConverter<E> inputConverter;
+    private final RestQuery query;
+    private final RestQueryDialect queryDialect;
 
     public RestListDataReader(RestDataSource dataSource, Class<E> targetClass) {
-        super(dataSource);
-
-        this.targetClass = targetClass;
-        this.inputConverter = null;
+        this(dataSource, targetClass, null, null);
     }
 
     public RestListDataReader(RestDataSource dataSource, InputStreamIterableInputConverter<E> inputConverter) {
@@ -52,6 +67,29 @@ public class RestListDataReader<E> extends BaseRestProvider implements ListDataR
 
         this.targetClass = null;
         this.inputConverter = inputConverter;
+        this.query = null;
+        this.queryDialect = null;
+    }
+
+    /**
+     * Construct a list data reader that reads a list of objects of the specified <code>targetClass</code>, sorted,
+     * filtered and projected according to the specified query. The query is translated into query parameters of the
+     * HTTP request with the specified dialect. The parts of the query that the dialect can not translate are applied
+     * on the client after the list was read.
+     *
+     * @param dataSource the rest data source to read the list from
+     * @param targetClass the class definition of the objects contained in the list
+     * @param query the query to apply on the list, can be <code>null</code>
+     * @param queryDialect the dialect that translates the query, or <code>null</code> to use the
+     *                     {@link RestQueryDialect#standard() standard} dialect
+     */
+    public RestListDataReader(RestDataSource dataSource, Class<E> targetClass, RestQuery query, RestQueryDialect queryDialect) {
+        super(dataSource);
+
+        this.targetClass = targetClass;
+        this.inputConverter = null;
+        this.query = query;
+        this.queryDialect = queryDialect == null ? RestQueryDialect.standard() : queryDialect;
     }
 
     @Override
@@ -61,22 +99,132 @@ public class RestListDataReader<E> extends BaseRestProvider implements ListDataR
 
     @Override
     public Iterator<E> iterator() throws IOException {
+        boolean filterOnClient = false;
+        boolean sortOnClient = false;
+        if (query != null) {
+            // copy the query parameters, so that the ones on the rest client are not modified
+            copyQueryParams();
+
+            if (!query.getFilters().isEmpty()) {
+                filterOnClient = !queryDialect.applyFilters(dataSource, query.getFilters());
+            }
+            if (!query.getSortOrders().isEmpty()) {
+                sortOnClient = !queryDialect.applySort(dataSource, query.getSortOrders());
+            }
+            if (!query.getProperties().isEmpty()) {
+                queryDialect.applyProjection(dataSource, query.getProperties());
+            }
+        }
+
         InputStream inputStream = dataSource.getInputStream();
         InputStreamIterableInputConverter<E> converter = inputConverter;
         if (converter == null) {
             String contentType = getContentType();
             if (contentType != null) {
                 if (contentType.startsWith(CONTENT_TYPE_APPLICATION_JSON)) {
-                    converter = new JsonIterableInputConverter<>(targetClass);
+                    converter = createJsonConverter(filterOnClient, sortOnClient);
+                } else if (contentType.startsWith(CONTENT_TYPE_APPLICATION_NDJSON)) {
+                    converter = new NdjsonIterableInputConverter<>(targetClass);
+                } else if (contentType.startsWith(CONTENT_TYPE_APPLICATION_XML) || contentType.startsWith(CONTENT_TYPE_TEXT_XML)) {
+                    converter = new XmlIterableInputConverter<>(targetClass);
                 } else {
                     throw new IllegalStateException("Could not determine IterableInputConverter based on Content-Type: " + contentType);
                 }
             } else {
-                converter = new JsonIterableInputConverter<>(targetClass);
+                converter = createJsonConverter(filterOnClient, sortOnClient);
             }
         }
 
         converter.setInputStream(inputStream);
-        return converter.iterator();
+        Iterator<E> iterator = converter.iterator();
+        if (!filterOnClient && !sortOnClient) {
+            return iterator;
+        }
+
+        LOG.log(Level.FINE, "Applying query on the client, filter: " + filterOnClient + ", sort: " + sortOnClient);
+
+        List<E> elements = new ArrayList<>();
+        while (iterator.hasNext()) {
+            E element = iterator.next();
+            if (element != null && (!filterOnClient || matches(element))) {
+                elements.add(element);
+            }
+        }
+        if (sortOnClient) {
+            elements.sort(this::compare);
+        }
+        return elements.iterator();
+    }
+
+    /**
+     * Creates the converter for a JSON response. When the query selects properties, only those properties are bound,
+     * together with the properties that are still needed to filter and sort on the client.
+     */
+    private JsonIterableInputConverter<E> createJsonConverter(boolean filterOnClient, boolean sortOnClient) {
+        JsonIterableInputConverter<E> converter = new JsonIterableInputConverter<>(targetClass);
+        if (query != null && !query.getProperties().isEmpty()) {
+            Set<String> properties = new LinkedHashSet<>(query.getProperties());
+            if (filterOnClient) {
+                properties.addAll(query.getFilters().keySet());
+            }
+            if (sortOnClient) {
+                for (RestQuery.SortOrder sortOrder : query.getSortOrders()) {
+                    properties.add(sortOrder.getProperty());
+                }
+            }
+            converter.setProperties(properties);
+        }
+        return converter;
+    }
+
+    private boolean matches(E element) {
+        for (Map.Entry<String, String> filter : query.getFilters().entrySet()) {
+            Object value = getPropertyValue(element, filter.getKey());
+            if (!Objects.equals(value == null ? null : value.toString(), filter.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E element1, E element2) {
+        for (RestQuery.SortOrder sortOrder : query.getSortOrders()) {
+            Object value1 = getPropertyValue(element1, sortOrder.getProperty());
+            Object value2 = getPropertyValue(element2, sortOrder.getProperty());
+
+            int result;
+            if (value1 == null || value2 == null) {
+                result = value1 == null ? (value2 == null ? 0 : -1) : 1;
+            } else if (value1 instanceof Comparable) {
+                result = ((Comparable<Object>) value1).compareTo(value2);
+            } else {
+                result = value1.toString().compareTo(value2.toString());
+            }
+
+            if (result != 0) {
+                return sortOrder.isAscending() ? result : -result;
+            }
+        }
+        return 0;
+    }
+
+    private Object getPropertyValue(E element, String property) {
+        ClassInspector<?> inspector = ClassInspector.resolve(element.getClass());
+        Map<String, Method> getters = inspector.getGetters();
+        Method getter = getters == null ? null : getters.get(property);
+        if (getter == null) {
+            throw new IllegalStateException("Could not apply query on property " + property + " of " + element.getClass());
+        }
+
+        try {
+            Object value = inspector.getValue(element, property);
+            if (value instanceof ObservableValue) {
+                value = ((ObservableValue<?>) value).getValue();
+            }
+            return value;
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Failed to call getter " + getter + " on object " + element, ex);
+        }
     }
 }
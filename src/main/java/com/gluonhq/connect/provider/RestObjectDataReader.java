@@ -27,14 +27,18 @@
 package com.gluonhq.connect.provider;
 
 import com.gluonhq.connect.GluonObservableObject;
+import com.gluonhq.connect.converter.ByteArrayInputConverter;
+import com.gluonhq.connect.converter.ByteBufferInputConverter;
 import com.gluonhq.connect.converter.InputStreamInputConverter;
 import com.gluonhq.connect.converter.JsonInputConverter;
+import com.gluonhq.connect.converter.RawInputConverter;
 import com.gluonhq.connect.converter.StringInputConverter;
 import com.gluonhq.connect.converter.VoidInputConverter;
 import com.gluonhq.connect.source.RestDataSource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 public class RestObjectDataReader<T> extends BaseRestProvider implements ObjectDataReader<T> {
 
@@ -66,7 +70,11 @@ public class RestObjectDataReader<T> extends BaseRestProvider implements ObjectD
         InputStreamInputConverter converter = inputConverter;
         if (converter == null) {
             if (targetClass != null && String.class.isAssignableFrom(targetClass)) {
-                converter = new StringInputConverter();
+                converter = new StringInputConverter(getContentCharset());
+            } else if (targetClass == byte[].class) {
+                converter = new ByteArrayInputConverter();
+            } else if (targetClass == ByteBuffer.class) {
+                converter = new ByteBufferInputConverter();
             } else if (targetClass != null && Void.class.isAssignableFrom(targetClass)) {
                 converter = new VoidInputConverter();
             } else {
@@ -79,7 +87,7 @@ public class RestObjectDataReader<T> extends BaseRestProvider implements ObjectD
                         if (contentType.startsWith(CONTENT_TYPE_APPLICATION_JSON)) {
                             converter = new JsonInputConverter<>(targetClass);
                         } else if (contentType.startsWith(CONTENT_TYPE_TEXT_PLAIN)) {
-                            converter = new StringInputConverter();
+                            converter = new StringInputConverter(getContentCharset());
                         } else {
                             throw new IllegalStateException("Could not determine InputConverter based on Content-Type: " + contentType);
                         }
@@ -90,6 +98,11 @@ public class RestObjectDataReader<T> extends BaseRestProvider implements ObjectD
             }
         }
 
+        if (converter instanceof RawInputConverter) {
+            ((RawInputConverter) converter).setContentLength(getContentLength());
+        } else if (converter instanceof StringInputConverter) {
+            ((StringInputConverter) converter).setContentLength(getContentLength());
+        }
         converter.setInputStream(inputStream);
         return (T) converter.read();
     }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.source.RestDataSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link PageLoader} that reads each page with a separate HTTP request. The offset and the maximum number of
+ * objects of the page are sent as query parameters. The total number of objects in the list is read from a response
+ * header. When the response header is missing, the total size is estimated from the loaded pages: when the last
+ * known page is full, the list grows by one element beyond it, so that accessing that element loads the next page.
+ *
+ * <p><b>Attention:</b> it is advised not to use this class directly, but rather construct it by creating a
+ * {@link RestClient} and build the page loader with the
+ * {@link RestClient#createPageLoader(Class, String, String, String)} method.</p>
+ *
+ * @param <E> the type of the objects contained in the list to read
+ */
+public class RestPageLoader<E> implements PageLoader<E> {
+
+    private static final Logger LOG = Logger.getLogger(RestPageLoader.class.getName());
+
+    private final Supplier<RestDataSource> dataSourceFactory;
+    private final Class<E> targetClass;
+    private final String offsetParam;
+    private final String limitParam;
+    private final String totalSizeHeader;
+    private final Set<RestDataSource> loadingDataSources = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Construct a new RestPageLoader.
+     *
+     * @param dataSourceFactory creates a new rest data source for each page that is read
+     * @param targetClass the class definition of the objects contained in the list
+     * @param offsetParam the name of the query parameter that holds the offset of the page
+     * @param limitParam the name of the query parameter that holds the maximum number of objects in the page
+     * @param totalSizeHeader the name of the response header that holds the total number of objects in the list
+     */
+    public RestPageLoader(Supplier<RestDataSource> dataSourceFactory, Class<E> targetClass,
+                          String offsetParam, String limitParam, String totalSizeHeader) {
+        this.dataSourceFactory = dataSourceFactory;
+        this.targetClass = targetClass;
+        this.offsetParam = offsetParam;
+        this.limitParam = limitParam;
+        this.totalSizeHeader = totalSizeHeader;
+    }
+
+    @Override
+    public Page<E> loadPage(int offset, int limit) throws IOException {
+        RestDataSource dataSource = dataSourceFactory.get();
+        RestListDataReader<E> reader = new RestListDataReader<>(dataSource, targetClass);
+        reader.copyQueryParams();
+        dataSource.addQueryParam(offsetParam, String.valueOf(offset));
+        dataSource.addQueryParam(limitParam, String.valueOf(limit));
+
+        List<E> items = new ArrayList<>(limit);
+        loadingDataSources.add(dataSource);
+        try {
+            for (Iterator<E> it = reader.iterator(); it.hasNext();) {
+                items.add(it.next());
+            }
+        } finally {
+            loadingDataSources.remove(dataSource);
+        }
+
+        int totalSize = -1;
+        String header = reader.getResponseHeader(totalSizeHeader);
+        if (header != null) {
+            try {
+                totalSize = Integer.parseInt(header.trim());
+            } catch (NumberFormatException ex) {
+                LOG.log(Level.WARNING, "Invalid total size in response header " + totalSizeHeader + ": " + header);
+            }
+        }
+        if (totalSize < 0) {
+            return new Page<>(items, offset + items.size() + (items.size() == limit ? 1 : 0), true);
+        }
+        return new Page<>(items, totalSize);
+    }
+
+    /**
+     * Closes the HTTP connections of the pages that are currently being loaded, so that loading them fails right
+     * away. This is called when the paged list that loads its pages with this page loader is cancelled.
+     */
+    void disconnect() {
+        for (RestDataSource dataSource : loadingDataSources) {
+            dataSource.disconnect();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A RestQuery describes which items of a remote list are needed, in which order and which of their properties.
+ * The query is declared in terms of property names, so that it can be translated into query parameters of the HTTP
+ * request by a {@link RestQueryDialect}. The server can then sort and filter the list and leave out the properties
+ * that are not needed, which reduces the amount of data that needs to be transferred and decoded.</p>
+ *
+ * <pre>
+ *     RestQuery query = RestQuery.create()
+ *             .filter("status", "open")
+ *             .sort("created", false)
+ *             .select("id", "title", "created");
+ *     GluonObservableList&lt;Issue&gt; issues = DataProvider.retrieveList(restClient.createListDataReader(Issue.class, query));
+ * </pre>
+ *
+ * <p>The parts of the query that the dialect is not able to translate are applied on the client after the list was
+ * read: filters and sort orders are evaluated on the values returned by the getters of the property.</p>
+ */
+public class RestQuery {
+
+    private final List<SortOrder> sortOrders = new ArrayList<>();
+    private final Map<String, String> filters = new LinkedHashMap<>();
+    private final List<String> properties = new ArrayList<>();
+
+    private RestQuery() {
+    }
+
+    /**
+     * Create an empty RestQuery.
+     *
+     * @return an empty RestQuery
+     */
+    public static RestQuery create() {
+        return new RestQuery();
+    }
+
+    /**
+     * Adds a sort order on the specified property. Sort orders are applied in the order in which they were added.
+     *
+     * @param property the name of the property to sort on
+     * @param ascending true to sort in ascending order, false to sort in descending order
+     * @return A reference to this query.
+     */
+    public RestQuery sort(String property, boolean ascending) {
+        sortOrders.add(new SortOrder(property, ascending));
+        return this;
+    }
+
+    /**
+     * Adds a filter that only matches items of which the specified property equals the specified value.
+     *
+     * @param property the name of the property to filter on
+     * @param value the value that the property must be equal to
+     * @return A reference to this query.
+     */
+    public RestQuery filter(String property, String value) {
+        filters.put(property, value);
+        return this;
+    }
+
+    /**
+     * Sets the properties that are needed by the client. When no properties are selected, all properties are needed.
+     *
+     * @param properties the names of the properties that are needed
+     * @return A reference to this query.
+     */
+    public RestQuery select(String... properties) {
+        this.properties.clear();
+        this.properties.addAll(Arrays.asList(properties));
+        return this;
+    }
+
+    /**
+     * Returns the sort orders of this query.
+     *
+     * @return an unmodifiable list of the sort orders
+     */
+    public List<SortOrder> getSortOrders() {
+        return Collections.unmodifiableList(sortOrders);
+    }
+
+    /**
+     * Returns the filters of this query, mapped from property name to the value that property must be equal to.
+     *
+     * @return an unmodifiable map of the filters
+     */
+    public Map<String, String> getFilters() {
+        return Collections.unmodifiableMap(filters);
+    }
+
+    /**
+     * Returns the names of the properties that are selected by this query.
+     *
+     * @return an unmodifiable list of the selected properties, which is empty when all properties are needed
+     */
+    public List<String> getProperties() {
+        return Collections.unmodifiableList(properties);
+    }
+
+    @Override
+    public String toString() {
+        return "RestQuery{" +
+                "sortOrders=" + sortOrders +
+                ", filters=" + filters +
+                ", properties=" + properties +
+                '}';
+    }
+
+    /**
+     * A sort order on a single property.
+     */
+    public static final class SortOrder {
+
+        private final String property;
+        private final boolean ascending;
+
+        private SortOrder(String property, boolean ascending) {
+            this.property = property;
+            this.ascending = ascending;
+        }
+
+        /**
+         * Returns the name of the property to sort on.
+         *
+         * @return the name of the property
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Returns whether the property is sorted in ascending order.
+         *
+         * @return true for ascending order, false for descending order
+         */
+        public boolean isAscending() {
+            return ascending;
+        }
+
+        @Override
+        public String toString() {
+            return (ascending ? "+" : "-") + property;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.source.RestDataSource;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A RestQueryDialect translates the parts of a {@link RestQuery} into query parameters on a {@link RestDataSource},
+ * following the conventions of a specific server. Each method returns whether the part of the query was translated.
+ * Parts that are not translated are applied on the client after the list was read.
+ *
+ * <p>A dialect is set on the {@link RestClient#queryDialect(RestQueryDialect) RestClient}. When no dialect is set,
+ * the {@link #standard() standard} dialect is used.</p>
+ */
+public interface RestQueryDialect {
+
+    /**
+     * Translates the sort orders of a query into query parameters.
+     *
+     * @param dataSource the data source to add the query parameters to
+     * @param sortOrders the sort orders to translate, never empty
+     * @return true if the server will sort the list, false if the list needs to be sorted on the client
+     */
+    default boolean applySort(RestDataSource dataSource, List<RestQuery.SortOrder> sortOrders) {
+        return false;
+    }
+
+    /**
+     * Translates the filters of a query into query parameters.
+     *
+     * @param dataSource the data source to add the query parameters to
+     * @param filters the filters to translate, mapped from property name to value, never empty
+     * @return true if the server will filter the list, false if the list needs to be filtered on the client
+     */
+    default boolean applyFilters(RestDataSource dataSource, Map<String, String> filters) {
+        return false;
+    }
+
+    /**
+     * Translates the selected properties of a query into query parameters.
+     *
+     * @param dataSource the data source to add the query parameters to
+     * @param properties the names of the selected properties, never empty
+     * @return true if the server will only return the selected properties
+     */
+    default boolean applyProjection(RestDataSource dataSource, List<String> properties) {
+        return false;
+    }
+
+    /**
+     * Returns a dialect that translates a query into the following query parameters:
+     *
+     * <ul>
+     *     <li>sort orders: <code>sort=+property1,-property2</code></li>
+     *     <li>filters: <code>property=value</code> for each filter</li>
+     *     <li>selected properties: <code>fields=property1,property2</code></li>
+     * </ul>
+     *
+     * @return the standard dialect
+     */
+    static RestQueryDialect standard() {
+        return queryParams("sort", "fields");
+    }
+
+    /**
+     * Returns a dialect that uses the specified query parameter names for sorting and selecting properties. Sort
+     * orders are written as a comma separated list of property names, prefixed with <code>+</code> or <code>-</code>
+     * for ascending or descending order. Filters are written as one query parameter per property.
+     *
+     * @param sortParam the name of the query parameter for sorting, or <code>null</code> when the server can not sort
+     * @param fieldsParam the name of the query parameter for selecting properties, or <code>null</code> when the server
+     *                    can not select properties
+     * @return a dialect that uses the specified query parameter names
+     */
+    static RestQueryDialect queryParams(String sortParam, String fieldsParam) {
+        return new RestQueryDialect() {
+            @Override
+            public boolean applySort(RestDataSource dataSource, List<RestQuery.SortOrder> sortOrders) {
+                if (sortParam == null) {
+                    return false;
+                }
+                dataSource.addQueryParam(sortParam, encode(sortOrders.stream()
+                        .map(RestQuery.SortOrder::toString)
+                        .collect(Collectors.joining(","))));
+                return true;
+            }
+
+            @Override
+            public boolean applyFilters(RestDataSource dataSource, Map<String, String> filters) {
+                for (Map.Entry<String, String> filter : filters.entrySet()) {
+                    dataSource.addQueryParam(encode(filter.getKey()), encode(filter.getValue()));
+                }
+                return true;
+            }
+
+            @Override
+            public boolean applyProjection(RestDataSource dataSource, List<String> properties) {
+                if (fieldsParam == null) {
+                    return false;
+                }
+                dataSource.addQueryParam(fieldsParam, encode(String.join(",", properties)));
+                return true;
+            }
+
+            private String encode(String value) {
+                try {
+                    return URLEncoder.encode(value, "UTF-8");
+                } catch (UnsupportedEncodingException ex) {
+                    throw new RuntimeException(ex.getMessage(), ex);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.converter.JsonConverter;
+import com.gluonhq.connect.converter.JsonInputConverter;
+import com.gluonhq.connect.source.WebSocketChannel;
+import com.gluonhq.connect.source.WebSocketDataSource;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>The WebSocketClient assists in using the {@link DataProvider} with a WebSocket endpoint as the data source. All
+ * readers, writers and synchronizers that are created by the same WebSocketClient share a single connection, over
+ * which the resources are multiplexed. For instance, to keep a list in sync with the server and send changes back to
+ * it, you can use the following code:</p>
+ *
+ * <pre>
+ *     WebSocketClient webSocketClient = WebSocketClient.create()
+ *             .uri("ws://myhost.com/sync");
+ *     GluonObservableList&lt;Todo&gt; todos = DataProvider.synchronizeList(
+ *             webSocketClient.createListSynchronizer("todos", Todo.class, Todo::getId));
+ *     DataProvider.storeObject(todo, webSocketClient.createObjectDataWriter("todos", Todo.class));
+ * </pre>
+ *
+ * @see WebSocketDataSource for the format of the frames
+ */
+public class WebSocketClient {
+
+    private String uri;
+    private int connectTimeout = -1;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
+    private WebSocketDataSource dataSource;
+
+    private WebSocketClient() {
+    }
+
+    /**
+     * Create a WebSocketClient builder for constructing a WebSocketDataSource or one of the classes that are used in
+     * the methods of the {@link DataProvider}.
+     *
+     * @return a WebSocketClient that can be used together with the {@link DataProvider}
+     */
+    public static WebSocketClient create() {
+        return new WebSocketClient();
+    }
+
+    /**
+     * Specify the URI of the WebSocket endpoint, e.g. <code>wss://myhost.com/sync</code>.
+     *
+     * @param uri the URI of the WebSocket endpoint
+     * @return a reference to this WebSocketClient
+     */
+    public WebSocketClient uri(String uri) {
+        this.uri = uri;
+        return this;
+    }
+
+    /**
+     * Specify the timeout in milliseconds to open the connection.
+     *
+     * @param connectTimeout the connect timeout in milliseconds
+     * @return a reference to this WebSocketClient
+     */
+    public WebSocketClient connectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * Add a header to the opening handshake of the connection.
+     *
+     * @param field the name of the header
+     * @param value the value of the header
+     * @return a reference to this WebSocketClient
+     */
+    public WebSocketClient header(String field, String value) {
+        headers.put(field, value);
+        return this;
+    }
+
+    /**
+     * Returns the WebSocketDataSource that holds the shared connection of this client. It is created with the
+     * parameters of this client the first time this method is called; parameters that are changed afterwards are
+     * ignored.
+     *
+     * @return the WebSocketDataSource that is shared by all readers, writers and synchronizers of this client
+     */
+    public synchronized WebSocketDataSource createWebSocketDataSource() {
+        if (dataSource == null) {
+            if (uri == null) {
+                throw new IllegalStateException("The uri of the WebSocket endpoint must be specified.");
+            }
+            dataSource = new WebSocketDataSource(URI.create(uri), headers, connectTimeout);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Creates an instance of {@link ObjectDataReader} that can be passed directly in the
+     * {@link DataProvider#retrieveObject(ObjectDataReader)} method. The object data reader waits for the next frame
+     * of the specified resource and converts its data into an object.
+     *
+     * @param resource the name of the resource
+     * @param targetClass the class definition of the object to read
+     * @param <T> the type of the object to read
+     * @return an ObjectDataReader instance that reads an object from the next frame of the resource
+     */
+    public <T> ObjectDataReader<T> createObjectDataReader(String resource, Class<T> targetClass) {
+        return new InputStreamObjectDataReader<>(getChannel(resource), new JsonInputConverter<>(targetClass));
+    }
+
+    /**
+     * Creates an instance of {@link ObjectDataWriter} that can be passed directly in the
+     * {@link DataProvider#storeObject(Object, ObjectDataWriter)} method. The object data writer sends each object as
+     * a <code>write</code> frame of the specified resource.
+     *
+     * @param resource the name of the resource
+     * @param targetClass the class definition of the object to write
+     * @param <T> the type of the object to write
+     * @return an ObjectDataWriter instance that sends objects as frames of the resource
+     */
+    public <T> ObjectDataWriter<T> createObjectDataWriter(String resource, Class<T> targetClass) {
+        return new WebSocketObjectDataWriter<>(getChannel(resource), new JsonConverter<>(targetClass),
+                WebSocketChannel.ACTION_WRITE);
+    }
+
+    /**
+     * Creates an instance of {@link WebSocketListSynchronizer} that can be passed directly in the
+     * {@link DataProvider#synchronizeList(WebSocketListSynchronizer)} method. The synchronizer maps the frames of the
+     * specified resource to mutations of the list.
+     *
+     * @param resource the name of the resource
+     * @param targetClass the class definition of the objects contained in the list
+     * @param keyExtractor the function that returns the key that identifies an object in the list
+     * @param <E> the type of the objects contained in the list
+     * @return a WebSocketListSynchronizer instance that keeps a list in sync with the resource
+     */
+    public <E> WebSocketListSynchronizer<E> createListSynchronizer(String resource, Class<E> targetClass,
+                                                                    Function<? super E, ?> keyExtractor) {
+        return new WebSocketListSynchronizer<>(getChannel(resource), new JsonConverter<>(targetClass), keyExtractor);
+    }
+
+    private WebSocketChannel getChannel(String resource) {
+        return createWebSocketDataSource().getChannel(resource);
+    }
+
+    @Override
+    public String toString() {
+        return "WebSocketClient{" +
+                "uri='" + uri + '\'' +
+                ", connectTimeout=" + connectTimeout +
+                ", headers=" + headers +
+                '}';
+    }
+}
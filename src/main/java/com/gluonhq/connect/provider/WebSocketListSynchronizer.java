@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.GluonObservableList;
+import com.gluonhq.connect.converter.JsonConverter;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.connect.source.WebSocketChannel;
+import com.gluonhq.impl.connect.ListDiff;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A WebSocketListSynchronizer keeps a {@link GluonObservableList} in sync with a resource on the server, by mapping
+ * the frames that are received over a {@link WebSocketChannel} to mutations of the list. The data of a frame is
+ * either a JSON object or a JSON array of objects, which are converted with a {@link JsonConverter}. The elements are
+ * matched by the key that is returned by the key extractor. The following actions are supported:
+ *
+ * <ul>
+ *     <li><code>set</code>: replaces the contents of the list, applying only the differences</li>
+ *     <li><code>add</code> and <code>update</code>: replaces the elements with the same key, or adds them at the end
+ *     of the list</li>
+ *     <li><code>remove</code>: removes the elements with the same key</li>
+ * </ul>
+ *
+ * <p>When the connection is lost, the synchronizer waits for the retry delay and reopens the connection, after which
+ * the server is expected to send the current contents of the resource with a <code>set</code> frame. The channel
+ * subscribes again in the same way when the frames arrive faster than they are applied and its queue is full.</p>
+ *
+ * <p><b>Attention:</b> it is advised not to use this class directly, but rather construct it by creating a
+ * {@link WebSocketClient} and build the synchronizer with the
+ * {@link WebSocketClient#createListSynchronizer(String, Class, Function)} method. The synchronizer is passed in to
+ * {@link DataProvider#synchronizeList(WebSocketListSynchronizer)}.</p>
+ *
+ * @param <E> the type of the objects contained in the list
+ */
+public class WebSocketListSynchronizer<E> {
+
+    private static final Logger LOG = Logger.getLogger(WebSocketListSynchronizer.class.getName());
+
+    private static final String OPERATION = "WebSocketListSynchronizer";
+
+    public static final String ACTION_SET = "set";
+    public static final String ACTION_ADD = "add";
+    public static final String ACTION_UPDATE = "update";
+    public static final String ACTION_REMOVE = "remove";
+
+    /**
+     * The default time in milliseconds to wait before reconnecting.
+     */
+    public static final long DEFAULT_RETRY_DELAY = 3000;
+
+    private final WebSocketChannel channel;
+    private final JsonConverter<E> converter;
+    private final Function<? super E, ?> keyExtractor;
+
+    private volatile long retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * Construct a new WebSocketListSynchronizer.
+     *
+     * @param channel the channel of the resource that is synchronized
+     * @param converter the converter that converts the data of the frames into objects
+     * @param keyExtractor the function that returns the key that identifies an object in the list
+     */
+    public WebSocketListSynchronizer(WebSocketChannel channel, JsonConverter<E> converter, Function<? super E, ?> keyExtractor) {
+        this.channel = channel;
+        this.converter = converter;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Returns the channel of the resource that is synchronized.
+     *
+     * @return the WebSocket channel
+     */
+    public WebSocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns an instance of {@link GluonObservableList} that will be synchronized with the resource.
+     *
+     * @return an instance of GluonObservableList
+     */
+    public GluonObservableList<E> newGluonObservableList() {
+        return new GluonObservableList<>();
+    }
+
+    /**
+     * Returns the time in milliseconds to wait before reconnecting after the connection was lost.
+     *
+     * @return the reconnection delay in milliseconds
+     */
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait before reconnecting after the connection was lost.
+     *
+     * @param retryDelay the reconnection delay in milliseconds
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Receives the frames of the resource and passes the decoded changes to the consumer, reconnecting whenever the
+     * connection is lost. This method only returns by throwing an exception, after closing the channel.
+     *
+     * @param consumer the consumer that receives the changes in the order the frames were received
+     * @throws InterruptedException when the current thread was interrupted
+     */
+    void read(Consumer<Change<E>> consumer) throws InterruptedException {
+        try {
+            while (true) {
+                try {
+                    WebSocketChannel.Message message = channel.receive();
+                    consumer.accept(decode(message));
+                } catch (IOException ex) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedException("Synchronizing " + channel.getResource() + " was interrupted.");
+                    }
+                    LOG.log(Level.FINE, "WebSocket connection was lost, reconnecting in " + retryDelay + " ms.", ex);
+                    Metrics.getRecorder().recordRetry(OPERATION);
+                    Thread.sleep(retryDelay);
+                }
+            }
+        } finally {
+            // stop receiving frames, so they don't pile up in the channel once nobody reads them
+            channel.close();
+        }
+    }
+
+    Change<E> decode(WebSocketChannel.Message message) {
+        final long start = System.nanoTime();
+        List<E> elements;
+        JsonValue data = message.getData();
+        if (data == null || data == JsonValue.NULL) {
+            elements = Collections.emptyList();
+        } else if (data.getValueType() == JsonValue.ValueType.ARRAY) {
+            elements = new ArrayList<>();
+            for (JsonValue value : data.asJsonArray()) {
+                if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                    elements.add(converter.readFromJson((JsonObject) value));
+                }
+            }
+        } else if (data.getValueType() == JsonValue.ValueType.OBJECT) {
+            elements = Collections.singletonList(converter.readFromJson((JsonObject) data));
+        } else {
+            LOG.log(Level.WARNING, "Ignoring data of " + channel.getResource() + " frame that is not a JSON object or array: " + data);
+            elements = Collections.emptyList();
+        }
+        Metrics.getRecorder().recordTiming(OPERATION, Phase.DECODE, System.nanoTime() - start);
+        return new Change<>(message.getAction(), elements);
+    }
+
+    /**
+     * Applies the change to the target list.
+     *
+     * @param target the list to update
+     * @param change the change that was decoded from a frame
+     * @return the number of modifications that were applied on the target list
+     */
+    int apply(List<E> target, Change<E> change) {
+        if (change.action == null) {
+            LOG.log(Level.FINE, "Ignoring " + channel.getResource() + " frame without action.");
+            return 0;
+        }
+        switch (change.action) {
+            case ACTION_SET:
+                return ListDiff.apply(target, change.elements, keyExtractor);
+            case ACTION_ADD:
+            case ACTION_UPDATE:
+                return ListDiff.merge(target, change.elements, keyExtractor);
+            case ACTION_REMOVE: {
+                Set<Object> keys = new HashSet<>();
+                for (E element : change.elements) {
+                    keys.add(keyExtractor.apply(element));
+                }
+                int modifications = 0;
+                for (int i = target.size() - 1; i >= 0; i--) {
+                    if (keys.contains(keyExtractor.apply(target.get(i)))) {
+                        target.remove(i);
+                        modifications++;
+                    }
+                }
+                return modifications;
+            }
+            default:
+                LOG.log(Level.FINE, "Ignoring " + channel.getResource() + " frame with unknown action " + change.action);
+                return 0;
+        }
+    }
+
+    static final class Change<E> {
+
+        private final String action;
+        private final List<E> elements;
+
+        Change(String action, List<E> elements) {
+            this.action = action;
+            this.elements = elements;
+        }
+    }
+}
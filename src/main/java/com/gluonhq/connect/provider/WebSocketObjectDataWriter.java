@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.GluonObservableObject;
+import com.gluonhq.connect.converter.JsonConverter;
+import com.gluonhq.connect.source.WebSocketChannel;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * An implementation of {@link ObjectDataWriter} that sends each written object as a frame over a
+ * {@link WebSocketChannel}. The object is converted into the JSON data of the frame with a {@link JsonConverter}.
+ *
+ * <p><b>Attention:</b> it is advised not to use this class directly, but rather construct it by creating a
+ * {@link WebSocketClient} and build the writer with the {@link WebSocketClient#createObjectDataWriter(String, Class)}
+ * method.</p>
+ *
+ * @param <T> the type of the object to write
+ */
+public class WebSocketObjectDataWriter<T> implements ObjectDataWriter<T> {
+
+    private final WebSocketChannel channel;
+    private final JsonConverter<T> converter;
+    private final String action;
+
+    /**
+     * Construct a new WebSocketObjectDataWriter.
+     *
+     * @param channel the channel of the resource to which the objects are sent
+     * @param converter the converter that converts an object into the data of a frame
+     * @param action the action of the frames that are sent
+     */
+    public WebSocketObjectDataWriter(WebSocketChannel channel, JsonConverter<T> converter, String action) {
+        this.channel = channel;
+        this.converter = converter;
+        this.action = action;
+    }
+
+    @Override
+    public GluonObservableObject<T> newGluonObservableObject() {
+        return new GluonObservableObject<>();
+    }
+
+    /**
+     * Sends the object as a frame and returns an Optional that contains the exact same object instance that was
+     * passed in.
+     *
+     * @param object the object to write
+     * @return the object that will ultimately be set on the GluonObservableObject
+     * @throws IOException when the frame could not be sent
+     */
+    @Override
+    public Optional<T> writeObject(T object) throws IOException {
+        channel.send(action, converter.writeToJson(object));
+        return Optional.of(object);
+    }
+}
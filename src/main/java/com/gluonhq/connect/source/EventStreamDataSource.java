@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.source;
+
+import com.gluonhq.connect.MultiValuedMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An InputDataSource that opens a long-lived HTTP connection to a streaming endpoint, which either sends Server-Sent
+ * Events (<code>text/event-stream</code>) or newline-delimited JSON (<code>application/x-ndjson</code>). A new
+ * connection is opened with a fresh {@link RestDataSource} each time {@link #getInputStream()} is called, so that the
+ * stream can be resumed after the connection was lost. When an event id was received, it is sent back to the server
+ * with the <code>Last-Event-ID</code> request header.
+ *
+ * <p><b>Attention:</b> it is advised not to use this class directly, but rather construct it by creating a
+ * {@link com.gluonhq.connect.provider.RestClient} and build the reader with the
+ * {@link com.gluonhq.connect.provider.RestClient#createEventStreamReader(Class)} method.</p>
+ */
+public class EventStreamDataSource implements InputDataSource {
+
+    private static final Logger LOG = Logger.getLogger(EventStreamDataSource.class.getName());
+
+    /**
+     * The default time in milliseconds to wait before reconnecting, when the server did not specify one.
+     */
+    public static final long DEFAULT_RETRY_DELAY = 3000;
+
+    private static final String ACCEPT = "text/event-stream, application/x-ndjson";
+
+    private final Supplier<RestDataSource> dataSourceFactory;
+
+    private volatile RestDataSource dataSource;
+    private volatile String lastEventId;
+    private volatile long retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * Construct a new EventStreamDataSource.
+     *
+     * @param dataSourceFactory creates a new rest data source for each connection that is opened
+     */
+    public EventStreamDataSource(Supplier<RestDataSource> dataSourceFactory) {
+        this.dataSourceFactory = dataSourceFactory;
+    }
+
+    /**
+     * Opens a new connection to the streaming endpoint and returns the stream of events.
+     *
+     * @return an InputStream that receives the events that are sent by the server
+     * @throws IOException when the connection could not be established or the server responded with an error
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        RestDataSource restDataSource = dataSourceFactory.get();
+
+        // copy the headers, as they are shared with the rest client that created the data source
+        MultiValuedMap<String, String> headers = new MultiValuedMap<>();
+        if (restDataSource.getHeaders() != null) {
+            for (Map.Entry<String, List<String>> header : restDataSource.getHeaders().entrySet()) {
+                headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+        if (!headers.containsKey("Accept")) {
+            headers.putSingle("Accept", ACCEPT);
+        }
+        if (lastEventId != null) {
+            headers.putSingle("Last-Event-ID", lastEventId);
+        }
+        restDataSource.setHeaders(headers);
+
+        this.dataSource = restDataSource;
+        InputStream inputStream = restDataSource.getInputStream();
+        int responseCode = restDataSource.getResponseCode();
+        if (responseCode >= 300 || responseCode == 204) {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            throw new IOException("Stream was refused with response " + responseCode + " " + restDataSource.getResponseMessage());
+        }
+
+        LOG.log(Level.FINE, "Connected to event stream at " + restDataSource.getHost() + restDataSource.getPath()
+                + (lastEventId != null ? ", resuming after event " + lastEventId : ""));
+        return inputStream;
+    }
+
+    /**
+     * Returns whether the current connection sends Server-Sent Events, based on its Content-Type response header.
+     * When it doesn't, each line of the stream is treated as a separate JSON document.
+     *
+     * @return true if the content type of the current connection is <code>text/event-stream</code>
+     */
+    public boolean isServerSentEvents() {
+        RestDataSource current = dataSource;
+        if (current == null || current.getResponseHeaders() == null) {
+            return false;
+        }
+        for (Map.Entry<String, List<String>> header : current.getResponseHeaders().entrySet()) {
+            if ("Content-Type".equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                for (String value : header.getValue()) {
+                    if (value != null && value.toLowerCase().startsWith("text/event-stream")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the rest data source of the current connection.
+     *
+     * @return the rest data source of the current connection, or <code>null</code> if no connection was opened yet
+     */
+    public RestDataSource getRestDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Closes the current connection. A thread that is blocked while reading from the stream will receive an
+     * IOException.
+     */
+    public void disconnect() {
+        RestDataSource current = dataSource;
+        if (current != null) {
+            current.disconnect();
+        }
+    }
+
+    /**
+     * Returns the id of the last event that was received.
+     *
+     * @return the id of the last event, or <code>null</code> if no event id was received
+     */
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * Sets the id of the last event that was received. It is sent with the <code>Last-Event-ID</code> request header
+     * when the next connection is opened.
+     *
+     * @param lastEventId the id of the last event
+     */
+    public void setLastEventId(String lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * Returns the time in milliseconds to wait before reconnecting after the connection was lost.
+     *
+     * @return the reconnection delay in milliseconds
+     */
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait before reconnecting after the connection was lost. This is updated when
+     * the server sends a <code>retry</code> field.
+     *
+     * @param retryDelay the reconnection delay in milliseconds
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
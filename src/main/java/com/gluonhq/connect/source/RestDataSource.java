@@ -28,19 +28,24 @@ package com.gluonhq.connect.source;
 
 import com.gluonhq.connect.provider.RestClient;
 import com.gluonhq.connect.MultiValuedMap;
+import com.gluonhq.connect.metrics.Metrics;
+import com.gluonhq.connect.metrics.Phase;
+import com.gluonhq.impl.connect.BufferPool;
+import com.gluonhq.impl.connect.MeteredInputStream;
 import com.gluonhq.impl.connect.OAuth;
+import com.gluonhq.impl.connect.PooledInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PushbackInputStream;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.security.GeneralSecurityException;
 import java.util.List;
 import java.util.Map;
@@ -75,7 +80,7 @@ public class RestDataSource implements IODataSource {
     private MultiValuedMap<String, byte[]> multipartByteFields = new MultiValuedMap<>();
     private String contentType;
 
-    private HttpURLConnection connection;
+    private volatile HttpURLConnection connection;
 
     private Map<String, List<String>> responseHeaders;
     private int responseCode = -1;
@@ -508,6 +513,7 @@ public class RestDataSource implements IODataSource {
     }
 
     private InputStream createInputStream() throws IOException {
+        long start = System.nanoTime();
         createRequest();
 
         // HttpURLConnection.getDoOutput() is true if the output stream has already been written to
@@ -519,8 +525,8 @@ public class RestDataSource implements IODataSource {
                 }
                 connection.setRequestProperty("Content-Type", contentType);
 
-                try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(connection.getOutputStream())) {
-                    outputStreamWriter.write(dataString);
+                try (OutputStream outputStream = connection.getOutputStream()) {
+                    BufferPool.getShared().write(outputStream, dataString, Charset.defaultCharset());
                 }
             } else if ("multipart/form-data".equals(contentType)) {
                 connection.setDoOutput(true);
@@ -532,16 +538,18 @@ public class RestDataSource implements IODataSource {
             }
         }
 
+        String operation = "RestDataSource." + method;
+        connection.connect();
+        long connected = System.nanoTime();
+        Metrics.getRecorder().recordTiming(operation, Phase.CONNECT, connected - start);
+        int code = connection.getResponseCode();
+        Metrics.getRecorder().recordTiming(operation, Phase.FIRST_BYTE, System.nanoTime() - connected);
+
         InputStream finalInputStream;
-        if (connection.getResponseCode() < HttpURLConnection.HTTP_BAD_REQUEST) {
+        if (code < HttpURLConnection.HTTP_BAD_REQUEST) {
             InputStream inputStream = connection.getInputStream();
-            PushbackInputStream pb = new PushbackInputStream(inputStream, 2);
-            byte[] hdr = new byte[2];
-            int bytesRead = pb.read(hdr);
-            if (bytesRead >= 0) {
-                pb.unread(hdr, 0, bytesRead);
-            }
-            if (bytesRead == 2 && hdr[0] == (byte) GZIPInputStream.GZIP_MAGIC && hdr[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            PooledInputStream pb = new PooledInputStream(inputStream);
+            if (pb.peek(0) == (GZIPInputStream.GZIP_MAGIC & 0xFF) && pb.peek(1) == (GZIPInputStream.GZIP_MAGIC >> 8)) {
                 finalInputStream = new GZIPInputStream(pb);
             } else {
                 finalInputStream = pb;
@@ -549,6 +557,9 @@ public class RestDataSource implements IODataSource {
         } else {
             finalInputStream = connection.getErrorStream();
         }
+        if (finalInputStream != null && Metrics.isEnabled()) {
+            finalInputStream = new MeteredInputStream(finalInputStream, operation);
+        }
 
         // Try to get the response headers, response code and response message that were returned from the server.
         // When these are not available, the original IOException will be thrown instead.
@@ -570,8 +581,8 @@ public class RestDataSource implements IODataSource {
         if (dataString != null && "application/x-www-form-urlencoded".equals(contentType)) {
             connection.setRequestProperty("Content-Type", contentType);
 
-            try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(connection.getOutputStream())) {
-                outputStreamWriter.write(dataString);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                BufferPool.getShared().write(outputStream, dataString, Charset.defaultCharset());
             }
         } else if ("multipart/form-data".equals(contentType)) {
             String boundary = addMultipartBoundary(connection);
@@ -605,6 +616,19 @@ public class RestDataSource implements IODataSource {
         return queryString.toString();
     }
 
+    /**
+     * Closes the HTTP connection of this data source, if it was already created. A thread that is blocked while
+     * connecting to or reading from the connection will receive an IOException. This can be called from any thread
+     * to abort a request that is in progress.
+     */
+    public void disconnect() {
+        HttpURLConnection c = connection;
+        if (c != null) {
+            LOG.log(Level.FINE, "Disconnecting from " + c.getURL());
+            c.disconnect();
+        }
+    }
+
     /**
      * Gets the response header fields from an HTTP response message.
      *
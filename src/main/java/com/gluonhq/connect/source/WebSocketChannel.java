@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.source;
+
+import com.gluonhq.impl.connect.converter.JsonUtil;
+
+import javax.json.JsonException;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A WebSocketChannel sends and receives the frames of a single resource over the shared connection of a
+ * {@link WebSocketDataSource}. Frames that arrive for the resource are queued until they are received. At most
+ * {@link #MAX_QUEUED_MESSAGES} frames are queued. When the receiver can't keep up, the queued frames are discarded
+ * and the channel subscribes to the resource again, so that the server sends its current contents instead of the
+ * changes that were missed. A channel stops receiving frames when it is {@link #close() closed}.
+ *
+ * <p>When used as an {@link IODataSource}, {@link #getInputStream()} waits for the next frame of the resource and
+ * returns its data, while {@link #getOutputStream()} returns a stream that sends the written JSON data as a
+ * <code>write</code> frame when it is closed.</p>
+ */
+public class WebSocketChannel implements IODataSource {
+
+    /**
+     * The action of the frame that is sent when the output stream of the channel is closed.
+     */
+    public static final String ACTION_WRITE = "write";
+
+    /**
+     * The maximum number of received frames that are queued until they are received. When a frame arrives while
+     * the queue is full, the queue is cleared and the channel subscribes to the resource again.
+     */
+    public static final int MAX_QUEUED_MESSAGES = 1024;
+
+    private static final Logger LOG = Logger.getLogger(WebSocketChannel.class.getName());
+
+    private static final Message CLOSED = new Message(null, null);
+
+    private final WebSocketDataSource dataSource;
+    private final String resource;
+    private final BlockingQueue<Message> messages = new LinkedBlockingQueue<>(MAX_QUEUED_MESSAGES);
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    private volatile boolean subscribed;
+    private volatile Throwable closeCause;
+
+    WebSocketChannel(WebSocketDataSource dataSource, String resource) {
+        this.dataSource = dataSource;
+        this.resource = resource;
+    }
+
+    /**
+     * Returns the name of the resource of this channel.
+     *
+     * @return the name of the resource
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Returns the data source that holds the connection of this channel.
+     *
+     * @return the WebSocket data source
+     */
+    public WebSocketDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Waits for the next frame of the resource. The first time this is called, the channel subscribes to the
+     * resource. When the connection was closed, it is reopened.
+     *
+     * @return the next message of the resource
+     * @throws IOException when the connection could not be opened or was closed while waiting
+     * @throws InterruptedException when the current thread was interrupted while waiting
+     */
+    public Message receive() throws IOException, InterruptedException {
+        if (!subscribed) {
+            subscribed = true;
+            subscribe();
+        } else {
+            dataSource.ensureConnected();
+        }
+
+        while (true) {
+            Message message = messages.take();
+            if (message != CLOSED) {
+                return message;
+            }
+            // a close marker of an earlier connection is skipped when the connection was reopened in the meantime
+            if (!dataSource.isConnected()) {
+                throw new IOException("WebSocket connection was closed.", closeCause);
+            }
+        }
+    }
+
+    /**
+     * Sends a frame with the specified action and data for the resource of this channel.
+     *
+     * @param action the action of the frame
+     * @param data the data of the frame, or <code>null</code>
+     * @throws IOException when the connection could not be opened or the frame could not be sent
+     */
+    public void send(String action, JsonValue data) throws IOException {
+        dataSource.send(resource, action, data);
+    }
+
+    /**
+     * Waits for the next frame of the resource and returns an InputStream that reads its data as JSON text.
+     *
+     * @return an InputStream that contains the data of the next frame
+     * @throws IOException when no frame could be received
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        try {
+            Message message = receive();
+            String data = message.getData() == null ? "" : message.getData().toString();
+            return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a WebSocket frame.", ex);
+        }
+    }
+
+    /**
+     * Returns an OutputStream that collects JSON data, which is sent as the data of a <code>write</code> frame when
+     * the stream is closed.
+     *
+     * @return an OutputStream to write the JSON data of a frame to
+     */
+    @Override
+    public OutputStream getOutputStream() {
+        return new ByteArrayOutputStream() {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+
+                JsonValue data;
+                try (JsonReader reader = JsonUtil.createJsonReader(toString(StandardCharsets.UTF_8))) {
+                    data = reader.read();
+                } catch (JsonException ex) {
+                    throw new IOException("Only JSON data can be sent over a WebSocket channel.", ex);
+                }
+                send(ACTION_WRITE, data);
+            }
+        };
+    }
+
+    /**
+     * Stops receiving the frames of the resource. An <code>unsubscribe</code> frame is sent without waiting for it,
+     * when the connection is open, and the frames that are still queued are discarded. The channel subscribes again
+     * when {@link #receive()} is called afterwards.
+     */
+    public void close() {
+        if (!subscribed) {
+            return;
+        }
+        subscribed = false;
+        messages.clear();
+        if (dataSource.isConnected()) {
+            try {
+                dataSource.sendAsync(resource, WebSocketDataSource.ACTION_UNSUBSCRIBE, null);
+            } catch (IOException ex) {
+                LOG.log(Level.FINE, "Failed to unsubscribe from " + resource, ex);
+            }
+        }
+    }
+
+    boolean isSubscribed() {
+        return subscribed;
+    }
+
+    void subscribe() throws IOException {
+        send(WebSocketDataSource.ACTION_SUBSCRIBE, null);
+    }
+
+    void received(Message message) {
+        if (!subscribed) {
+            return;
+        }
+        if (!messages.offer(message)) {
+            resubscribe(message);
+        }
+    }
+
+    /**
+     * Discards the queued frames, which can't be applied anymore once a frame is missing, and subscribes to the
+     * resource again, so that the server sends its current contents.
+     */
+    private void resubscribe(Message message) {
+        int discarded = messages.size() + 1;
+        messages.clear();
+        long dropped = droppedMessages.addAndGet(discarded);
+        LOG.log(Level.WARNING, "Discarded " + discarded + " frames of " + resource + " at " + message.getAction()
+                + " frame, the queue is full (" + dropped + " frames dropped in total). Subscribing again.");
+        try {
+            dataSource.sendAsync(resource, WebSocketDataSource.ACTION_UNSUBSCRIBE, null);
+            dataSource.sendAsync(resource, WebSocketDataSource.ACTION_SUBSCRIBE, null);
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Failed to subscribe again to " + resource, ex);
+        }
+    }
+
+    void closed(Throwable cause) {
+        if (subscribed) {
+            closeCause = cause;
+            // the close marker must always be queued, so it takes the place of the oldest frame when the queue is full
+            while (!messages.offer(CLOSED)) {
+                if (messages.poll() != null) {
+                    droppedMessages.incrementAndGet();
+                    LOG.log(Level.WARNING, "Dropped a frame of " + resource + " to queue the close of the connection.");
+                }
+            }
+        }
+    }
+
+    /**
+     * A frame that was received for the resource of a channel.
+     */
+    public static final class Message {
+
+        private final String action;
+        private final JsonValue data;
+
+        Message(String action, JsonValue data) {
+            this.action = action;
+            this.data = data;
+        }
+
+        /**
+         * Returns the action of the frame.
+         *
+         * @return the action, or <code>null</code> if the frame didn't specify one
+         */
+        public String getAction() {
+            return action;
+        }
+
+        /**
+         * Returns the data of the frame.
+         *
+         * @return the data, or <code>null</code> if the frame didn't contain data
+         */
+        public JsonValue getData() {
+            return data;
+        }
+    }
+}
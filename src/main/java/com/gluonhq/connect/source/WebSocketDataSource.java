@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.source;
+
+import com.gluonhq.impl.connect.converter.JsonUtil;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A WebSocketDataSource maintains a single WebSocket connection over which many resources are multiplexed. Each
+ * resource is accessed through its own {@link WebSocketChannel}, which can be used as an {@link IODataSource}.
+ *
+ * <p>Every frame that is sent or received is a JSON object that identifies the resource it belongs to, the action
+ * and the data of the frame:</p>
+ *
+ * <pre>
+ *     {"resource": "todos", "action": "update", "data": {"id": 1, "title": "Buy milk"}}
+ * </pre>
+ *
+ * <p>A channel sends a <code>subscribe</code> frame when it starts receiving and an <code>unsubscribe</code> frame when
+ * it is closed, so the server only needs to push the resources that the client is interested in. The server is
+ * expected to answer a <code>subscribe</code> frame with the current contents of the resource. The connection is
+ * opened lazily and is reopened when a channel is used after it was closed, in which case all subscriptions are sent
+ * again.</p>
+ *
+ * <p><b>Attention:</b> it is advised not to use this class directly, but rather construct it by creating a
+ * {@link com.gluonhq.connect.provider.WebSocketClient} and obtain the data source with the
+ * {@link com.gluonhq.connect.provider.WebSocketClient#createWebSocketDataSource()} method.</p>
+ */
+public class WebSocketDataSource {
+
+    private static final Logger LOG = Logger.getLogger(WebSocketDataSource.class.getName());
+
+    static final String RESOURCE = "resource";
+    static final String ACTION = "action";
+    static final String DATA = "data";
+
+    /**
+     * The action of the frame that a channel sends when it starts receiving.
+     */
+    public static final String ACTION_SUBSCRIBE = "subscribe";
+
+    /**
+     * The action of the frame that a channel sends when it is closed.
+     */
+    public static final String ACTION_UNSUBSCRIBE = "unsubscribe";
+
+    private final URI uri;
+    private final Map<String, String> headers;
+    private final int connectTimeout;
+    private final Map<String, WebSocketChannel> channels = new ConcurrentHashMap<>();
+
+    private CompletableFuture<WebSocket> webSocket;
+    private boolean reconnecting;
+    private CompletableFuture<?> sending = CompletableFuture.completedFuture(null);
+
+    /**
+     * Construct a new WebSocketDataSource.
+     *
+     * @param uri the URI of the WebSocket endpoint, with the <code>ws</code> or <code>wss</code> scheme
+     * @param headers the headers to add to the opening handshake
+     * @param connectTimeout the timeout in milliseconds to open the connection, or -1 to use no timeout
+     */
+    public WebSocketDataSource(URI uri, Map<String, String> headers, int connectTimeout) {
+        this.uri = uri;
+        this.headers = new LinkedHashMap<>(headers);
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Returns the URI of the WebSocket endpoint.
+     *
+     * @return the URI of the WebSocket endpoint
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * Returns the channel for the specified resource. The same channel is returned for the same resource.
+     *
+     * @param resource the name of the resource
+     * @return the channel that sends and receives the frames of the resource
+     */
+    public WebSocketChannel getChannel(String resource) {
+        return channels.computeIfAbsent(resource, r -> new WebSocketChannel(this, r));
+    }
+
+    /**
+     * Returns whether the WebSocket connection is currently open.
+     *
+     * @return true if the connection is open
+     */
+    public synchronized boolean isConnected() {
+        return webSocket != null && webSocket.isDone() && !webSocket.isCompletedExceptionally()
+                && !webSocket.join().isOutputClosed();
+    }
+
+    /**
+     * Closes the WebSocket connection. Channels that are waiting for a frame will receive an IOException.
+     */
+    public void close() {
+        CompletableFuture<WebSocket> current;
+        synchronized (this) {
+            current = webSocket;
+            webSocket = null;
+            reconnecting = false;
+        }
+        if (current != null && current.isDone() && !current.isCompletedExceptionally()) {
+            WebSocket ws = current.join();
+            ws.sendClose(WebSocket.NORMAL_CLOSURE, "").whenComplete((w, t) -> ws.abort());
+        } else if (current != null) {
+            current.cancel(true);
+        }
+        closed(null);
+    }
+
+    /**
+     * Sends a frame for the specified resource. Frames are sent one after the other in the order this method is
+     * called.
+     *
+     * @param resource the name of the resource
+     * @param action the action of the frame
+     * @param data the data of the frame, or <code>null</code>
+     * @throws IOException when the connection could not be opened or the frame could not be sent
+     */
+    void send(String resource, String action, JsonValue data) throws IOException {
+        await(sendAsync(resource, action, data));
+    }
+
+    /**
+     * Sends a frame for the specified resource without waiting until it was sent.
+     *
+     * @param resource the name of the resource
+     * @param action the action of the frame
+     * @param data the data of the frame, or <code>null</code>
+     * @return a future that completes when the frame was sent
+     * @throws IOException when the connection could not be opened
+     */
+    CompletableFuture<?> sendAsync(String resource, String action, JsonValue data) throws IOException {
+        JsonObjectBuilder builder = Json.createObjectBuilder()
+                .add(RESOURCE, resource)
+                .add(ACTION, action);
+        if (data != null) {
+            builder.add(DATA, data);
+        }
+        String text = builder.build().toString();
+
+        WebSocket ws = ensureConnected();
+        CompletableFuture<?> sent;
+        synchronized (this) {
+            // the WebSocket API doesn't allow a new frame to be sent before the previous one completed
+            sent = sending.handle((r, t) -> null).thenCompose(v -> ws.sendText(text, true));
+            sending = sent;
+        }
+        return sent;
+    }
+
+    /**
+     * Opens the WebSocket connection when it is not open yet. When a connection was opened before, the channels that
+     * were receiving frames are subscribed again.
+     *
+     * @return the open WebSocket
+     * @throws IOException when the connection could not be opened
+     */
+    WebSocket ensureConnected() throws IOException {
+        CompletableFuture<WebSocket> current;
+        boolean resubscribe = false;
+        synchronized (this) {
+            if (webSocket == null || webSocket.isCompletedExceptionally()
+                    || (webSocket.isDone() && webSocket.join().isOutputClosed())) {
+                HttpClient.Builder clientBuilder = HttpClient.newBuilder();
+                WebSocket.Builder builder = clientBuilder.build().newWebSocketBuilder();
+                if (connectTimeout > -1) {
+                    builder.connectTimeout(Duration.ofMillis(connectTimeout));
+                }
+                headers.forEach(builder::header);
+                webSocket = builder.buildAsync(uri, new Listener());
+                sending = CompletableFuture.completedFuture(null);
+                resubscribe = reconnecting;
+                reconnecting = true;
+            }
+            current = webSocket;
+        }
+
+        WebSocket ws = await(current);
+        if (resubscribe) {
+            LOG.log(Level.FINE, "Reopened WebSocket connection to " + uri);
+            for (WebSocketChannel channel : channels.values()) {
+                if (channel.isSubscribed()) {
+                    channel.subscribe();
+                }
+            }
+        }
+        return ws;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the WebSocket connection.", ex);
+        } catch (ExecutionException ex) {
+            throw new IOException("WebSocket operation failed.", ex.getCause());
+        }
+    }
+
+    private void received(String text) {
+        JsonObject frame;
+        try (JsonReader reader = JsonUtil.createJsonReader(text)) {
+            frame = reader.readObject();
+        } catch (JsonException | ClassCastException ex) {
+            LOG.log(Level.WARNING, "Ignoring WebSocket frame that is not a JSON object: " + text, ex);
+            return;
+        }
+
+        String resource = frame.getString(RESOURCE, null);
+        WebSocketChannel channel = resource == null ? null : channels.get(resource);
+        if (channel == null) {
+            LOG.log(Level.FINE, "Ignoring WebSocket frame for unknown resource " + resource);
+            return;
+        }
+        channel.received(new WebSocketChannel.Message(frame.getString(ACTION, null), frame.get(DATA)));
+    }
+
+    private void closed(Throwable cause) {
+        Collection<WebSocketChannel> all = channels.values();
+        for (WebSocketChannel channel : all) {
+            channel.closed(cause);
+        }
+    }
+
+    private class Listener implements WebSocket.Listener {
+
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            text.append(data);
+            if (last) {
+                String frame = text.toString();
+                text.setLength(0);
+                received(frame);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            LOG.log(Level.FINE, "WebSocket connection to " + uri + " was closed: " + statusCode + " " + reason);
+            webSocket.abort();
+            closed(null);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            LOG.log(Level.FINE, "WebSocket connection to " + uri + " failed.", error);
+            closed(error);
+        }
+    }
+}
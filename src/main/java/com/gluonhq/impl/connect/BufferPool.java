@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import com.gluonhq.connect.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A bounded pool of byte arrays with a fixed size. Buffers that are acquired when the pool is empty are allocated on
+ * the heap, buffers that are released when the pool is full are left to the garbage collector. Every acquisition is
+ * recorded as a hit or a miss with
+ * {@link com.gluonhq.connect.metrics.MetricsRecorder#recordBufferPool(String, boolean)}. All methods can be called
+ * concurrently from multiple threads.
+ */
+public final class BufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private static final BufferPool SHARED = new BufferPool("BufferPool", DEFAULT_BUFFER_SIZE, DEFAULT_CAPACITY);
+
+    private final String name;
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> buffers;
+
+    public BufferPool(String name, int bufferSize, int capacity) {
+        this.name = name;
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns the pool that is shared by the data sources and the converters.
+     *
+     * @return the shared buffer pool
+     */
+    public static BufferPool getShared() {
+        return SHARED;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the number of buffers that are currently available in the pool.
+     *
+     * @return the number of pooled buffers
+     */
+    public int size() {
+        return buffers.size();
+    }
+
+    /**
+     * Takes a buffer from the pool, or allocates a new one when the pool is empty. The content of the returned buffer
+     * is undefined.
+     *
+     * @return a buffer of {@link #getBufferSize()} bytes
+     */
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        Metrics.getRecorder().recordBufferPool(name, buffer != null);
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers of a different size are ignored. A buffer must not be used anymore after
+     * it was released and must not be released more than once.
+     *
+     * @param buffer the buffer to return to the pool
+     */
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Writes a string to the OutputStream, encoding it with the specified charset into a buffer from this pool
+     * instead of wrapping the stream in an OutputStreamWriter. Malformed and unmappable characters are replaced.
+     *
+     * @param out the OutputStream to write to
+     * @param string the string to write
+     * @param charset the charset to encode the string with
+     * @throws IOException when writing to the OutputStream failed
+     */
+    public void write(OutputStream out, String string, Charset charset) throws IOException {
+        byte[] bytes = acquire();
+        try {
+            CharsetEncoder encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            CharBuffer chars = CharBuffer.wrap(string);
+            ByteBuffer target = ByteBuffer.wrap(bytes);
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, target, true);
+                out.write(bytes, 0, target.position());
+                target.clear();
+            } while (result.isOverflow());
+            do {
+                result = encoder.flush(target);
+                out.write(bytes, 0, target.position());
+                target.clear();
+            } while (result.isOverflow());
+        } finally {
+            release(bytes);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The location from which an asynchronous operation was started. Only a bounded number of frames is captured with a
+ * {@link StackWalker}, and the frames are only converted into {@link StackTraceElement StackTraceElements} when the
+ * stack trace is actually requested, which normally only happens when the operation failed.
+ */
+public final class CallSite {
+
+    /**
+     * The maximum number of frames that are captured.
+     */
+    public static final int MAX_FRAMES = 32;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final List<StackWalker.StackFrame> frames;
+    private StackTraceElement[] stackTrace;
+
+    private CallSite(List<StackWalker.StackFrame> frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * Captures the call site of the method that calls this method, without the frame of this method itself.
+     *
+     * @return the captured call site
+     */
+    public static CallSite capture() {
+        return new CallSite(STACK_WALKER.walk(frames -> frames.skip(1).limit(MAX_FRAMES).collect(Collectors.toList())));
+    }
+
+    /**
+     * Returns the stack trace of the call site, starting with the method that called {@link #capture()}.
+     *
+     * @return the stack trace of the call site
+     */
+    public StackTraceElement[] getStackTrace() {
+        if (stackTrace == null) {
+            stackTrace = frames.stream().map(StackWalker.StackFrame::toStackTraceElement).toArray(StackTraceElement[]::new);
+        }
+        return stackTrace.clone();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs updates on the JavaFX Application Thread, keeping only the latest update that is pending. When a new update is
+ * submitted before the previous one was run, the previous update is dropped and only a single runnable is ever queued
+ * on the JavaFX Application Thread.
+ */
+public class Conflator {
+
+    private final AtomicReference<Runnable> pending = new AtomicReference<>();
+    private final Executor executor;
+
+    public Conflator() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Construct a conflator that runs the updates with the specified executor instead of on the JavaFX Application
+     * Thread.
+     *
+     * @param executor the executor that runs the updates
+     */
+    public Conflator(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Submits an update that will be run on the JavaFX Application Thread, unless it is superseded by another update
+     * before it got the chance to run.
+     *
+     * @param update the update to run
+     * @return true if a pending update was replaced
+     */
+    public boolean submit(Runnable update) {
+        Runnable previous = pending.getAndSet(update);
+        if (previous == null) {
+            executor.execute(this::drain);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs the latest pending update, if any.
+     */
+    public void drain() {
+        Runnable update = pending.getAndSet(null);
+        if (update != null) {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits a stream into events. In <code>text/event-stream</code> mode, the stream is parsed as Server-Sent Events:
+ * the <code>id</code>, <code>event</code>, <code>data</code> and <code>retry</code> fields are collected until an
+ * empty line dispatches the event, and comment lines starting with a colon are ignored. In newline-delimited mode,
+ * each non-empty line is an event on its own.
+ */
+public class EventStreamParser {
+
+    private final BufferedReader reader;
+    private final boolean serverSentEvents;
+
+    private String lastEventId;
+    private long retry = -1;
+
+    public EventStreamParser(InputStream input, boolean serverSentEvents, String lastEventId) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.serverSentEvents = serverSentEvents;
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * Reads the next event from the stream.
+     *
+     * @return the next event, or <code>null</code> when the end of the stream was reached
+     * @throws IOException when reading from the stream failed
+     */
+    public Event next() throws IOException {
+        if (!serverSentEvents) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return new Event(null, null, line);
+                }
+            }
+            return null;
+        }
+
+        StringBuilder data = null;
+        String name = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data != null) {
+                    return new Event(lastEventId, name, data.toString());
+                }
+                name = null;
+                continue;
+            }
+            if (line.charAt(0) == ':') {
+                continue;
+            }
+
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            String value = "";
+            if (colon >= 0) {
+                int start = colon + 1;
+                if (start < line.length() && line.charAt(start) == ' ') {
+                    start++;
+                }
+                value = line.substring(start);
+            }
+
+            switch (field) {
+                case "data":
+                    if (data == null) {
+                        data = new StringBuilder(value);
+                    } else {
+                        data.append('\n').append(value);
+                    }
+                    break;
+                case "event":
+                    name = value;
+                    break;
+                case "id":
+                    if (value.indexOf('\0') < 0) {
+                        lastEventId = value;
+                    }
+                    break;
+                case "retry":
+                    try {
+                        retry = Long.parseLong(value);
+                    } catch (NumberFormatException ex) {
+                        // ignored, as required by the specification
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the id of the last event that was read, which must be sent back to the server when reconnecting.
+     *
+     * @return the last event id, or <code>null</code> if none was received
+     */
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * Returns the reconnection time in milliseconds that was requested by the server.
+     *
+     * @return the reconnection time, or -1 if the server did not request one
+     */
+    public long getRetry() {
+        return retry;
+    }
+
+    public static final class Event {
+
+        private final String id;
+        private final String name;
+        private final String data;
+
+        Event(String id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getData() {
+            return data;
+        }
+    }
+}
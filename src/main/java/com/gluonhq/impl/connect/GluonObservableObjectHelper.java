@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import com.gluonhq.connect.GluonObservableObject;
+
+/**
+ * Gives the DataProvider access to the internals of a {@link GluonObservableObject}, without exposing them as
+ * public API of the observable.
+ */
+public final class GluonObservableObjectHelper {
+
+    private static Accessor accessor;
+
+    private GluonObservableObjectHelper() {
+    }
+
+    /**
+     * Schedules an update of the observable on the JavaFX Application Thread. When the observable is conflating, an
+     * update that is still pending is replaced by the new one.
+     *
+     * @param observable the observable to update
+     * @param update the update to run on the JavaFX Application Thread
+     */
+    public static void submitUpdate(GluonObservableObject<?> observable, Runnable update) {
+        accessor.submitUpdate(observable, update);
+    }
+
+    /**
+     * Registers the accessor. This is called once, when the GluonObservableObject class is initialized.
+     *
+     * @param accessor the accessor to the internals of a GluonObservableObject
+     */
+    public static void setAccessor(Accessor accessor) {
+        if (GluonObservableObjectHelper.accessor != null) {
+            throw new IllegalStateException("The accessor was already set");
+        }
+        GluonObservableObjectHelper.accessor = accessor;
+    }
+
+    public interface Accessor {
+        void submitUpdate(GluonObservableObject<?> observable, Runnable update);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A helper class that updates the contents of a list to match a new list of elements with as few modifications as
+ * possible. Elements are matched by the key that is returned by a key extractor. Elements whose key no longer exists
+ * are removed, elements with a new key are added and matched elements that are not equal are replaced in place.
+ */
+public class ListDiff {
+
+    private ListDiff() {
+    }
+
+    /**
+     * Updates the <code>target</code> list so that it contains exactly the provided <code>elements</code>, in the same
+     * order. Every modification is applied individually on the target list, so when the target is an observable list,
+     * only the actual differences will result in change events. Elements that kept their key but changed position are
+     * moved with a single sort, which an observable list reports as one permutation. The keys returned by the key
+     * extractor must be unique within each list.
+     *
+     * @param target the list to update
+     * @param elements the new contents of the list
+     * @param keyExtractor the function that returns the key identifying an element
+     * @param <E> the type of the elements in the list
+     * @return the number of modifications that were applied on the target list, where a permutation counts as one
+     */
+    public static <E> int apply(List<E> target, List<E> elements, Function<? super E, ?> keyExtractor) {
+        int modifications = 0;
+
+        Map<Object, Integer> newIndices = new HashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            newIndices.put(keyExtractor.apply(elements.get(i)), i);
+        }
+
+        // remove the elements that no longer exist, starting at the end to keep the indices stable
+        for (int i = target.size() - 1; i >= 0; i--) {
+            if (!newIndices.containsKey(keyExtractor.apply(target.get(i)))) {
+                target.remove(i);
+                modifications++;
+            }
+        }
+
+        // bring the remaining elements in their new relative order, comparing them by the index they move to
+        Map<E, Integer> order = new IdentityHashMap<>();
+        boolean ordered = true;
+        int previous = -1;
+        for (E element : target) {
+            int index = newIndices.get(keyExtractor.apply(element));
+            order.put(element, index);
+            ordered &= index > previous;
+            previous = index;
+        }
+        if (!ordered) {
+            target.sort(Comparator.comparingInt(order::get));
+            modifications++;
+        }
+
+        // the target now holds the matched elements in order, so only new elements need to be inserted
+        for (int i = 0; i < elements.size(); i++) {
+            E element = elements.get(i);
+            Object key = keyExtractor.apply(element);
+
+            if (i < target.size() && Objects.equals(keyExtractor.apply(target.get(i)), key)) {
+                if (!Objects.equals(target.get(i), element)) {
+                    target.set(i, element);
+                    modifications++;
+                }
+            } else {
+                target.add(i, element);
+                modifications++;
+            }
+        }
+
+        return modifications;
+    }
+
+    /**
+     * Merges the provided <code>elements</code> into the <code>target</code> list. An element replaces the element in
+     * the target list with the same key, when they are not equal. Elements with a key that doesn't exist in the target
+     * list yet are added at the end. Elements of the target list that are not matched are kept.
+     *
+     * @param target the list to update
+     * @param elements the elements to merge into the list
+     * @param keyExtractor the function that returns the key identifying an element
+     * @param <E> the type of the elements in the list
+     * @return the number of modifications that were applied on the target list
+     */
+    public static <E> int merge(List<E> target, List<E> elements, Function<? super E, ?> keyExtractor) {
+        Map<Object, Integer> indices = new HashMap<>();
+        for (int i = 0; i < target.size(); i++) {
+            indices.put(keyExtractor.apply(target.get(i)), i);
+        }
+
+        int modifications = 0;
+        List<E> added = new ArrayList<>();
+        for (E element : elements) {
+            Object key = keyExtractor.apply(element);
+            Integer index = indices.get(key);
+            if (index == null) {
+                indices.put(key, target.size() + added.size());
+                added.add(element);
+                modifications++;
+            } else if (index >= target.size()) {
+                added.set(index - target.size(), element);
+            } else if (!Objects.equals(target.get(index), element)) {
+                target.set(index, element);
+                modifications++;
+            }
+        }
+        if (!added.isEmpty()) {
+            target.addAll(added);
+        }
+        return modifications;
+    }
+}
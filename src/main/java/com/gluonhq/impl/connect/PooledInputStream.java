@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A buffered InputStream that takes its buffer from the shared {@link BufferPool} and returns it when the stream is
+ * closed. The first bytes of the stream can be inspected with {@link #peek(int)} before they are read.
+ */
+public class PooledInputStream extends InputStream {
+
+    private final InputStream in;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+
+    public PooledInputStream(InputStream in) {
+        this.in = in;
+        this.buffer = BufferPool.getShared().acquire();
+    }
+
+    /**
+     * Returns the byte at the specified offset from the current position, without consuming it.
+     *
+     * @param offset the offset of the byte to return, which must be smaller than the size of the buffer
+     * @return the byte at the specified offset, or -1 when the end of the stream is reached before that offset
+     * @throws IOException when reading from the wrapped stream failed
+     */
+    public int peek(int offset) throws IOException {
+        ensureOpen();
+        if (position + offset >= limit) {
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            while (offset >= limit) {
+                int count = in.read(buffer, limit, buffer.length - limit);
+                if (count < 0) {
+                    return -1;
+                }
+                limit += count;
+            }
+        }
+        return buffer[position + offset] & 0xFF;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (len == 0) {
+            return 0;
+        }
+        if (position == limit) {
+            // large reads bypass the buffer
+            if (len >= buffer.length) {
+                return in.read(b, off, len);
+            }
+            if (!fill()) {
+                return -1;
+            }
+        }
+        int count = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        int buffered = limit - position;
+        if (buffered > 0) {
+            int skipped = (int) Math.min(n, buffered);
+            position += skipped;
+            return skipped;
+        }
+        return in.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return (limit - position) + in.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            byte[] released = buffer;
+            buffer = null;
+            BufferPool.getShared().release(released);
+            in.close();
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
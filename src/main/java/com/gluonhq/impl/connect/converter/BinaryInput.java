@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.gluonhq.impl.connect.converter.BinaryOutput.*;
+
+/**
+ * A buffered reader for the compact binary format that is written by {@link BinaryOutput}.
+ */
+public class BinaryInput {
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+    private int limit;
+
+    private final List<String> names = new ArrayList<>();
+
+    public BinaryInput(InputStream in) {
+        this.in = in;
+    }
+
+    public void readHeader() throws IOException {
+        int magic = readByte();
+        int version = readByte();
+        if (magic != MAGIC) {
+            throw new IOException("Input is not in the binary format, found magic byte " + magic);
+        }
+        if (version > VERSION) {
+            throw new IOException("Unsupported version of the binary format: " + version);
+        }
+    }
+
+    public int readByte() throws IOException {
+        if (position == limit) {
+            fill();
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public byte[] readBytes() throws IOException {
+        return readFully(readLength());
+    }
+
+    /**
+     * Reads a length or a number of elements, which must not be negative.
+     *
+     * @return the length
+     * @throws IOException when reading from the underlying stream failed or the length is invalid
+     */
+    public int readLength() throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length in binary input: " + length);
+        }
+        return (int) length;
+    }
+
+    public int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 63) {
+                throw new IOException("Malformed variable length integer.");
+            }
+            b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public float readFloat() throws IOException {
+        int bits = 0;
+        for (int i = 0; i < 4; i++) {
+            bits |= readByte() << (i * 8);
+        }
+        return Float.intBitsToFloat(bits);
+    }
+
+    public double readDouble() throws IOException {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= (long) readByte() << (i * 8);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() throws IOException {
+        int length = readLength();
+        if (length <= limit - position) {
+            String string = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return string;
+        }
+        return new String(readFully(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the specified number of bytes. The array grows while the bytes are read, so that a corrupt length
+     * fails with an EOFException at the end of the input, instead of allocating a huge array up front.
+     */
+    private byte[] readFully(int length) throws IOException {
+        byte[] bytes = new byte[Math.min(length, buffer.length)];
+        int offset = 0;
+        while (offset < length) {
+            if (position == limit) {
+                fill();
+            }
+            if (offset == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int count = Math.min(bytes.length - offset, limit - position);
+            System.arraycopy(buffer, position, bytes, offset, count);
+            position += count;
+            offset += count;
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a property name that was written with {@link BinaryOutput#writeName(String)}.
+     *
+     * @return the property name
+     * @throws IOException when reading from the underlying stream failed or the name index is unknown
+     */
+    public String readName() throws IOException {
+        int index = readLength();
+        if (index == 0) {
+            String name = readString();
+            names.add(name);
+            return name;
+        }
+        if (index > names.size()) {
+            throw new IOException("Unknown property name index: " + index);
+        }
+        return names.get(index - 1);
+    }
+
+    /**
+     * Skips the value of the specified type, including all nested values in case of lists, maps and objects.
+     *
+     * @param type the type of the value to skip
+     * @throws IOException when reading from the underlying stream failed
+     */
+    public void skipValue(int type) throws IOException {
+        switch (type) {
+            case TYPE_NULL:
+            case TYPE_FALSE:
+            case TYPE_TRUE:
+                break;
+            case TYPE_INTEGRAL:
+                readVarLong();
+                break;
+            case TYPE_FLOAT:
+                readFloat();
+                break;
+            case TYPE_DOUBLE:
+                readDouble();
+                break;
+            case TYPE_STRING:
+            case TYPE_BIG_INTEGER:
+                readBytes();
+                break;
+            case TYPE_BIG_DECIMAL:
+                readSignedVarLong();
+                readBytes();
+                break;
+            case TYPE_LIST: {
+                int size = readLength();
+                for (int i = 0; i < size; i++) {
+                    skipValue(readByte());
+                }
+                break;
+            }
+            case TYPE_MAP: {
+                int size = readLength();
+                for (int i = 0; i < size; i++) {
+                    readString();
+                    skipValue(readByte());
+                }
+                break;
+            }
+            case TYPE_OBJECT: {
+                int size = readLength();
+                for (int i = 0; i < size; i++) {
+                    readName();
+                    skipValue(readByte());
+                }
+                break;
+            }
+            default:
+                throw new IOException("Unknown value type: " + type);
+        }
+    }
+
+    private void fill() throws IOException {
+        limit = in.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            throw new EOFException();
+        }
+    }
+}
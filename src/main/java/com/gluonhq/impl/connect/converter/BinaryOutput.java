@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A buffered writer for the compact binary format that is used by
+ * {@link com.gluonhq.connect.converter.BinaryConverter}. Integers are written as variable length quantities, strings
+ * are written as length-prefixed UTF-8 bytes and property names are written only once per stream, after which they
+ * are referenced by their index in the name table.
+ */
+public class BinaryOutput {
+
+    public static final int MAGIC = 0xB1;
+    public static final int VERSION = 1;
+
+    public static final int TYPE_NULL = 0;
+    public static final int TYPE_FALSE = 1;
+    public static final int TYPE_TRUE = 2;
+    public static final int TYPE_INTEGRAL = 3;
+    public static final int TYPE_FLOAT = 4;
+    public static final int TYPE_DOUBLE = 5;
+    public static final int TYPE_STRING = 6;
+    public static final int TYPE_BIG_DECIMAL = 7;
+    public static final int TYPE_BIG_INTEGER = 8;
+    public static final int TYPE_LIST = 9;
+    public static final int TYPE_MAP = 10;
+    public static final int TYPE_OBJECT = 11;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+
+    private final Map<String, Integer> names = new HashMap<>();
+
+    public BinaryOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    public void writeHeader() throws IOException {
+        writeByte(MAGIC);
+        writeByte(VERSION);
+    }
+
+    public void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+        writeVarInt(bytes.length);
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Writes a signed value using zig-zag encoding, so that small negative numbers also take up few bytes.
+     *
+     * @param value the signed value to write
+     * @throws IOException when writing to the underlying stream failed
+     */
+    public void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeFloat(float value) throws IOException {
+        int bits = Float.floatToIntBits(value);
+        for (int i = 0; i < 4; i++) {
+            writeByte(bits >>> (i * 8));
+        }
+    }
+
+    public void writeDouble(double value) throws IOException {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < 8; i++) {
+            writeByte((int) (bits >>> (i * 8)));
+        }
+    }
+
+    public void writeString(String value) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a property name. The first time a name is written, its index is written as zero followed by the name
+     * itself. Every following occurrence of the same name only writes its index in the name table.
+     *
+     * @param name the property name to write
+     * @throws IOException when writing to the underlying stream failed
+     */
+    public void writeName(String name) throws IOException {
+        Integer index = names.get(name);
+        if (index == null) {
+            names.put(name, names.size() + 1);
+            writeVarInt(0);
+            writeString(name);
+        } else {
+            writeVarInt(index);
+        }
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
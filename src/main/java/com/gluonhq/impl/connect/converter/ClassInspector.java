@@ -26,23 +26,41 @@
  */
 package com.gluonhq.impl.connect.converter;
 
+import com.gluonhq.connect.converter.ModelBinder;
+
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlTransient;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Resolves the properties of a class and gives access to them. When a {@link ModelBinder} was generated for the class,
+ * the objects are created and their properties are read and written through the binder. Otherwise, the properties
+ * are found by inspecting the public methods of the class, and are accessed by reflection.
+ */
 public class ClassInspector<T> {
 
+    /**
+     * The suffix that is appended to the name of a model class to get the name of its generated binder.
+     */
+    public static final String BINDER_SUFFIX = "_ModelBinder";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassInspector.class.getName());
+
     private static final Map<Class<?>, ClassInspector<?>> inspectors = new HashMap<>();
 
     private final Map<Class<?>, Map<String, Method>> inspectedGetters = new HashMap<>();
     private final Map<Class<?>, Map<String, Method>> inspectedSetters = new HashMap<>();
 
     private final Class<T> targetClass;
+    private final ModelBinder<T> binder;
 
     public synchronized static <T> ClassInspector<T> resolve(Class<T> targetClass) {
         if (inspectors.containsKey(targetClass)) {
@@ -56,8 +74,26 @@ public class ClassInspector<T> {
 
     private ClassInspector(Class<T> targetClass) {
         this.targetClass = targetClass;
+        this.binder = findBinder(targetClass);
 
-        resolveProperties();
+        if (binder != null) {
+            inspectedGetters.put(targetClass, binder.getGetters());
+            inspectedSetters.put(targetClass, binder.getSetters());
+        } else {
+            resolveProperties();
+        }
+    }
+
+    /**
+     * Returns the name of the binder that is generated for the class with the specified binary name. The names of
+     * enclosing classes are joined by an underscore.
+     *
+     * @param className the binary name of the model class
+     * @return the binary name of the generated binder
+     */
+    public static String getBinderName(String className) {
+        int packageEnd = className.lastIndexOf('.');
+        return className.substring(0, packageEnd + 1) + className.substring(packageEnd + 1).replace('$', '_') + BINDER_SUFFIX;
     }
 
     public Map<String, Method> getGetters() {
@@ -68,6 +104,107 @@ public class ClassInspector<T> {
         return inspectedSetters.get(targetClass);
     }
 
+    /**
+     * Returns whether the properties are accessed through a generated binder instead of by reflection.
+     *
+     * @return true if a generated binder is used
+     */
+    public boolean hasBinder() {
+        return binder != null;
+    }
+
+    /**
+     * Creates a new instance of the target class.
+     *
+     * @return the new instance
+     * @throws ReflectiveOperationException when the instance could not be created
+     */
+    public T newInstance() throws ReflectiveOperationException {
+        if (binder == null) {
+            return targetClass.getDeclaredConstructor().newInstance();
+        }
+        try {
+            return binder.newInstance();
+        } catch (RuntimeException ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Returns the value of a property of the target object, by calling its getter. Failures are reported in the same
+     * way as when the getter was invoked by reflection, also when a generated binder is used.
+     *
+     * @param target the object to read the property from
+     * @param property the name of the property
+     * @return the value returned by the getter
+     * @throws IllegalAccessException when the getter is not accessible
+     * @throws InvocationTargetException when the getter threw an exception
+     */
+    @SuppressWarnings("unchecked")
+    public Object getValue(Object target, String property) throws IllegalAccessException, InvocationTargetException {
+        if (binder == null) {
+            return getGetters().get(property).invoke(target);
+        }
+        try {
+            return binder.get((T) target, property);
+        } catch (RuntimeException ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Sets the value of a property of the target object, by calling its setter. Failures are reported in the same
+     * way as when the setter was invoked by reflection, also when a generated binder is used.
+     *
+     * @param target the object to set the property on
+     * @param property the name of the property
+     * @param value the value to pass to the setter
+     * @throws IllegalAccessException when the setter is not accessible
+     * @throws IllegalArgumentException when the value is not of the type of the setter
+     * @throws InvocationTargetException when the setter threw an exception
+     */
+    @SuppressWarnings("unchecked")
+    public void setValue(Object target, String property, Object value) throws IllegalAccessException, InvocationTargetException {
+        if (binder == null) {
+            getSetters().get(property).invoke(target, value);
+            return;
+        }
+        try {
+            binder.set((T) target, property, value);
+        } catch (IllegalArgumentException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ModelBinder<T> findBinder(Class<T> targetClass) {
+        ClassLoader classLoader = targetClass.getClassLoader();
+        if (classLoader == null || targetClass.isArray() || targetClass.isPrimitive()) {
+            return null;
+        }
+
+        Class<?> binderClass;
+        try {
+            binderClass = Class.forName(getBinderName(targetClass.getName()), true, classLoader);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+
+        try {
+            ModelBinder<?> binder = (ModelBinder<?>) binderClass.getDeclaredConstructor().newInstance();
+            if (binder.getTargetClass() != targetClass) {
+                LOGGER.log(Level.WARNING, "Ignoring binder " + binderClass + ", as it does not bind " + targetClass + ".");
+                return null;
+            }
+            return (ModelBinder<T>) binder;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            LOGGER.log(Level.WARNING, "Failed to use binder " + binderClass + ", falling back to reflection.", ex);
+            return null;
+        }
+    }
+
     private void resolveProperties() {
         if (inspectedSetters.containsKey(targetClass)) {
             return;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import com.gluonhq.connect.converter.JsonConverter;
+
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * Converts the elements of a JSON list into objects of the target class. Primitive wrappers and Strings are read
+ * directly from the JSON value, JSON objects are returned as is when the target class is JsonObject and are
+ * converted with a {@link JsonConverter} otherwise. An instance can be used from multiple threads at once.
+ *
+ * @param <E> the type of the objects that the elements are converted into
+ */
+public class JsonElementConverter<E> {
+
+    private final Class<E> targetClass;
+    private volatile JsonConverter<E> converter;
+
+    public JsonElementConverter(Class<E> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    public JsonElementConverter(JsonConverter<E> converter) {
+        this.targetClass = converter.getTargetClass();
+        this.converter = converter;
+    }
+
+    public Class<E> getTargetClass() {
+        return targetClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E convert(JsonValue value) {
+        if (Boolean.class.isAssignableFrom(targetClass)) {
+            if (value == JsonValue.TRUE) {
+                return (E) Boolean.TRUE;
+            } else if (value == JsonValue.FALSE) {
+                return (E) Boolean.FALSE;
+            }
+            throw new ClassCastException("Expected a JSON boolean, but found " + value.getValueType());
+        } else if (Byte.class.isAssignableFrom(targetClass)) {
+            return (E) (Byte) (byte) ((JsonNumber) value).intValue();
+        } else if (Double.class.isAssignableFrom(targetClass)) {
+            return (E) (Double) ((JsonNumber) value).doubleValue();
+        } else if (Float.class.isAssignableFrom(targetClass)) {
+            return (E) (Float) (float) ((JsonNumber) value).doubleValue();
+        } else if (Integer.class.isAssignableFrom(targetClass)) {
+            return (E) (Integer) ((JsonNumber) value).intValue();
+        } else if (Long.class.isAssignableFrom(targetClass)) {
+            return (E) (Long) ((JsonNumber) value).longValue();
+        } else if (Short.class.isAssignableFrom(targetClass)) {
+            return (E) (Short) (short) ((JsonNumber) value).intValue();
+        } else if (String.class.isAssignableFrom(targetClass)) {
+            return (E) ((JsonString) value).getString();
+        } else if (JsonObject.class.isAssignableFrom(targetClass)) {
+            return (E) value;
+        } else {
+            JsonConverter<E> jsonConverter = converter;
+            if (jsonConverter == null) {
+                jsonConverter = new JsonConverter<>(targetClass);
+                converter = jsonConverter;
+            }
+            return jsonConverter.readFromJson((JsonObject) value);
+        }
+    }
+}
@@ -78,4 +78,14 @@ public class JsonUtil {
 
         return readerFactory.createReader(sourceReader);
     }
+
+    /**
+     * Create a JsonReader that reads the JSON data from the specified <code>String</code>.
+     *
+     * @param json the String that contains the JSON data
+     * @return a JsonReader to read the data from the String
+     */
+    public static JsonReader createJsonReader(String json) {
+        return readerFactory.createReader(new StringReader(json));
+    }
 }
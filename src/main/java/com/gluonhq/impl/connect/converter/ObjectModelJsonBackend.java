@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import com.gluonhq.connect.converter.JsonBackend;
+import com.gluonhq.connect.converter.JsonConverter;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * A {@link JsonBackend} that reads the JSON into a tree of JSON values with a {@link JsonReader} and binds the tree
+ * with {@link JsonConverter#readFromJson(JsonObject)}.
+ */
+public class ObjectModelJsonBackend implements JsonBackend {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readObject(InputStream input, JsonConverter<T> converter) {
+        try (JsonReader reader = JsonUtil.createJsonReader(input)) {
+            JsonObject jsonObject = reader.readObject();
+            if (JsonObject.class.isAssignableFrom(converter.getTargetClass())) {
+                return (T) jsonObject;
+            } else {
+                return converter.readFromJson(jsonObject);
+            }
+        }
+    }
+
+    @Override
+    public <E> Iterator<E> readArray(InputStream input, JsonConverter<E> converter) {
+        JsonArray jsonArray;
+        try (JsonReader reader = JsonUtil.createJsonReader(input)) {
+            jsonArray = reader.readArray();
+        }
+
+        JsonElementConverter<E> elementConverter = new JsonElementConverter<>(converter);
+        Iterator<JsonValue> values = jsonArray.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return elementConverter.convert(values.next());
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectModelJsonBackend";
+    }
+}
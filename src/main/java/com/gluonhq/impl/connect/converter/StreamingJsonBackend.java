@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import com.gluonhq.connect.converter.JsonBackend;
+import com.gluonhq.connect.converter.JsonConverter;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParserFactory;
+import javax.json.stream.JsonParsingException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link JsonBackend} that pulls the events from a {@link JsonParser} and binds them straight into the target
+ * objects, by using the setters that are found by the {@link ClassInspector}. The values of properties without a
+ * setter, or that are not projected by the {@link JsonConverter#getProperties() JsonConverter}, are skipped without
+ * decoding them. The values of the interned properties are shared through the converter. The elements of a JSON array
+ * are only read when they are requested from the Iterator. A value that can't be converted into the type of its
+ * property, like an unknown enum constant, is logged and skipped.
+ */
+public class StreamingJsonBackend implements JsonBackend {
+
+    private static final Logger LOGGER = Logger.getLogger(StreamingJsonBackend.class.getName());
+
+    private static final JsonParserFactory parserFactory = Json.createParserFactory(null);
+
+    // returned by convertValue when a value could not be converted
+    private static final Object SKIPPED = new Object();
+
+    @Override
+    public <T> T readObject(InputStream input, JsonConverter<T> converter) {
+        try (JsonParser parser = parserFactory.createParser(input)) {
+            expect(parser, Event.START_OBJECT);
+            return readElement(parser, Event.START_OBJECT, converter.getTargetClass(), converter);
+        }
+    }
+
+    @Override
+    public <E> Iterator<E> readArray(InputStream input, JsonConverter<E> converter) {
+        JsonParser parser = parserFactory.createParser(input);
+        try {
+            expect(parser, Event.START_ARRAY);
+        } catch (RuntimeException ex) {
+            parser.close();
+            throw ex;
+        }
+        return new ArrayIterator<>(parser, converter.getTargetClass(), converter);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingJsonBackend";
+    }
+
+    private static void expect(JsonParser parser, Event expected) {
+        Event event = parser.hasNext() ? parser.next() : null;
+        if (event != expected) {
+            throw new JsonParsingException("Expected " + expected + ", but found " + event, parser.getLocation());
+        }
+    }
+
+    /**
+     * Reads an element of a JSON array, or the top level JSON object, in the same way as the
+     * {@link JsonElementConverter}. The properties of the element are bound as configured on the converter.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> E readElement(JsonParser parser, Event event, Class<E> targetClass, JsonConverter<?> converter) {
+        if (event == Event.START_OBJECT && !JsonObject.class.isAssignableFrom(targetClass) && !Map.class.isAssignableFrom(targetClass)) {
+            return (E) readObject(parser, targetClass, converter);
+        }
+        return (E) readValue(parser, event, targetClass, targetClass);
+    }
+
+    /**
+     * Reads a value in the same way as readValue, but a scalar value that can't be converted into the type, like an
+     * unknown enum constant, is logged and {@link #SKIPPED} is returned instead. The parser is positioned right after
+     * the scalar value, so reading can simply continue. The values of arrays and objects handle such failures
+     * themselves.
+     */
+    private static Object convertValue(JsonParser parser, Event event, Class<?> type, Type genericType) {
+        if (event == Event.START_ARRAY || event == Event.START_OBJECT) {
+            return readValue(parser, event, type, genericType);
+        }
+        try {
+            return readValue(parser, event, type, genericType);
+        } catch (JsonException ex) {
+            // the JSON itself is invalid, which can't be skipped
+            throw ex;
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Failed to convert " + event + " into " + type + ", skipping it.", ex);
+            return SKIPPED;
+        }
+    }
+
+    private static Object readValue(JsonParser parser, Event event, Class<?> type, Type genericType) {
+        switch (event) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_STRING:
+                if (type.isEnum()) {
+                    return enumValue(type, parser.getString());
+                }
+                return parser.getString();
+            case VALUE_NUMBER:
+                return readNumber(parser, type);
+            case START_ARRAY:
+                if (type.isArray()) {
+                    return readPrimitiveArray(parser, type.getComponentType());
+                } else if (!Collection.class.isAssignableFrom(type)) {
+                    LOGGER.log(Level.WARNING, "Arrays can only be converted into lists, not into " + type + ".");
+                    parser.skipArray();
+                    return null;
+                }
+                return readList(parser, type, typeArgument(genericType, 0));
+            case START_OBJECT:
+                if (JsonObject.class.isAssignableFrom(type)) {
+                    return parser.getObject();
+                } else if (Map.class.isAssignableFrom(type)) {
+                    return readMap(parser, typeArgument(genericType, 1));
+                }
+                return readObject(parser, type, null);
+            default:
+                throw new JsonParsingException("Unexpected event " + event, parser.getLocation());
+        }
+    }
+
+    /**
+     * Reads a JSON object into a new instance of the target class. When a converter is specified, only its projected
+     * properties are bound and the values of its interned properties are shared. Nested objects are read without a
+     * converter.
+     */
+    private static Object readObject(JsonParser parser, Class<?> targetClass, JsonConverter<?> converter) {
+        Set<String> properties = converter == null ? Collections.emptySet() : converter.getProperties();
+        Set<String> internedProperties = converter == null ? Collections.emptySet() : converter.getInternedProperties();
+        ClassInspector<?> inspector = ClassInspector.resolve(targetClass);
+        Object target;
+        try {
+            target = inspector.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Failed to create object of type " + targetClass + ".", ex);
+            parser.skipObject();
+            return null;
+        }
+
+        Map<String, Method> setters = inspector.getSetters();
+        Event event;
+        while ((event = parser.next()) == Event.KEY_NAME) {
+            String property = parser.getString();
+            Method setter = properties.isEmpty() || properties.contains(property) ? setters.get(property) : null;
+            event = parser.next();
+            if (setter == null) {
+                // scalar values are never materialized when they are not requested from the parser
+                skip(parser, event);
+                continue;
+            }
+
+            Object value = convertValue(parser, event, setter.getParameterTypes()[0], setter.getGenericParameterTypes()[0]);
+            if (value == SKIPPED) {
+                continue;
+            }
+            if (internedProperties.contains(property)) {
+                value = intern(converter, property, value);
+            }
+            try {
+                inspector.setValue(target, property, value);
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                LOGGER.log(Level.WARNING, "Failed to call setter " + setter + " with value " + value, ex);
+            }
+        }
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object intern(JsonConverter<?> converter, String property, Object value) {
+        if (value instanceof String) {
+            return converter.intern(property, (String) value);
+        } else if (value instanceof List) {
+            ((List<Object>) value).replaceAll(element -> element instanceof String ? converter.intern(property, (String) element) : element);
+        }
+        return value;
+    }
+
+    private static List<Object> readList(JsonParser parser, Class<?> listClass, Class<?> elementClass) {
+        List<Object> values = new ArrayList<>();
+
+        Event event;
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            if (event == Event.START_ARRAY) {
+                LOGGER.log(Level.WARNING, "Arrays within arrays not yet supported.");
+                parser.skipArray();
+                continue;
+            }
+            Object value = convertValue(parser, event, elementClass, elementClass);
+            if (value != SKIPPED) {
+                values.add(value);
+            }
+        }
+        return ObservableList.class.isAssignableFrom(listClass) ? FXCollections.observableList(values) : values;
+    }
+
+    /**
+     * Reads a JSON array of numbers directly into an <code>int[]</code>, <code>long[]</code> or <code>double[]</code>,
+     * without boxing the elements.
+     */
+    private static Object readPrimitiveArray(JsonParser parser, Class<?> componentType) {
+        int size = 0;
+        Event event;
+        if (int.class.equals(componentType)) {
+            int[] array = new int[16];
+            while ((event = parser.next()) != Event.END_ARRAY) {
+                if (event != Event.VALUE_NUMBER) {
+                    return skipInvalidArray(parser, event, componentType);
+                }
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size++] = parser.getInt();
+            }
+            return Arrays.copyOf(array, size);
+        } else if (long.class.equals(componentType)) {
+            long[] array = new long[16];
+            while ((event = parser.next()) != Event.END_ARRAY) {
+                if (event != Event.VALUE_NUMBER) {
+                    return skipInvalidArray(parser, event, componentType);
+                }
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size++] = parser.getLong();
+            }
+            return Arrays.copyOf(array, size);
+        } else if (double.class.equals(componentType)) {
+            double[] array = new double[16];
+            while ((event = parser.next()) != Event.END_ARRAY) {
+                if (event != Event.VALUE_NUMBER) {
+                    return skipInvalidArray(parser, event, componentType);
+                }
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size++] = parser.getBigDecimal().doubleValue();
+            }
+            return Arrays.copyOf(array, size);
+        }
+
+        LOGGER.log(Level.WARNING, "Arrays of type " + componentType + " are not supported, use a List instead.");
+        parser.skipArray();
+        return null;
+    }
+
+    private static Object skipInvalidArray(JsonParser parser, Event event, Class<?> componentType) {
+        LOGGER.log(Level.WARNING, "Arrays of type " + componentType + " can only hold numbers, found " + event + ".");
+        // skip the remaining elements of the array, including any nested arrays and objects
+        do {
+            skip(parser, event);
+        } while ((event = parser.next()) != Event.END_ARRAY);
+        return null;
+    }
+
+    /**
+     * Reads a map in the same format as {@link JsonConverter#readFromJson(JsonObject)}, which is an object with an
+     * <code>entry</code> array that contains objects with a <code>key</code> and a <code>value</code>.
+     */
+    private static Map<String, Object> readMap(JsonParser parser, Class<?> valueClass) {
+        Map<String, Object> map = new HashMap<>();
+        Event event;
+        while ((event = parser.next()) == Event.KEY_NAME) {
+            boolean entries = "entry".equals(parser.getString());
+            event = parser.next();
+            if (!entries || event != Event.START_ARRAY) {
+                skip(parser, event);
+                continue;
+            }
+
+            while ((event = parser.next()) != Event.END_ARRAY) {
+                if (event != Event.START_OBJECT) {
+                    skip(parser, event);
+                    continue;
+                }
+
+                String key = null;
+                Object value = null;
+                boolean hasKey = false;
+                boolean hasValue = false;
+                while (parser.next() == Event.KEY_NAME) {
+                    String name = parser.getString();
+                    event = parser.next();
+                    if ("key".equals(name) && event == Event.VALUE_STRING) {
+                        key = parser.getString();
+                        hasKey = true;
+                    } else if ("value".equals(name)) {
+                        if (event == Event.START_ARRAY) {
+                            LOGGER.log(Level.WARNING, "Arrays within maps not yet supported.");
+                            parser.skipArray();
+                        } else {
+                            value = convertValue(parser, event, valueClass, valueClass);
+                            hasValue = value != SKIPPED;
+                        }
+                    } else {
+                        skip(parser, event);
+                    }
+                }
+                if (hasKey && hasValue) {
+                    map.put(key, value);
+                }
+            }
+        }
+        return map;
+    }
+
+    private static Object readNumber(JsonParser parser, Class<?> type) {
+        switch (type.getName()) {
+            case "byte":
+            case "java.lang.Byte":
+                return (byte) parser.getInt();
+            case "short":
+            case "java.lang.Short":
+                return (short) parser.getInt();
+            case "int":
+            case "java.lang.Integer":
+                return parser.getInt();
+            case "long":
+            case "java.lang.Long":
+                return parser.getLong();
+            case "double":
+            case "java.lang.Double":
+                return parser.getBigDecimal().doubleValue();
+            case "float":
+            case "java.lang.Float":
+                return (float) parser.getBigDecimal().doubleValue();
+            case "java.lang.String":
+            case "javafx.beans.property.StringProperty":
+                return parser.getString();
+            case "java.math.BigDecimal":
+                return parser.getBigDecimal();
+            case "java.math.BigInteger":
+                return parser.getBigDecimal().toBigInteger();
+            default:
+                return parser.isIntegralNumber() ? (Object) parser.getLong() : (Object) parser.getBigDecimal().doubleValue();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String name) {
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    private static Class<?> typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length && arguments[index] instanceof Class) {
+                return (Class<?>) arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    private static void skip(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    private static final class ArrayIterator<E> implements Iterator<E> {
+
+        private final JsonParser parser;
+        private final Class<E> elementClass;
+        private final JsonConverter<E> converter;
+        private Event next;
+
+        ArrayIterator(JsonParser parser, Class<E> elementClass, JsonConverter<E> converter) {
+            this.parser = parser;
+            this.elementClass = elementClass;
+            this.converter = converter;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != Event.END_ARRAY;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            E element;
+            try {
+                element = readElement(parser, next, elementClass, converter);
+            } catch (RuntimeException ex) {
+                next = Event.END_ARRAY;
+                parser.close();
+                throw ex;
+            }
+            advance();
+            return element;
+        }
+
+        private void advance() {
+            try {
+                next = parser.next();
+            } catch (RuntimeException ex) {
+                next = Event.END_ARRAY;
+                parser.close();
+                throw ex;
+            }
+            if (next == Event.END_ARRAY) {
+                parser.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache that collapses equal strings to a single shared instance. Once the cache holds the maximum number
+ * of distinct values, new values are returned as they are, so that a property with unexpectedly many distinct values
+ * can not grow the cache without limit. The interner can be used from multiple threads at the same time.
+ */
+public class StringInterner {
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates a new interner that keeps at most the specified number of distinct values.
+     *
+     * @param maxSize the maximum number of distinct values to keep
+     */
+    public StringInterner(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size can not be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the shared instance of the specified value. The value itself becomes the shared instance when no equal
+     * value was interned before and the cache is not full yet.
+     *
+     * @param value the value to intern
+     * @return the shared instance that is equal to the value, or the value itself
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = values.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (values.size() >= maxSize) {
+            return value;
+        }
+        shared = values.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+
+    /**
+     * Returns the number of distinct values that are kept by this interner.
+     *
+     * @return the number of distinct values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all values from this interner.
+     */
+    public void clear() {
+        values.clear();
+    }
+}
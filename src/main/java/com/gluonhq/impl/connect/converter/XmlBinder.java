@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.converter;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Binds XML elements into objects while streaming over them with a StAX {@link XMLStreamReader}. Child elements and
+ * attributes are mapped on the setters that are found by the {@link ClassInspector}. Setters that take a primitive,
+ * a primitive wrapper, a String, a BigDecimal, a BigInteger or an enum are bound from the text content, other types
+ * are bound recursively as nested objects. A setter that takes a List is bound from all the repeated child elements
+ * with the same name. A property that can't be bound, like a malformed number or an unknown enum constant, is logged
+ * and skipped, so that the other properties of the object are still bound.
+ */
+public class XmlBinder {
+
+    private static final Logger LOG = Logger.getLogger(XmlBinder.class.getName());
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private XmlBinder() {
+    }
+
+    /**
+     * Creates a new XMLStreamReader from a shared XMLInputFactory. The factory is configured once without support
+     * for DTDs and external entities, after which it can be used safely from multiple threads.
+     *
+     * @param inputStream the input stream to read the XML from
+     * @return a new XMLStreamReader that reads from the specified input stream
+     * @throws XMLStreamException when the reader could not be created
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) throws XMLStreamException {
+        return FACTORY.createXMLStreamReader(inputStream);
+    }
+
+    /**
+     * Advances the reader to the next start element with the specified name. The name is matched against both the
+     * local name and the prefixed name of the element. When the name is <code>null</code>, the reader advances to
+     * the next start element regardless of its name.
+     *
+     * @param reader the reader to advance
+     * @param name the name of the element to look for, or <code>null</code> to match any element
+     * @return true when a matching element was found, false when the end of the document was reached
+     * @throws XMLStreamException when the XML could not be read
+     */
+    public static boolean nextStartElement(XMLStreamReader reader, String name) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && matches(reader, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Binds the element on which the reader is currently positioned into a new object of the target class. After
+     * this method returns, the reader is positioned on the end element that matches that element.
+     *
+     * @param reader the reader that is positioned on a start element
+     * @param targetClass the class of the object to bind the element into
+     * @param <T> the type of the object to bind the element into
+     * @return the bound object, which can be <code>null</code> for an empty element of a simple type
+     * @throws XMLStreamException when the XML could not be read
+     * @throws ReflectiveOperationException when the object could not be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T bind(XMLStreamReader reader, Class<T> targetClass) throws XMLStreamException, ReflectiveOperationException {
+        if (isSimpleType(targetClass)) {
+            return (T) parse(reader.getElementText(), targetClass);
+        }
+
+        ClassInspector<T> inspector = ClassInspector.resolve(targetClass);
+        T target = inspector.newInstance();
+        Map<String, Method> setters = inspector.getSetters();
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String property = reader.getAttributeLocalName(i);
+            Method setter = setters.get(property);
+            if (setter != null && isSimpleType(setter.getParameterTypes()[0])) {
+                try {
+                    invoke(inspector, property, target, parse(reader.getAttributeValue(i), setter.getParameterTypes()[0]));
+                } catch (RuntimeException | ReflectiveOperationException ex) {
+                    logFailure(targetClass, property, ex);
+                }
+            }
+        }
+
+        Map<String, List<Object>> lists = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            } else if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String property = reader.getLocalName();
+            Method setter = setters.get(property);
+            if (setter == null) {
+                skipElement(reader);
+                continue;
+            }
+
+            Class<?> parameterType = setter.getParameterTypes()[0];
+            try {
+                if (Collection.class.isAssignableFrom(parameterType)) {
+                    Object element = bind(reader, elementClass(setter));
+                    if (lists == null) {
+                        lists = new HashMap<>();
+                    }
+                    lists.computeIfAbsent(property, p -> new ArrayList<>()).add(element);
+                } else {
+                    invoke(inspector, property, target, bind(reader, parameterType));
+                }
+            } catch (RuntimeException | ReflectiveOperationException ex) {
+                logFailure(targetClass, property, ex);
+                // a nested object that could not be instantiated was not read at all
+                if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                    skipElement(reader);
+                }
+            }
+        }
+
+        if (lists != null) {
+            for (Map.Entry<String, List<Object>> entry : lists.entrySet()) {
+                Method setter = setters.get(entry.getKey());
+                try {
+                    if (ObservableList.class.isAssignableFrom(setter.getParameterTypes()[0])) {
+                        invoke(inspector, entry.getKey(), target, FXCollections.observableArrayList(entry.getValue()));
+                    } else {
+                        invoke(inspector, entry.getKey(), target, entry.getValue());
+                    }
+                } catch (RuntimeException | ReflectiveOperationException ex) {
+                    logFailure(targetClass, entry.getKey(), ex);
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Returns whether objects of the specified class are bound from the text content of an element.
+     *
+     * @param type the class to check
+     * @return true if the class is a primitive, a primitive wrapper, a String, a BigDecimal, a BigInteger or an enum
+     */
+    public static boolean isSimpleType(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || type == String.class || type == Boolean.class ||
+                type == Character.class || type == Byte.class || type == Short.class || type == Integer.class ||
+                type == Long.class || type == Float.class || type == Double.class ||
+                type == BigDecimal.class || type == BigInteger.class;
+    }
+
+    private static boolean matches(XMLStreamReader reader, String name) {
+        if (name == null || name.equals(reader.getLocalName())) {
+            return true;
+        }
+        String prefix = reader.getPrefix();
+        return prefix != null && !prefix.isEmpty() && name.equals(prefix + ":" + reader.getLocalName());
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Class<?> elementClass(Method setter) {
+        Type type = setter.getGenericParameterTypes()[0];
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return String.class;
+    }
+
+    private static void invoke(ClassInspector<?> inspector, String property, Object target, Object value) throws ReflectiveOperationException {
+        // leave primitive properties untouched when the element is empty
+        if (value != null || !inspector.getSetters().get(property).getParameterTypes()[0].isPrimitive()) {
+            inspector.setValue(target, property, value);
+        }
+    }
+
+    private static void logFailure(Class<?> targetClass, String property, Exception ex) {
+        LOG.log(Level.WARNING, "Failed to bind property " + property + " of " + targetClass + ", skipping it.", ex);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parse(String text, Class<?> type) {
+        if (type == String.class) {
+            return text;
+        }
+
+        String value = text.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        switch (type.getName()) {
+            case "boolean":
+            case "java.lang.Boolean":
+                return Boolean.valueOf(value);
+            case "byte":
+            case "java.lang.Byte":
+                return Byte.valueOf(value);
+            case "char":
+            case "java.lang.Character":
+                return value.charAt(0);
+            case "short":
+            case "java.lang.Short":
+                return Short.valueOf(value);
+            case "int":
+            case "java.lang.Integer":
+                return Integer.valueOf(value);
+            case "long":
+            case "java.lang.Long":
+                return Long.valueOf(value);
+            case "float":
+            case "java.lang.Float":
+                return Float.valueOf(value);
+            case "double":
+            case "java.lang.Double":
+                return Double.valueOf(value);
+            case "java.math.BigDecimal":
+                return new BigDecimal(value);
+            case "java.math.BigInteger":
+                return new BigInteger(value);
+            default:
+                throw new IllegalArgumentException("Unsupported XML value type: " + type);
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.processor;
+
+import com.gluonhq.connect.converter.Bindable;
+import com.gluonhq.connect.converter.ModelBinder;
+import com.gluonhq.impl.connect.converter.ClassInspector;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a {@link ModelBinder} for each class that is annotated with {@link Bindable}. The properties of the binder
+ * are resolved with the same rules as the {@link ClassInspector} applies at runtime: a property is a public getter,
+ * starting with <code>get</code> or with <code>is</code> for a boolean, together with a public setter of the same name
+ * that takes one argument, unless either is annotated with <code>XmlTransient</code>. The name of the property can be
+ * overridden with an <code>XmlElement</code> annotation.
+ */
+public class ModelBinderProcessor extends AbstractProcessor {
+
+    private static final String XML_ELEMENT = "javax.xml.bind.annotation.XmlElement";
+    private static final String XML_TRANSIENT = "javax.xml.bind.annotation.XmlTransient";
+
+    // the numeric primitives and their wrappers, from the widest to the narrowest
+    private static final List<TypeKind> NUMBERS = List.of(TypeKind.DOUBLE, TypeKind.FLOAT, TypeKind.LONG,
+            TypeKind.INT, TypeKind.SHORT, TypeKind.BYTE);
+    private static final List<String> NUMBER_WRAPPERS = List.of("Double", "Float", "Long", "Integer", "Short", "Byte");
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(Bindable.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Bindable.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Bindable can only be used on classes.");
+                continue;
+            }
+
+            TypeElement type = (TypeElement) element;
+            if (isValid(type)) {
+                try {
+                    generate(type, resolveProperties(type));
+                } catch (IOException ex) {
+                    error(type, "Failed to generate the binder: " + ex.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isValid(TypeElement type) {
+        boolean valid = true;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "@Bindable classes can not be abstract.");
+            valid = false;
+        }
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "@Bindable classes and their enclosing classes can not be private.");
+                valid = false;
+            }
+            if (((TypeElement) enclosing).getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC)) {
+                error(type, "@Bindable classes must be static when they are nested.");
+                valid = false;
+            }
+        }
+        boolean constructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+        if (!constructor) {
+            error(type, "@Bindable classes must have a no-argument constructor that is not private.");
+            valid = false;
+        }
+        return valid;
+    }
+
+    /**
+     * Resolves the properties in the same way as the ClassInspector, including the order in which the methods are
+     * processed: sorted by name, so that getters are found before their setters.
+     */
+    private Map<String, Property> resolveProperties(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+                methods.add(method);
+            }
+        }
+        methods.sort(Comparator.comparing(method -> method.getSimpleName().toString()));
+
+        Map<String, ExecutableElement> getters = new HashMap<>();
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (ExecutableElement method : methods) {
+            String methodName = method.getSimpleName().toString();
+            TypeMirror returnType = method.getReturnType();
+
+            if (method.getParameters().isEmpty() && !isAnnotated(method, XML_TRANSIENT) &&
+                    ((methodName.matches("^get[A-Z].*") && returnType.getKind() != TypeKind.VOID) ||
+                            (methodName.matches("^is[A-Z].*") && returnType.getKind() == TypeKind.BOOLEAN))) {
+                String bareMethodName = methodName.startsWith("get") ? methodName.substring(3) : methodName.substring(2);
+                getters.put(bareMethodName, method);
+            }
+
+            if (method.getParameters().size() == 1 && returnType.getKind() == TypeKind.VOID &&
+                    !isAnnotated(method, XML_TRANSIENT) && methodName.matches("^set[A-Z].*")) {
+                String bareMethodName = methodName.substring(3);
+                ExecutableElement getter = getters.get(bareMethodName);
+                if (getter != null) {
+                    String finalName = bareMethodName.substring(0, 1).toLowerCase(Locale.ROOT);
+                    if (bareMethodName.length() > 1) {
+                        finalName += bareMethodName.substring(1);
+                    }
+
+                    String annotatedName = xmlElementName(getter);
+                    if (annotatedName == null) {
+                        annotatedName = xmlElementName(method);
+                    }
+                    if (annotatedName != null && !annotatedName.isEmpty()) {
+                        finalName = annotatedName;
+                    }
+
+                    TypeMirror parameterType = processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+                    properties.put(finalName, new Property(getter.getSimpleName().toString(), methodName, parameterType));
+                }
+            }
+        }
+        return properties;
+    }
+
+    private void generate(TypeElement type, Map<String, Property> properties) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binderName = ClassInspector.getBinderName(processingEnv.getElementUtils().getBinaryName(type).toString());
+        String simpleBinderName = binderName.substring(binderName.lastIndexOf('.') + 1);
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        Set<TypeKind> primitives = new TreeSet<>();
+        try (Writer writer = processingEnv.getFiler().createSourceFile(binderName, type).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import java.lang.reflect.Method;");
+            out.println("import java.util.HashMap;");
+            out.println("import java.util.Map;");
+            out.println();
+            out.println("/**");
+            out.println(" * Binds objects of {@link " + typeName + "} without reflection. Generated by the");
+            out.println(" * " + ModelBinderProcessor.class.getName() + ", do not edit.");
+            out.println(" */");
+            out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.println("public final class " + simpleBinderName + " implements " + ModelBinder.class.getName() + "<" + typeName + "> {");
+            out.println();
+            out.println("    private static final Map<String, Method> GETTERS = new HashMap<>();");
+            out.println("    private static final Map<String, Method> SETTERS = new HashMap<>();");
+            if (!properties.isEmpty()) {
+                // the methods are looked up by their constant names, which ahead-of-time compilers can resolve
+                out.println();
+                out.println("    static {");
+                out.println("        try {");
+                for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                    Property property = entry.getValue();
+                    out.println("            GETTERS.put(" + literal(entry.getKey()) + ", " + typeName + ".class.getMethod(" +
+                            literal(property.getter) + "));");
+                    out.println("            SETTERS.put(" + literal(entry.getKey()) + ", " + typeName + ".class.getMethod(" +
+                            literal(property.setter) + ", " + property.type + ".class));");
+                }
+                out.println("        } catch (NoSuchMethodException ex) {");
+                out.println("            throw new IllegalStateException(\"The binder is out of date with " + typeName + "\", ex);");
+                out.println("        }");
+                out.println("    }");
+            }
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + typeName + "> getTargetClass() {");
+            out.println("        return " + typeName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + typeName + " newInstance() {");
+            out.println("        return new " + typeName + "();");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Map<String, Method> getGetters() {");
+            out.println("        return GETTERS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Map<String, Method> getSetters() {");
+            out.println("        return SETTERS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Object get(" + typeName + " target, String property) {");
+            out.println("        switch (property) {");
+            for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                out.println("            case " + literal(entry.getKey()) + ":");
+                out.println("                return target." + entry.getValue().getter + "();");
+            }
+            out.println("            default:");
+            out.println("                throw new IllegalArgumentException(\"Unknown property: \" + property);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void set(" + typeName + " target, String property, Object value) {");
+            out.println("        switch (property) {");
+            for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                Property property = entry.getValue();
+                String argument;
+                if (property.type.getKind().isPrimitive()) {
+                    primitives.add(property.type.getKind());
+                    argument = "to" + capitalize(property.type.toString()) + "(value)";
+                } else {
+                    argument = "(" + property.type + ") checked(value, " + property.type + ".class)";
+                }
+                out.println("            case " + literal(entry.getKey()) + ":");
+                out.println("                target." + property.setter + "(" + argument + ");");
+                out.println("                break;");
+            }
+            out.println("            default:");
+            out.println("                throw new IllegalArgumentException(\"Unknown property: \" + property);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    private static Object checked(Object value, Class<?> type) {");
+            out.println("        if (value != null && !type.isInstance(value)) {");
+            out.println("            throw new IllegalArgumentException(\"argument type mismatch: \" + value.getClass().getName() + \" is not a \" + type.getName());");
+            out.println("        }");
+            out.println("        return value;");
+            out.println("    }");
+            for (TypeKind primitive : primitives) {
+                writeUnboxing(out, primitive);
+            }
+            out.println("}");
+        }
+    }
+
+    /**
+     * Writes a method that unboxes a value for a primitive setter, allowing the same widening conversions as
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+     */
+    private static void writeUnboxing(PrintWriter out, TypeKind primitive) {
+        String name = primitive.name().toLowerCase(Locale.ROOT);
+        List<String> sources;
+        switch (primitive) {
+            case CHAR:
+                sources = List.of("Character");
+                break;
+            case BOOLEAN:
+                sources = List.of("Boolean");
+                break;
+            default:
+                // a number can be unboxed from its own wrapper and from the wrappers of all the narrower numbers
+                int index = NUMBERS.indexOf(primitive);
+                sources = index < 0 ? List.of() : NUMBER_WRAPPERS.subList(index, NUMBER_WRAPPERS.size());
+                break;
+        }
+
+        out.println();
+        out.println("    private static " + name + " to" + capitalize(name) + "(Object value) {");
+        if (primitive == TypeKind.BOOLEAN) {
+            out.println("        if (value instanceof Boolean) {");
+            out.println("            return (Boolean) value;");
+            out.println("        }");
+        } else if (primitive == TypeKind.CHAR) {
+            out.println("        if (value instanceof Character) {");
+            out.println("            return (Character) value;");
+            out.println("        }");
+        } else {
+            out.println("        if (" + sources.stream().map(s -> "value instanceof " + s).reduce((a, b) -> a + " || " + b).orElseThrow() + ") {");
+            out.println("            return ((Number) value)." + name + "Value();");
+            out.println("        }");
+            if (primitive != TypeKind.BYTE && primitive != TypeKind.SHORT) {
+                out.println("        if (value instanceof Character) {");
+                out.println("            return (Character) value;");
+                out.println("        }");
+            }
+        }
+        out.println("        throw new IllegalArgumentException(\"argument type mismatch: \" + (value == null ? \"null\" : value.getClass().getName()) + \" is not a " + name + "\");");
+        out.println("    }");
+    }
+
+    private static boolean isAnnotated(Element element, String annotation) {
+        return findAnnotation(element, annotation) != null;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private String xmlElementName(ExecutableElement method) {
+        AnnotationMirror mirror = findAnnotation(method, XML_ELEMENT);
+        if (mirror == null) {
+            return null;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("name")) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Property {
+
+        private final String getter;
+        private final String setter;
+        private final TypeMirror type;
+
+        private Property(String getter, String setter, TypeMirror type) {
+            this.getter = getter;
+            this.setter = setter;
+            this.type = type;
+        }
+    }
+}
@@ -31,12 +31,18 @@
 module com.gluonhq.connect {
     requires java.json;
     requires java.logging;
+    requires static java.compiler;
+    requires java.net.http;
     requires java.xml.bind;
 
     requires javafx.graphics;
 
     exports com.gluonhq.connect;
     exports com.gluonhq.connect.converter;
+    exports com.gluonhq.connect.metrics;
     exports com.gluonhq.connect.provider;
     exports com.gluonhq.connect.source;
+
+    uses com.gluonhq.connect.converter.JsonBackend;
+    uses com.gluonhq.connect.metrics.MetricsRecorder;
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect;
+
+import javafx.collections.ListChangeListener;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class GluonObservableListTest {
+
+    @Test
+    public void bulkOperationsFireSingleChange() {
+        GluonObservableList<Integer> list = new GluonObservableList<>();
+        List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> changes.add(c));
+
+        list.addAll(Arrays.asList(5, 3, 8, 1, 9, 2));
+        assertEquals(changes.size(), 1);
+        assertEquals(list, Arrays.asList(5, 3, 8, 1, 9, 2));
+
+        list.removeAll(Arrays.asList(3, 9));
+        assertEquals(changes.size(), 2);
+        assertEquals(list, Arrays.asList(5, 8, 1, 2));
+
+        list.setAll(Arrays.asList(7, 4));
+        assertEquals(changes.size(), 3);
+        assertEquals(list, Arrays.asList(7, 4));
+
+        list.clear();
+        assertEquals(changes.size(), 4);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void removeAllReportsRemovedElements() {
+        GluonObservableList<String> list = new GluonObservableList<>();
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+
+        List<String> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+            }
+        });
+
+        list.retainAll(Arrays.asList("a", "c"));
+        assertEquals(list, Arrays.asList("a", "c"));
+        assertEquals(removed, Arrays.asList("b", "d", "e"));
+    }
+
+    @Test
+    public void sortFiresPermutation() {
+        GluonObservableList<Integer> list = new GluonObservableList<>();
+        list.addAll(Arrays.asList(3, 1, 2));
+
+        List<Integer> permutation = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasPermutated());
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation.add(c.getPermutation(i));
+                }
+            }
+        });
+
+        list.sort(Comparator.naturalOrder());
+        assertEquals(list, Arrays.asList(1, 2, 3));
+        assertEquals(permutation, Arrays.asList(2, 0, 1));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleObjectProperty;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class GluonObservableObjectTest {
+
+    @Test
+    public void removedListenersAreNotObserving() {
+        GluonObservableObject<String> observable = new GluonObservableObject<>();
+        assertFalse(observable.isObserved());
+
+        InvalidationListener listener = o -> {};
+        observable.addListener(listener);
+        assertTrue(observable.isObserved());
+
+        observable.removeListener(listener);
+        assertFalse(observable.isObserved());
+    }
+
+    @Test
+    public void collectedBindingsAreNotObserving() throws InterruptedException {
+        GluonObservableObject<String> observable = new GluonObservableObject<>();
+        SimpleObjectProperty<String> target = new SimpleObjectProperty<>();
+        target.bind(observable);
+        assertTrue(observable.isObserved());
+
+        target = null;
+
+        for (int i = 0; i < 50 && observable.isObserved(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertFalse(observable.isObserved());
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect;
+
+import com.gluonhq.connect.provider.PageLoader;
+import javafx.collections.ListChangeListener;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GluonObservablePagedListTest {
+
+    private static final int TOTAL_SIZE = 100_000;
+    private static final int PAGE_SIZE = 10;
+
+    @Test
+    public void pagesAreLoadedOnDemand() {
+        List<Runnable> tasks = new ArrayList<>();
+        GluonObservablePagedList<String> list = new GluonObservablePagedList<>((offset, limit) -> {
+            throw new AssertionError("Pages are loaded manually in this test");
+        }, PAGE_SIZE, 2, tasks::add);
+
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + "-" + c.getTo() + (c.wasReplaced() ? " replaced" : c.wasAdded() ? " added" : " removed"));
+            }
+        });
+
+        list.refresh();
+        assertEquals(list.getState(), ConnectState.RUNNING);
+        assertEquals(tasks.size(), 1);
+        assertEquals(list.size(), 0);
+
+        list.pageLoaded(1, 0, page(0));
+        assertEquals(list.getState(), ConnectState.SUCCEEDED);
+        assertTrue(list.isInitialized());
+        assertEquals(list.size(), TOTAL_SIZE);
+        assertEquals(changes, List.of("0-100000 added"));
+        assertEquals(list.get(5), "item 5");
+
+        // requesting an element of a page that is not loaded triggers exactly one load
+        assertNull(list.get(25));
+        assertNull(list.get(27));
+        assertEquals(tasks.size(), 2);
+
+        changes.clear();
+        list.pageLoaded(1, 2, page(2));
+        assertEquals(list.get(25), "item 25");
+        assertEquals(changes, List.of("20-30 replaced"));
+
+        // loading a third page evicts the least recently accessed page
+        changes.clear();
+        assertNull(list.get(99_995));
+        list.pageLoaded(1, 9_999, page(9_999));
+        assertEquals(changes, List.of("0-10 replaced", "99990-100000 replaced"));
+        assertTrue(list.isLoaded(25));
+        assertTrue(list.isLoaded(99_995));
+        assertFalse(list.isLoaded(5));
+        assertEquals(list.get(99_999), "item 99999");
+    }
+
+    @Test
+    public void staleResultsAreIgnoredAfterRefresh() {
+        List<Runnable> tasks = new ArrayList<>();
+        GluonObservablePagedList<String> list = new GluonObservablePagedList<>((offset, limit) -> {
+            throw new AssertionError("Pages are loaded manually in this test");
+        }, PAGE_SIZE, 4, tasks::add);
+
+        list.refresh();
+        list.pageLoaded(1, 0, page(0));
+        assertNull(list.get(15));
+
+        list.refresh();
+        list.pageLoaded(1, 1, page(1));
+        assertFalse(list.isLoaded(15));
+
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) changes::add);
+        list.pageLoaded(2, 0, new PageLoader.Page<>(List.of("a", "b", "c"), 3));
+        assertEquals(changes.size(), 1);
+        assertEquals(list.size(), 3);
+        assertEquals(list, List.of("a", "b", "c"));
+    }
+
+    @Test
+    public void estimatedSizeNeverShrinks() {
+        List<Runnable> tasks = new ArrayList<>();
+        GluonObservablePagedList<String> list = new GluonObservablePagedList<>((offset, limit) -> {
+            throw new AssertionError("Pages are loaded manually in this test");
+        }, PAGE_SIZE, 2, tasks::add);
+
+        // without a total size, each full page announces one more element after it
+        list.refresh();
+        for (int page = 0; page < 5; page++) {
+            list.pageLoaded(1, page, estimatedPage(page));
+            assertEquals(list.size(), (page + 1) * PAGE_SIZE + 1);
+            assertNull(list.get(list.size() - 1));
+        }
+        list.pageLoaded(1, 5, estimatedPage(5));
+        assertEquals(list.size(), 6 * PAGE_SIZE + 1);
+        assertFalse(list.isLoaded(0));
+
+        // reloading the evicted first page estimates 11 elements, which must not shrink the list
+        assertNull(list.get(0));
+        list.pageLoaded(1, 0, estimatedPage(0));
+        assertEquals(list.get(0), "item 0");
+        assertEquals(list.size(), 6 * PAGE_SIZE + 1);
+    }
+
+    @Test
+    public void failedPagesAreNotRequestedAgain() {
+        List<Runnable> tasks = new ArrayList<>();
+        GluonObservablePagedList<String> list = new GluonObservablePagedList<>((offset, limit) -> {
+            throw new AssertionError("Pages are loaded manually in this test");
+        }, PAGE_SIZE, 2, tasks::add);
+
+        list.refresh();
+        list.pageLoaded(1, 0, page(0));
+        assertNull(list.get(15));
+        assertEquals(tasks.size(), 2);
+
+        list.pageFailed(1, 1, new IOException("Service unavailable"));
+        assertEquals(list.getState(), ConnectState.FAILED);
+        assertNull(list.get(15));
+        assertNull(list.get(16));
+        assertEquals(tasks.size(), 2);
+
+        // refreshing the list gives the failed page another chance
+        list.refresh();
+        list.pageLoaded(2, 0, page(0));
+        assertNull(list.get(15));
+        assertEquals(tasks.size(), 4);
+    }
+
+    @Test
+    public void requestedPagesAreNotEvicted() {
+        List<Runnable> tasks = new ArrayList<>();
+        GluonObservablePagedList<String> list = new GluonObservablePagedList<>((offset, limit) -> {
+            throw new AssertionError("Pages are loaded manually in this test");
+        }, PAGE_SIZE, 2, tasks::add);
+
+        list.refresh();
+        list.pageLoaded(1, 0, page(0));
+
+        // a viewport of four pages, while only two pages can be cached
+        for (int i = 0; i < 4 * PAGE_SIZE; i++) {
+            list.get(i);
+        }
+        assertEquals(tasks.size(), 4);
+        for (int page = 1; page < 4; page++) {
+            list.pageLoaded(1, page, page(page));
+        }
+        for (int i = 0; i < 4 * PAGE_SIZE; i++) {
+            assertEquals(list.get(i), "item " + i);
+        }
+        assertEquals(tasks.size(), 4);
+
+        // once the viewport moves on, the pages that are no longer requested are evicted
+        list.get(100);
+        list.get(110);
+        list.pageLoaded(1, 10, page(10));
+        list.pageLoaded(1, 11, page(11));
+        list.get(100);
+        list.get(110);
+        list.get(120);
+        list.pageLoaded(1, 12, page(12));
+        assertTrue(list.isLoaded(100));
+        assertTrue(list.isLoaded(110));
+        assertTrue(list.isLoaded(120));
+        for (int i = 0; i < 4 * PAGE_SIZE; i += PAGE_SIZE) {
+            assertFalse(list.isLoaded(i));
+        }
+    }
+
+    @Test
+    public void cancelledListLoadsNoMorePages() {
+        List<Runnable> tasks = new ArrayList<>();
+        GluonObservablePagedList<String> list = new GluonObservablePagedList<>((offset, limit) -> {
+            throw new AssertionError("Pages are loaded manually in this test");
+        }, PAGE_SIZE, 4, tasks::add);
+
+        list.refresh();
+        list.pageLoaded(1, 0, page(0));
+        assertNull(list.get(15));
+        assertNull(list.get(25));
+        assertEquals(tasks.size(), 3);
+
+        list.setState(ConnectState.CANCELLED);
+
+        // the pages that were still loading are ignored, also when loading them failed because of the cancel
+        list.pageLoaded(1, 1, page(1));
+        list.pageFailed(1, 2, new IOException("Disconnected"));
+        assertFalse(list.isLoaded(15));
+        assertNull(list.getException());
+        assertEquals(list.getState(), ConnectState.CANCELLED);
+
+        assertNull(list.get(35));
+        list.refresh();
+        assertEquals(tasks.size(), 3);
+        assertEquals(list.getState(), ConnectState.CANCELLED);
+        assertEquals(list.get(5), "item 5");
+    }
+
+    private static PageLoader.Page<String> estimatedPage(int page) {
+        List<String> items = page(page).getItems();
+        return new PageLoader.Page<>(items, page * PAGE_SIZE + items.size() + 1, true);
+    }
+
+    private static PageLoader.Page<String> page(int page) {
+        List<String> items = new ArrayList<>();
+        for (int i = page * PAGE_SIZE; i < Math.min((page + 1) * PAGE_SIZE, TOTAL_SIZE); i++) {
+            items.add("item " + i);
+        }
+        return new PageLoader.Page<>(items, TOTAL_SIZE);
+    }
+}
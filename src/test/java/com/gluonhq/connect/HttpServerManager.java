@@ -30,6 +30,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.ServerWebSocket;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,9 +46,19 @@ public class HttpServerManager implements AutoCloseable {
     private List<HttpServerRequest> requests = new ArrayList<>();
 
     public void startHttpServer(Handler<HttpServerRequest> requestHandler) throws InterruptedException, TimeoutException {
-        CountDownLatch latch = new CountDownLatch(1);
         httpServer = Vertx.vertx().createHttpServer();
         httpServer.requestHandler(new RequestHandlerWrapper(requestHandler));
+        listen();
+    }
+
+    public void startWebSocketServer(Handler<ServerWebSocket> webSocketHandler) throws InterruptedException, TimeoutException {
+        httpServer = Vertx.vertx().createHttpServer();
+        httpServer.websocketHandler(webSocketHandler);
+        listen();
+    }
+
+    private void listen() throws InterruptedException, TimeoutException {
+        CountDownLatch latch = new CountDownLatch(1);
         httpServer.listen(45000, asyncResult -> {
             if (asyncResult.failed()) {
                 asyncResult.cause().printStackTrace();
@@ -67,6 +78,10 @@ public class HttpServerManager implements AutoCloseable {
         }
     }
 
+    public void clearRequests() {
+        requests.clear();
+    }
+
     public void verify(HttpRequest request, long times) {
         long count = requests.stream().filter(request::matches).count();
         if (times != count) {
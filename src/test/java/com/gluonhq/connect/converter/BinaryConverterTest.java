@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import com.gluonhq.impl.connect.converter.BinaryInput;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class BinaryConverterTest {
+
+    @Test
+    public void writeAndReadPrimitiveWrapperClassFields() throws IOException {
+        JsonConverterTest.SimpleClassWithPrimitiveWrappers object = new JsonConverterTest.SimpleClassWithPrimitiveWrappers();
+        object.setABoolean(true);
+        object.setAByte((byte) -3);
+        object.setADouble(2.5);
+        object.setAFloat(-1.25f);
+        object.setAnInteger(Integer.MIN_VALUE);
+        object.setALong(Long.MAX_VALUE);
+
+        JsonConverterTest.SimpleClassWithPrimitiveWrappers read = roundTrip(object, JsonConverterTest.SimpleClassWithPrimitiveWrappers.class);
+        assertEquals(read.getABoolean(), Boolean.TRUE);
+        assertEquals(read.getAByte(), Byte.valueOf((byte) -3));
+        assertEquals(read.getADouble(), 2.5);
+        assertEquals(read.getAFloat(), -1.25f);
+        assertEquals(read.getAnInteger(), Integer.valueOf(Integer.MIN_VALUE));
+        assertEquals(read.getALong(), Long.valueOf(Long.MAX_VALUE));
+        assertNull(read.getAShort());
+    }
+
+    @Test
+    public void writeAndReadMathBigFields() throws IOException {
+        JsonConverterMathBigTest.ClassWithBigDecimalField bigDecimal = new JsonConverterMathBigTest.ClassWithBigDecimalField();
+        bigDecimal.setBigDecimal(new BigDecimal("-24.210210000000001"));
+        assertEquals(roundTrip(bigDecimal, JsonConverterMathBigTest.ClassWithBigDecimalField.class).getBigDecimal(), new BigDecimal("-24.210210000000001"));
+
+        JsonConverterMathBigTest.ClassWithBigIntegerField bigInteger = new JsonConverterMathBigTest.ClassWithBigIntegerField();
+        bigInteger.setBigInteger(new BigInteger("57486575406257840165894267426524656554057289574"));
+        assertEquals(roundTrip(bigInteger, JsonConverterMathBigTest.ClassWithBigIntegerField.class).getBigInteger(), new BigInteger("57486575406257840165894267426524656554057289574"));
+    }
+
+    @Test
+    public void writeAndReadListAndMapFields() throws IOException {
+        JsonConverterTest.ClassWithListField listObject = new JsonConverterTest.ClassWithListField();
+        listObject.setList(Arrays.asList("string1", "string2", null));
+        assertEquals(roundTrip(listObject, JsonConverterTest.ClassWithListField.class).getList(), Arrays.asList("string1", "string2", null));
+
+        Map<String, JsonConverterTest.SimpleClass> objectMap = new HashMap<>();
+        objectMap.put("object1key", new JsonConverterTest.SimpleClass("string1", 1));
+        objectMap.put("object2key", new JsonConverterTest.SimpleClass("string2", -2));
+        Map<String, Integer> integerMap = new HashMap<>();
+        integerMap.put("int1key", 1);
+
+        JsonConverterTest.ClassWithMapFields mapObject = new JsonConverterTest.ClassWithMapFields();
+        mapObject.setObjectMap(objectMap);
+        mapObject.setIntegerMap(integerMap);
+
+        JsonConverterTest.ClassWithMapFields read = roundTrip(mapObject, JsonConverterTest.ClassWithMapFields.class);
+        assertEquals(read.getObjectMap(), objectMap);
+        assertEquals(read.getIntegerMap(), integerMap);
+        assertNull(read.getStringMap());
+    }
+
+    @Test
+    public void writeIsSmallerThanJson() throws IOException {
+        List<JsonConverterTest.SimpleClass> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(new JsonConverterTest.SimpleClass("string" + i, i));
+        }
+        ClassWithSimpleClassList object = new ClassWithSimpleClassList();
+        object.setItems(list);
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        new BinaryConverter<>(ClassWithSimpleClassList.class).writeToBinary(object, binary);
+        String json = new JsonConverter<>(ClassWithSimpleClassList.class).writeToJson(object).toString();
+
+        assertTrue(binary.size() * 2 < json.length());
+        assertEquals(new BinaryConverter<>(ClassWithSimpleClassList.class).readFromBinary(new ByteArrayInputStream(binary.toByteArray())).getItems(), list);
+    }
+
+    @Test
+    public void readUnknownEnumConstant() throws IOException {
+        ClassWithEnumName removed = new ClassWithEnumName();
+        removed.setEnumType("D");
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        new BinaryConverter<>(ClassWithEnumName.class).writeToBinary(removed, binary);
+
+        JsonConverterTest.ClassWithEnumField object = new BinaryConverter<>(JsonConverterTest.ClassWithEnumField.class)
+                .readFromBinary(new ByteArrayInputStream(binary.toByteArray()));
+        assertNull(object.getEnumType());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void readInvalidData() throws IOException {
+        new BinaryConverter<>(JsonConverterTest.SimpleClass.class).readFromBinary(new ByteArrayInputStream("{}".getBytes()));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void readNegativeLength() throws IOException {
+        // 2^32 - 1, which would be -1 when it is read as an int
+        byte[] length = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        new BinaryInput(new ByteArrayInputStream(length)).readString();
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void readLengthBeyondEndOfInput() throws IOException {
+        // Integer.MAX_VALUE, followed by only three bytes
+        byte[] bytes = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 1, 2, 3};
+        new BinaryInput(new ByteArrayInputStream(bytes)).readBytes();
+    }
+
+    private static <T> T roundTrip(T object, Class<T> targetClass) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryOutputConverter<T> outputConverter = new BinaryOutputConverter<>(targetClass);
+        outputConverter.setOutputStream(outputStream);
+        outputConverter.write(object);
+
+        BinaryInputConverter<T> inputConverter = new BinaryInputConverter<>(targetClass);
+        inputConverter.setInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+        return inputConverter.read();
+    }
+
+    public static final class ClassWithSimpleClassList {
+
+        private List<JsonConverterTest.SimpleClass> items;
+
+        public List<JsonConverterTest.SimpleClass> getItems() {
+            return items;
+        }
+
+        public void setItems(List<JsonConverterTest.SimpleClass> items) {
+            this.items = items;
+        }
+    }
+
+    public static final class ClassWithEnumName {
+
+        private String enumType;
+
+        public String getEnumType() {
+            return enumType;
+        }
+
+        public void setEnumType(String enumType) {
+            this.enumType = enumType;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import javafx.collections.FXCollections;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class JsonBackendTest {
+
+    @DataProvider(name = "backends")
+    public Object[][] backends() {
+        return new Object[][] {{JsonBackends.objectModel()}, {JsonBackends.streaming()}};
+    }
+
+    @Test(dataProvider = "backends")
+    public void readModelClasses(JsonBackend backend) {
+        JsonConverter<JsonConverterTest.ClassWithEnumField> enumConverter = new JsonConverter<>(JsonConverterTest.ClassWithEnumField.class);
+        JsonConverterTest.ClassWithEnumField enumField = backend.readObject(stream("{\"enumType\":\"B\"}"), enumConverter);
+        assertEquals(enumConverter.writeToJson(enumField).getString("enumType"), "B");
+
+        JsonConverterTest.ClassWithListField listField = new JsonConverterTest.ClassWithListField();
+        listField.setList(Arrays.asList("a", "b", "c"));
+        assertRoundTrip(backend, listField, JsonConverterTest.ClassWithListField.class);
+
+        JsonConverterTest.ClassWithObservableListField observableListField = new JsonConverterTest.ClassWithObservableListField();
+        observableListField.setList(FXCollections.observableArrayList("a", "b"));
+        assertRoundTrip(backend, observableListField, JsonConverterTest.ClassWithObservableListField.class);
+
+        JsonConverterTest.ClassWithMapFields mapFields = new JsonConverterTest.ClassWithMapFields();
+        mapFields.setStringMap(new HashMap<>(Map.of("k1", "v1", "k2", "v2")));
+        mapFields.setIntegerMap(Map.of("i", 7));
+        mapFields.setDoubleMap(Map.of("d", 2.5));
+        mapFields.setBooleanMap(Map.of("b", true));
+        mapFields.setObjectMap(Map.of("o", new JsonConverterTest.SimpleClass("s", 3)));
+        assertRoundTrip(backend, mapFields, JsonConverterTest.ClassWithMapFields.class);
+
+        JsonConverterTest.SimpleClassWithPrimitiveWrappers wrappers = new JsonConverterTest.SimpleClassWithPrimitiveWrappers();
+        wrappers.setABoolean(true);
+        wrappers.setADouble(2.5);
+        wrappers.setAFloat(3.5f);
+        wrappers.setAnInteger(4);
+        wrappers.setALong(5L);
+        assertRoundTrip(backend, wrappers, JsonConverterTest.SimpleClassWithPrimitiveWrappers.class);
+    }
+
+    @Test(dataProvider = "backends")
+    public void unknownPropertiesAreSkipped(JsonBackend backend) {
+        String json = "{\"skipped\":{\"nested\":[1,{\"deep\":null}]},\"string\":\"s\",\"other\":[true],\"number\":4}";
+
+        JsonConverterTest.SimpleClass object = backend.readObject(stream(json), new JsonConverter<>(JsonConverterTest.SimpleClass.class));
+        assertEquals(object, new JsonConverterTest.SimpleClass("s", 4));
+    }
+
+    @Test(dataProvider = "backends")
+    public void onlyProjectedPropertiesAreBound(JsonBackend backend) {
+        JsonConverter<JsonConverterTest.SimpleClass> converter = new JsonConverter<>(JsonConverterTest.SimpleClass.class);
+        converter.setProperties(List.of("string"));
+
+        JsonConverterTest.SimpleClass object = backend.readObject(stream("{\"string\":\"s\",\"number\":4}"), converter);
+        assertEquals(object, new JsonConverterTest.SimpleClass("s", 0));
+
+        List<JsonConverterTest.SimpleClass> objects = new ArrayList<>();
+        backend.readArray(stream("[{\"number\":1,\"string\":\"a\"},{\"other\":[3],\"string\":\"b\",\"number\":2}]"), converter).forEachRemaining(objects::add);
+        assertEquals(objects, List.of(new JsonConverterTest.SimpleClass("a", 0), new JsonConverterTest.SimpleClass("b", 0)));
+
+        converter.setProperties(null);
+        assertTrue(converter.getProperties().isEmpty());
+        assertEquals(backend.readObject(stream("{\"string\":\"s\",\"number\":4}"), converter), new JsonConverterTest.SimpleClass("s", 4));
+    }
+
+    @Test(dataProvider = "backends")
+    public void internedValuesAreShared(JsonBackend backend) {
+        String json = "[{\"string\":\"open\",\"number\":1},{\"string\":\"open\",\"number\":2},{\"string\":\"closed\",\"number\":3}]";
+        JsonConverter<JsonConverterTest.SimpleClass> converter = new JsonConverter<>(JsonConverterTest.SimpleClass.class);
+        converter.setInternedProperties(List.of("string"));
+
+        List<JsonConverterTest.SimpleClass> objects = new ArrayList<>();
+        backend.readArray(stream(json), converter).forEachRemaining(objects::add);
+        assertSame(objects.get(0).getString(), objects.get(1).getString());
+        assertEquals(objects.get(2).getString(), "closed");
+
+        JsonConverter<JsonConverterTest.ClassWithListField> listConverter = new JsonConverter<>(JsonConverterTest.ClassWithListField.class);
+        listConverter.setInternedProperties(List.of("list"));
+        JsonConverterTest.ClassWithListField first = backend.readObject(stream("{\"list\":[\"x\",\"y\"]}"), listConverter);
+        JsonConverterTest.ClassWithListField second = backend.readObject(stream("{\"list\":[\"y\"]}"), listConverter);
+        assertSame(first.getList().get(1), second.getList().get(0));
+    }
+
+    @Test(dataProvider = "backends")
+    public void internCacheIsBounded(JsonBackend backend) {
+        String json = "[{\"string\":\"a\"},{\"string\":\"b\"},{\"string\":\"b\"},{\"string\":\"a\"}]";
+        JsonConverter<JsonConverterTest.SimpleClass> converter = new JsonConverter<>(JsonConverterTest.SimpleClass.class);
+        converter.setInternedProperties(List.of("string"));
+        converter.setInternCacheSize(1);
+
+        List<JsonConverterTest.SimpleClass> objects = new ArrayList<>();
+        backend.readArray(stream(json), converter).forEachRemaining(objects::add);
+        assertSame(objects.get(0).getString(), objects.get(3).getString());
+        assertNotSame(objects.get(1).getString(), objects.get(2).getString());
+        assertEquals(objects.get(2).getString(), "b");
+    }
+
+    @Test(dataProvider = "backends")
+    public void readNumberArrays(JsonBackend backend) {
+        String json = "{\"ints\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17],\"longs\":[9007199254740993],\"doubles\":[0.5,-1]," +
+                "\"integerList\":[1,2],\"doubleList\":[]}";
+        JsonConverter<JsonConverterTest.ClassWithNumberArrays> converter = new JsonConverter<>(JsonConverterTest.ClassWithNumberArrays.class);
+
+        JsonConverterTest.ClassWithNumberArrays object = backend.readObject(stream(json), converter);
+        assertEquals(object.getInts(), new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+        assertEquals(object.getLongs(), new long[] {9007199254740993L});
+        assertEquals(object.getDoubles(), new double[] {0.5, -1.0});
+        assertEquals(object.getIntegerList(), List.of(1, 2));
+        assertEquals(object.getDoubleList(), List.of());
+
+        object = backend.readObject(stream("{\"ints\":[1,null,3],\"longs\":[2]}"), converter);
+        assertNull(object.getInts());
+        assertEquals(object.getLongs(), new long[] {2L});
+    }
+
+    @Test(dataProvider = "backends")
+    public void readArrays(JsonBackend backend) {
+        String json = "[{\"string\":\"a\",\"number\":1},{\"string\":\"b\",\"number\":2}]";
+
+        assertEquals(readAll(backend, json, JsonConverterTest.SimpleClass.class),
+                List.of(new JsonConverterTest.SimpleClass("a", 1), new JsonConverterTest.SimpleClass("b", 2)));
+        assertEquals(readAll(backend, json, JsonObject.class).get(1).getString("string"), "b");
+        assertEquals(readAll(backend, "[1, 2, 3]", Integer.class), List.of(1, 2, 3));
+        assertEquals(readAll(backend, "[\"x\", \"y\"]", String.class), List.of("x", "y"));
+        assertFalse(backend.readArray(stream("[]"), new JsonConverter<>(String.class)).hasNext());
+    }
+
+    @Test(dataProvider = "backends")
+    public void unknownEnumConstantsAreSkipped(JsonBackend backend) {
+        String json = "[{\"enumType\":\"B\"},{\"enumType\":\"UNKNOWN\"},{\"enumType\":\"A\"}]";
+
+        JsonConverter<JsonConverterTest.ClassWithEnumField> converter = new JsonConverter<>(JsonConverterTest.ClassWithEnumField.class);
+        List<JsonConverterTest.ClassWithEnumField> elements = readAll(backend, json, JsonConverterTest.ClassWithEnumField.class);
+        assertEquals(elements.size(), 3);
+        assertEquals(converter.writeToJson(elements.get(0)).getString("enumType"), "B");
+        assertNull(elements.get(1).getEnumType());
+        assertEquals(converter.writeToJson(elements.get(2)).getString("enumType"), "A");
+    }
+
+    @Test(dataProvider = "backends", expectedExceptions = JsonException.class)
+    public void malformedJsonIsReported(JsonBackend backend) {
+        readAll(backend, "[{\"string\":\"a\"},", JsonConverterTest.SimpleClass.class);
+    }
+
+    @Test
+    public void convertersUseTheConfiguredBackend() {
+        JsonIterableInputConverter<Integer> converter = new JsonIterableInputConverter<>(Integer.class);
+        assertNull(converter.getBackend());
+        converter.setBackend(JsonBackends.streaming());
+        converter.setInputStream(stream("[4, 5]"));
+
+        List<Integer> values = new ArrayList<>();
+        converter.iterator().forEachRemaining(values::add);
+        assertEquals(values, List.of(4, 5));
+    }
+
+    private static <T> void assertRoundTrip(JsonBackend backend, T object, Class<T> targetClass) {
+        JsonConverter<T> converter = new JsonConverter<>(targetClass);
+        JsonObject expected = converter.writeToJson(object);
+
+        T read = backend.readObject(stream(expected.toString()), converter);
+        assertEquals(converter.writeToJson(read), expected);
+    }
+
+    private static <E> List<E> readAll(JsonBackend backend, String json, Class<E> targetClass) {
+        List<E> elements = new ArrayList<>();
+        for (Iterator<E> it = backend.readArray(stream(json), new JsonConverter<>(targetClass)); it.hasNext();) {
+            elements.add(it.next());
+        }
+        return elements;
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
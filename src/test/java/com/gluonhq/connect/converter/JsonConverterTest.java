@@ -257,6 +257,43 @@ public class JsonConverterTest {
         assertEquals(Short.valueOf((short) jsonObject.getInt("aShort")), object.getAShort());
     }
 
+    @Test
+    public void readNumberArrayFields() {
+        JsonObject jsonObject = Json.createObjectBuilder()
+                .add("ints", Json.createArrayBuilder().add(1).add(-2).add(3))
+                .add("longs", Json.createArrayBuilder().add(831931831193157L))
+                .add("doubles", Json.createArrayBuilder().add(1.5).add(2))
+                .add("integerList", Json.createArrayBuilder().add(4).add(5))
+                .add("doubleList", Json.createArrayBuilder().add(0.25))
+                .build();
+
+        JsonConverter<ClassWithNumberArrays> jsonConverter = new JsonConverter<>(ClassWithNumberArrays.class);
+        ClassWithNumberArrays object = jsonConverter.readFromJson(jsonObject);
+        assertEquals(object.getInts(), new int[] {1, -2, 3});
+        assertEquals(object.getLongs(), new long[] {831931831193157L});
+        assertEquals(object.getDoubles(), new double[] {1.5, 2.0});
+        assertEquals(object.getIntegerList(), Arrays.asList(4, 5));
+        assertEquals(object.getDoubleList(), Collections.singletonList(0.25));
+    }
+
+    @Test
+    public void writeNumberArrayFields() {
+        ClassWithNumberArrays object = new ClassWithNumberArrays();
+        object.setInts(new int[] {7, 8});
+        object.setDoubles(new double[0]);
+
+        JsonConverter<ClassWithNumberArrays> jsonConverter = new JsonConverter<>(ClassWithNumberArrays.class);
+        JsonObject jsonObject = jsonConverter.writeToJson(object);
+        assertEquals(jsonObject.getJsonArray("ints").getInt(0), 7);
+        assertEquals(jsonObject.getJsonArray("ints").getInt(1), 8);
+        assertEquals(jsonObject.get("longs"), JsonValue.NULL);
+        assertTrue(jsonObject.getJsonArray("doubles").isEmpty());
+
+        ClassWithNumberArrays read = jsonConverter.readFromJson(jsonObject);
+        assertEquals(read.getInts(), object.getInts());
+        assertEquals(read.getDoubles(), object.getDoubles());
+    }
+
     public static final class ClassWithEnumField {
 
         private EnumType enumType;
@@ -462,6 +499,55 @@ public class JsonConverterTest {
         }
     }
 
+    public static final class ClassWithNumberArrays {
+
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private List<Integer> integerList;
+        private List<Double> doubleList;
+
+        public int[] getInts() {
+            return ints;
+        }
+
+        public void setInts(int[] ints) {
+            this.ints = ints;
+        }
+
+        public long[] getLongs() {
+            return longs;
+        }
+
+        public void setLongs(long[] longs) {
+            this.longs = longs;
+        }
+
+        public double[] getDoubles() {
+            return doubles;
+        }
+
+        public void setDoubles(double[] doubles) {
+            this.doubles = doubles;
+        }
+
+        public List<Integer> getIntegerList() {
+            return integerList;
+        }
+
+        public void setIntegerList(List<Integer> integerList) {
+            this.integerList = integerList;
+        }
+
+        public List<Double> getDoubleList() {
+            return doubleList;
+        }
+
+        public void setDoubleList(List<Double> doubleList) {
+            this.doubleList = doubleList;
+        }
+    }
+
     private static <T> void assertEqualsAnyOf(T key, List<T> values) {
         assertTrue(values.contains(key));
     }
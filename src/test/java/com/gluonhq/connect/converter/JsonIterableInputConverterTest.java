@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class JsonIterableInputConverterTest {
+
+    @Test
+    public void parallelConversionPreservesOrder() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"string\":\"s").append(i).append("\",\"number\":").append(i).append('}');
+        }
+        json.append(']');
+
+        List<JsonConverterTest.SimpleClass> sequential = readAll(json.toString(), false);
+        List<JsonConverterTest.SimpleClass> parallel = readAll(json.toString(), true);
+        assertEquals(parallel.size(), 5000);
+        assertEquals(parallel, sequential);
+        assertEquals(parallel.get(4321), new JsonConverterTest.SimpleClass("s4321", 4321));
+    }
+
+    @Test
+    public void smallArrayBelowThreshold() {
+        List<JsonConverterTest.SimpleClass> objects = readAll("[{\"string\":\"a\",\"number\":1}]", true);
+        assertEquals(objects, List.of(new JsonConverterTest.SimpleClass("a", 1)));
+    }
+
+    private static List<JsonConverterTest.SimpleClass> readAll(String json, boolean parallel) {
+        JsonIterableInputConverter<JsonConverterTest.SimpleClass> converter = new JsonIterableInputConverter<>(JsonConverterTest.SimpleClass.class);
+        converter.setParallel(parallel);
+        converter.setParallelThreshold(100);
+        converter.setInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        List<JsonConverterTest.SimpleClass> objects = new ArrayList<>();
+        for (Iterator<JsonConverterTest.SimpleClass> it = converter.iterator(); it.hasNext();) {
+            objects.add(it.next());
+        }
+        return objects;
+    }
+}
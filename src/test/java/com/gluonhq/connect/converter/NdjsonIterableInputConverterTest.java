@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import org.testng.annotations.Test;
+
+import javax.json.JsonObject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class NdjsonIterableInputConverterTest {
+
+    @Test
+    public void readObjectsLineByLine() {
+        String ndjson = "{\"string\":\"a\",\"number\":1}\n" +
+                "\n" +
+                "{\"string\":\"b\",\"number\":2}\r\n" +
+                "{\"string\":\"c\",\"number\":3}";
+
+        List<JsonConverterTest.SimpleClass> objects = readAll(ndjson, JsonConverterTest.SimpleClass.class);
+        assertEquals(objects.size(), 3);
+        assertEquals(objects.get(2), new JsonConverterTest.SimpleClass("c", 3));
+    }
+
+    @Test
+    public void readPrimitivesAndJsonObjects() {
+        assertEquals(readAll("1\n2\n3\n", Integer.class), List.of(1, 2, 3));
+        assertEquals(readAll("true\nfalse", Boolean.class), List.of(true, false));
+        assertEquals(readAll("{\"x\":1}", JsonObject.class).get(0).getInt("x"), 1);
+    }
+
+    @Test
+    public void emptyInput() {
+        NdjsonIterableInputConverter<String> converter = new NdjsonIterableInputConverter<>(String.class);
+        converter.setInputStream(new ByteArrayInputStream(new byte[0]));
+        assertFalse(converter.iterator().hasNext());
+    }
+
+    private static <E> List<E> readAll(String ndjson, Class<E> targetClass) {
+        NdjsonIterableInputConverter<E> converter = new NdjsonIterableInputConverter<>(targetClass);
+        converter.setInputStream(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+        List<E> elements = new ArrayList<>();
+        for (Iterator<E> it = converter.iterator(); it.hasNext();) {
+            elements.add(it.next());
+        }
+        return elements;
+    }
+}
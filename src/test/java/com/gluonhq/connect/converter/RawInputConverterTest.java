@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class RawInputConverterTest {
+
+    private static final byte[] DATA = new byte[100_000];
+
+    static {
+        new Random(42).nextBytes(DATA);
+    }
+
+    @Test
+    public void readByteArrayWithContentLength() {
+        assertEquals(readBytes(-1), DATA);
+        assertEquals(readBytes(DATA.length), DATA);
+        assertEquals(readBytes(DATA.length + 10), DATA);
+        // a wrong length is only a hint, all the bytes are still read
+        assertEquals(readBytes(10), DATA);
+    }
+
+    @Test
+    public void readByteBuffer() {
+        ByteBufferInputConverter converter = new ByteBufferInputConverter();
+        converter.setInputStream(new ByteArrayInputStream(DATA));
+        ByteBuffer buffer = converter.read();
+
+        assertTrue(buffer.isReadOnly());
+        assertEquals(buffer.remaining(), DATA.length);
+        assertEquals(buffer, ByteBuffer.wrap(DATA));
+    }
+
+    @Test
+    public void readFiles() throws IOException {
+        Path source = Files.createTempFile("raw", ".bin");
+        Path target = Files.createTempFile("raw", ".bin");
+        try {
+            Files.write(source, DATA);
+
+            ByteArrayInputConverter bytes = new ByteArrayInputConverter();
+            bytes.setInputStream(new FileInputStream(source.toFile()));
+            assertEquals(bytes.read(), DATA);
+
+            Files.write(target, new byte[200_000]);
+            PathInputConverter fromFile = new PathInputConverter(target);
+            fromFile.setInputStream(new FileInputStream(source.toFile()));
+            assertEquals(fromFile.read(), target);
+            assertEquals(Files.readAllBytes(target), DATA);
+
+            PathInputConverter fromStream = new PathInputConverter(target);
+            fromStream.setInputStream(new ByteArrayInputStream(DATA, 0, 1000));
+            assertEquals(fromStream.read(), target);
+            assertEquals(Files.size(target), 1000);
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    public void incompleteFileIsDeleted() throws IOException {
+        Path target = Files.createTempFile("raw", ".bin");
+        try {
+            PathInputConverter converter = new PathInputConverter(target);
+            converter.setInputStream(new InputStream() {
+                private int remaining = 10_000;
+
+                @Override
+                public int read() throws IOException {
+                    if (remaining-- == 0) {
+                        throw new IOException("Connection reset");
+                    }
+                    return 0;
+                }
+            });
+            assertNull(converter.read());
+            assertFalse(Files.exists(target));
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private static byte[] readBytes(long contentLength) {
+        ByteArrayInputConverter converter = new ByteArrayInputConverter();
+        converter.setContentLength(contentLength);
+        converter.setInputStream(new ByteArrayInputStream(DATA));
+        return converter.read();
+    }
+}
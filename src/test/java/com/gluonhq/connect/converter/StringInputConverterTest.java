@@ -30,6 +30,7 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import static org.testng.Assert.assertEquals;
 
@@ -46,4 +47,66 @@ public class StringInputConverterTest {
         String readString = converter.read();
         assertEquals(readString, string);
     }
+
+    @Test
+    public void readKeepsLineEndings() {
+        String string = "first\r\nsecond\nthird\n";
+
+        assertEquals(read(new StringInputConverter(), string.getBytes(StandardCharsets.UTF_8)), string);
+    }
+
+    @Test
+    public void readWithCharset() {
+        String string = "caf\u00e9";
+
+        assertEquals(read(new StringInputConverter(), string.getBytes(StandardCharsets.UTF_8)), string);
+        assertEquals(read(new StringInputConverter(StandardCharsets.ISO_8859_1), string.getBytes(StandardCharsets.ISO_8859_1)), string);
+    }
+
+    @Test
+    public void readWithByteOrderMark() {
+        String string = "\u00e9t\u00e9";
+
+        byte[] utf8 = ("\ufeff" + string).getBytes(StandardCharsets.UTF_8);
+        assertEquals(read(new StringInputConverter(StandardCharsets.ISO_8859_1), utf8), string);
+
+        byte[] utf16le = ("\ufeff" + string).getBytes(StandardCharsets.UTF_16LE);
+        assertEquals(read(new StringInputConverter(), utf16le), string);
+
+        // the UTF_16 charset writes a big endian byte order mark
+        assertEquals(read(new StringInputConverter(), string.getBytes(StandardCharsets.UTF_16)), string);
+    }
+
+    @Test
+    public void readLargeString() {
+        char[] chars = new char[3 * 1024 * 1024 + 17];
+        Arrays.fill(chars, 'x');
+        String string = new String(chars);
+
+        assertEquals(read(new StringInputConverter(), string.getBytes(StandardCharsets.UTF_8)), string);
+        assertEquals(read(new StringInputConverter(), "small".getBytes(StandardCharsets.UTF_8)), "small");
+    }
+
+    @Test
+    public void readWithContentLength() {
+        char[] chars = new char[100_000];
+        Arrays.fill(chars, 'y');
+        String string = new String(chars);
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        StringInputConverter converter = new StringInputConverter();
+        converter.setContentLength(bytes.length);
+        assertEquals(read(converter, bytes), string);
+
+        // the content length is only a hint, the InputStream is always read until its end
+        converter.setContentLength(bytes.length / 2);
+        assertEquals(read(converter, bytes), string);
+        converter.setContentLength(bytes.length * 2L);
+        assertEquals(read(converter, bytes), string);
+    }
+
+    private static String read(StringInputConverter converter, byte[] bytes) {
+        converter.setInputStream(new ByteArrayInputStream(bytes));
+        return converter.read();
+    }
 }
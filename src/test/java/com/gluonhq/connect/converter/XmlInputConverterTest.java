@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class XmlInputConverterTest {
+
+    static final String BOOK = "<book id=\"7\">" +
+            "<title>Streaming</title>" +
+            "<pages>320</pages>" +
+            "<price> 12.50 </price>" +
+            "<available>true</available>" +
+            "<format>PAPERBACK</format>" +
+            "<unknown><nested>ignored</nested></unknown>" +
+            "<author><name>Ada</name><born>1815</born></author>" +
+            "<tag>java</tag><tag>xml</tag>" +
+            "<chapter><name>One</name></chapter><chapter><name>Two</name></chapter>" +
+            "</book>";
+
+    @Test
+    public void bindRootElement() {
+        Book book = read(new XmlInputConverter<>(Book.class), "<?xml version=\"1.0\"?>" + BOOK);
+
+        assertEquals(book.getId(), 7L);
+        assertEquals(book.getTitle(), "Streaming");
+        assertEquals(book.getPages(), 320);
+        assertEquals(book.getPrice(), new BigDecimal("12.50"));
+        assertTrue(book.isAvailable());
+        assertEquals(book.getFormat(), Format.PAPERBACK);
+        assertEquals(book.getAuthor().getName(), "Ada");
+        assertEquals(book.getAuthor().getBorn(), Integer.valueOf(1815));
+        assertEquals(book.getTag(), List.of("java", "xml"));
+        assertEquals(book.getChapter().size(), 2);
+        assertEquals(book.getChapter().get(1).getName(), "Two");
+    }
+
+    @Test
+    public void bindTaggedElement() {
+        Book book = read(new XmlInputConverter<>(Book.class, "book"), "<response><status>ok</status>" + BOOK + "</response>");
+
+        assertEquals(book.getTitle(), "Streaming");
+        assertEquals(book.getChapter().size(), 2);
+    }
+
+    @Test
+    public void emptyElementsKeepDefaults() {
+        Book book = read(new XmlInputConverter<>(Book.class), "<book><pages/><available></available></book>");
+
+        assertEquals(book.getPages(), 0);
+        assertFalse(book.isAvailable());
+        assertNull(book.getTag());
+    }
+
+    @Test
+    public void missingTagReturnsNull() {
+        assertNull(read(new XmlInputConverter<>(Book.class, "book"), "<response/>"));
+    }
+
+    @Test
+    public void malformedPropertiesAreSkipped() {
+        Book book = read(new XmlInputConverter<>(Book.class), "<book id=\"x\"><title>Streaming</title>" +
+                "<price>N/A</price><pages>320</pages><format>EBOOK</format>" +
+                "<chapter><name>One</name></chapter><available>true</available></book>");
+
+        assertEquals(book.getId(), 0L);
+        assertEquals(book.getTitle(), "Streaming");
+        assertNull(book.getPrice());
+        assertEquals(book.getPages(), 320);
+        assertNull(book.getFormat());
+        assertEquals(book.getChapter().size(), 1);
+        assertTrue(book.isAvailable());
+    }
+
+    static <T> T read(XmlInputConverter<T> converter, String xml) {
+        converter.setInputStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        return converter.read();
+    }
+
+    public enum Format { HARDCOVER, PAPERBACK }
+
+    public static class Author {
+        private String name;
+        private Integer born;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Integer getBorn() { return born; }
+        public void setBorn(Integer born) { this.born = born; }
+    }
+
+    public static class Chapter {
+        private String name;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+
+    public static class Book {
+        private long id;
+        private String title;
+        private int pages;
+        private BigDecimal price;
+        private boolean available;
+        private Format format;
+        private Author author;
+        private List<String> tag;
+        private List<Chapter> chapter;
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public int getPages() { return pages; }
+        public void setPages(int pages) { this.pages = pages; }
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+        public boolean isAvailable() { return available; }
+        public void setAvailable(boolean available) { this.available = available; }
+        public Format getFormat() { return format; }
+        public void setFormat(Format format) { this.format = format; }
+        public Author getAuthor() { return author; }
+        public void setAuthor(Author author) { this.author = author; }
+        public List<String> getTag() { return tag; }
+        public void setTag(List<String> tag) { this.tag = tag; }
+        public List<Chapter> getChapter() { return chapter; }
+        public void setChapter(List<Chapter> chapter) { this.chapter = chapter; }
+    }
+}
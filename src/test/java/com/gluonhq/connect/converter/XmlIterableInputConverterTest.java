@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.converter;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class XmlIterableInputConverterTest {
+
+    @Test
+    public void readChildElementsOfRoot() {
+        String xml = "<books>" + XmlInputConverterTest.BOOK + "\n<book><title>Second</title></book></books>";
+
+        List<XmlInputConverterTest.Book> books = readAll(new XmlIterableInputConverter<>(XmlInputConverterTest.Book.class), xml);
+        assertEquals(books.size(), 2);
+        assertEquals(books.get(0).getChapter().size(), 2);
+        assertEquals(books.get(1).getTitle(), "Second");
+    }
+
+    @Test
+    public void readTaggedElements() {
+        String xml = "<feed><meta><chapter><name>Zero</name></chapter></meta>" +
+                "<items><chapter><name>One</name></chapter><chapter><name>Two</name></chapter></items></feed>";
+
+        List<XmlInputConverterTest.Chapter> chapters = readAll(new XmlIterableInputConverter<>(XmlInputConverterTest.Chapter.class, "chapter"), xml);
+        assertEquals(chapters.size(), 3);
+        assertEquals(chapters.get(2).getName(), "Two");
+    }
+
+    @Test
+    public void readSimpleValues() {
+        assertEquals(readAll(new XmlIterableInputConverter<>(Integer.class), "<ids><id>1</id><id>2</id></ids>"), List.of(1, 2));
+        assertEquals(readAll(new XmlIterableInputConverter<>(String.class), "<empty/>"), List.of());
+    }
+
+    @Test
+    public void malformedPropertiesDoNotAbortTheList() {
+        String xml = "<books><book><title>First</title><pages>many</pages></book>" +
+                "<book><title>Second</title><pages>12</pages></book></books>";
+
+        List<XmlInputConverterTest.Book> books = readAll(new XmlIterableInputConverter<>(XmlInputConverterTest.Book.class), xml);
+        assertEquals(books.size(), 2);
+        assertEquals(books.get(0).getTitle(), "First");
+        assertEquals(books.get(0).getPages(), 0);
+        assertEquals(books.get(1).getPages(), 12);
+    }
+
+    @Test
+    public void elementsAreReadLazily() {
+        XmlIterableInputConverter<String> converter = new XmlIterableInputConverter<>(String.class);
+        converter.setInputStream(new ByteArrayInputStream("<a><b>1</b><b>2</b><b>".getBytes(StandardCharsets.UTF_8)));
+        Iterator<String> iterator = converter.iterator();
+        assertEquals(iterator.next(), "1");
+        assertTrue(iterator.hasNext());
+        try {
+            iterator.next();
+            iterator.next();
+        } catch (UncheckedIOException ex) {
+            assertFalse(iterator.hasNext());
+            return;
+        }
+        throw new AssertionError("Truncated XML was not reported");
+    }
+
+    private static <E> List<E> readAll(XmlIterableInputConverter<E> converter, String xml) {
+        converter.setInputStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        List<E> elements = new ArrayList<>();
+        for (Iterator<E> it = converter.iterator(); it.hasNext();) {
+            elements.add(it.next());
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.metrics;
+
+import com.gluonhq.connect.HttpServerManager;
+import com.gluonhq.connect.converter.JsonIterableInputConverter;
+import com.gluonhq.connect.converter.JsonConverterTest;
+import com.gluonhq.connect.provider.RestClient;
+import com.gluonhq.connect.source.RestDataSource;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.TimeoutException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class HistogramMetricsRecorderTest {
+
+    @AfterMethod
+    public void resetRecorder() {
+        Metrics.setRecorder(null);
+    }
+
+    @Test
+    public void histogramPercentiles() {
+        HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        for (int i = 1; i <= 1000; i++) {
+            recorder.recordTiming("op", Phase.DECODE, i * 1000L);
+        }
+
+        HistogramMetricsRecorder.Histogram histogram = recorder.getHistogram("op", Phase.DECODE);
+        assertEquals(histogram.getCount(), 1000);
+        assertEquals(histogram.getMin(), 1000);
+        assertEquals(histogram.getMax(), 1_000_000);
+        assertEquals(histogram.getMean(), 500_500.0);
+
+        // percentiles are accurate within a factor two
+        long p50 = histogram.getPercentile(0.5);
+        assertTrue(p50 >= 500_000 && p50 <= 1_000_000, "p50: " + p50);
+        assertEquals(histogram.getPercentile(1.0), 1_000_000);
+
+        recorder.reset();
+        assertEquals(recorder.getHistogram("op", Phase.DECODE), null);
+    }
+
+    @Test
+    public void restRequestIsRecorded() throws IOException, InterruptedException, TimeoutException {
+        HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        Metrics.setRecorder(recorder);
+        assertTrue(Metrics.isEnabled());
+
+        String body = "[{\"string\":\"a\",\"number\":1},{\"string\":\"b\",\"number\":2}]";
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startHttpServer(request -> request.response()
+                    .putHeader("Content-Type", "application/json")
+                    .end(body));
+
+            RestDataSource dataSource = RestClient.create()
+                    .method("GET")
+                    .host("http://localhost:45000")
+                    .createRestDataSource();
+
+            JsonIterableInputConverter<JsonConverterTest.SimpleClass> converter = new JsonIterableInputConverter<>(JsonConverterTest.SimpleClass.class);
+            converter.setInputStream(dataSource.getInputStream());
+            for (Iterator<JsonConverterTest.SimpleClass> it = converter.iterator(); it.hasNext();) {
+                it.next();
+            }
+        }
+
+        assertNotNull(recorder.getHistogram("RestDataSource.GET", Phase.CONNECT));
+        assertNotNull(recorder.getHistogram("RestDataSource.GET", Phase.FIRST_BYTE));
+        assertNotNull(recorder.getHistogram("RestDataSource.GET", Phase.DOWNLOAD));
+        assertEquals(recorder.getBytes("RestDataSource.GET"), body.length());
+        assertEquals(recorder.getHistogram("JsonIterableInputConverter", Phase.DECODE).getCount(), 1);
+        assertEquals(recorder.getElements("JsonIterableInputConverter"), 2);
+
+        Metrics.setRecorder(null);
+        assertFalse(Metrics.isEnabled());
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.ConnectState;
+import com.gluonhq.connect.GluonObservableList;
+import com.gluonhq.connect.GluonObservableObject;
+import com.gluonhq.connect.GluonObservablePagedList;
+import com.gluonhq.connect.HttpServerManager;
+import javafx.application.Platform;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class DataProviderTest {
+
+    // the number of threads of the DataProvider
+    private static final int WORKERS = 5;
+
+    @BeforeClass
+    public void startPlatform() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+        } catch (IllegalStateException ex) {
+            // the toolkit is already running
+            latch.countDown();
+        } catch (RuntimeException ex) {
+            throw new SkipException("The JavaFX toolkit could not be started: " + ex.getMessage());
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void objectIsRefreshedTwice() throws Exception {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            AtomicInteger requests = new AtomicInteger();
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "text/plain")
+                        .setStatusCode(200)
+                        .end("value-" + requests.incrementAndGet());
+            });
+
+            RestClient restClient = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("value");
+
+            GluonObservableObject<String> observable = new GluonObservableObject<>();
+            DataProvider.refreshObject(observable, restClient.createObjectDataReader(String.class));
+            waitUntil(() -> observable.getState() == ConnectState.SUCCEEDED);
+            assertEquals(observable.get(), "value-1");
+
+            DataProvider.refreshObject(observable, restClient.createObjectDataReader(String.class));
+            waitUntil(() -> observable.getState() == ConnectState.SUCCEEDED);
+            assertEquals(observable.get(), "value-2");
+        }
+    }
+
+    @Test
+    public void listIsRefreshedTwice() throws Exception {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            AtomicInteger requests = new AtomicInteger();
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "application/x-ndjson")
+                        .setStatusCode(200)
+                        .end(requests.incrementAndGet() == 1 ? "\"one\"\n\"two\"\n" : "\"two\"\n\"three\"\n");
+            });
+
+            RestClient restClient = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items");
+
+            GluonObservableList<String> list = new GluonObservableList<>();
+            DataProvider.refreshList(list, restClient.createListDataReader(String.class), Function.identity());
+            waitUntil(() -> list.getState() == ConnectState.SUCCEEDED);
+            assertEquals(list, List.of("one", "two"));
+
+            DataProvider.refreshList(list, restClient.createListDataReader(String.class), Function.identity());
+            waitUntil(() -> list.getState() == ConnectState.SUCCEEDED);
+            assertEquals(list, List.of("two", "three"));
+            assertEquals(requests.get(), 2);
+        }
+    }
+
+    @Test
+    public void scheduledObjectRefreshReadsWithNewReaders() throws Exception {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            AtomicInteger requests = new AtomicInteger();
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "text/plain")
+                        .setStatusCode(200)
+                        .end("value-" + requests.incrementAndGet());
+            });
+
+            RestClient restClient = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("value");
+
+            GluonObservableObject<String> observable = new GluonObservableObject<>();
+            Refresher refresher = DataProvider.scheduleRefresh(observable,
+                    () -> restClient.createObjectDataReader(String.class),
+                    RefreshPolicy.every(Duration.ofMillis(20)).pauseWhenUnobserved(false));
+            try {
+                waitUntil(() -> "value-3".equals(observable.get()));
+            } finally {
+                refresher.stop();
+            }
+            assertNull(observable.getException());
+        }
+    }
+
+    @Test
+    public void scheduledListRefreshReadsWithNewReaders() throws Exception {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            AtomicInteger requests = new AtomicInteger();
+            httpServerManager.startHttpServer(request -> {
+                int count = requests.incrementAndGet();
+                StringBuilder body = new StringBuilder();
+                for (int i = 1; i <= count; i++) {
+                    body.append("\"item-").append(i).append("\"\n");
+                }
+                request.response()
+                        .putHeader("Content-Type", "application/x-ndjson")
+                        .setStatusCode(200)
+                        .end(body.toString());
+            });
+
+            RestClient restClient = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items");
+
+            GluonObservableList<String> observable = new GluonObservableList<>();
+            Refresher refresher = DataProvider.scheduleRefresh(observable,
+                    () -> restClient.createListDataReader(String.class), Function.identity(),
+                    RefreshPolicy.every(Duration.ofMillis(20)).pauseWhenUnobserved(false));
+            try {
+                waitUntil(() -> observable.size() >= 3);
+            } finally {
+                refresher.stop();
+            }
+            assertNull(observable.getException());
+            assertEquals(observable.subList(0, 3), List.of("item-1", "item-2", "item-3"));
+        }
+    }
+
+    @Test
+    public void prefetchRunsAfterLaterInteractive() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        blockWorkers(release);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        GluonObservableObject<String> prefetch = DataProvider.retrieveObject(reader(() -> {
+            order.add("prefetch");
+            return "prefetch";
+        }), Priority.PREFETCH);
+        GluonObservableObject<String> interactive = DataProvider.retrieveObject(reader(() -> {
+            order.add("interactive");
+            return "interactive";
+        }), Priority.INTERACTIVE);
+        release.countDown();
+
+        waitUntil(() -> prefetch.getState() == ConnectState.SUCCEEDED && interactive.getState() == ConnectState.SUCCEEDED);
+        assertEquals(order, List.of("interactive", "prefetch"));
+    }
+
+    @Test
+    public void cancelRemovesQueuedTask() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        blockWorkers(release);
+
+        AtomicBoolean read = new AtomicBoolean();
+        GluonObservableObject<String> queued = DataProvider.retrieveObject(reader(() -> {
+            read.set(true);
+            return "queued";
+        }), Priority.BACKGROUND);
+        assertTrue(queued.cancel());
+        waitUntil(() -> queued.getState() == ConnectState.CANCELLED);
+        assertFalse(queued.cancel());
+
+        // a task that is queued after the cancelled one only runs after it would have run
+        release.countDown();
+        GluonObservableObject<String> next = DataProvider.retrieveObject(reader(() -> "next"), Priority.BACKGROUND);
+        waitUntil(() -> next.getState() == ConnectState.SUCCEEDED);
+        assertFalse(read.get());
+        assertEquals(queued.getState(), ConnectState.CANCELLED);
+    }
+
+    @Test
+    public void cancelInterruptsRunningTask() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        GluonObservableObject<String> running = DataProvider.retrieveObject(reader(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            // the result of a cancelled task is discarded
+            return "late";
+        }));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        assertTrue(running.cancel());
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+
+        Thread.sleep(100);
+        waitUntil(() -> running.getState() == ConnectState.CANCELLED);
+        assertNull(running.get());
+    }
+
+    @Test
+    public void cancelDisconnectsLoadingPages() throws Exception {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            CountDownLatch requested = new CountDownLatch(1);
+            CountDownLatch disconnected = new CountDownLatch(1);
+            httpServerManager.startHttpServer(request -> {
+                // the page is never sent, so loading it only stops when the connection is closed
+                request.connection().closeHandler(v -> disconnected.countDown());
+                requested.countDown();
+            });
+
+            PageLoader<String> pageLoader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items")
+                    .createPageLoader(String.class, "offset", "limit", "X-Total-Count");
+            GluonObservablePagedList<String> list = DataProvider.retrievePagedList(pageLoader, 10, 4);
+            assertTrue(requested.await(10, TimeUnit.SECONDS));
+
+            assertTrue(list.cancel());
+            assertTrue(disconnected.await(10, TimeUnit.SECONDS));
+            waitUntil(() -> list.getState() == ConnectState.CANCELLED);
+            assertNull(list.getException());
+        }
+    }
+
+    /**
+     * Occupies all threads of the DataProvider until the latch is released.
+     */
+    private static void blockWorkers(CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(WORKERS);
+        for (int i = 0; i < WORKERS; i++) {
+            DataProvider.retrieveObject(reader(() -> {
+                started.countDown();
+                release.await();
+                return "blocked";
+            }));
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    private static ObjectDataReader<String> reader(Callable<String> read) {
+        return new ObjectDataReader<>() {
+            @Override
+            public GluonObservableObject<String> newGluonObservableObject() {
+                return new GluonObservableObject<>();
+            }
+
+            @Override
+            public String readObject() throws IOException {
+                try {
+                    return read.call();
+                } catch (InterruptedException ex) {
+                    throw new InterruptedIOException();
+                } catch (IOException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new IOException(ex);
+                }
+            }
+        };
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            Platform.runLater(() -> result.complete(condition.getAsBoolean()));
+            if (result.get(10, TimeUnit.SECONDS)) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("Condition was not met in time.");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.HttpServerManager;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class EventStreamReaderTest {
+
+    @Test
+    public void reconnectWithLastEventId() throws Exception {
+        List<String> lastEventIds = new ArrayList<>();
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startHttpServer(request -> {
+                String lastEventId = request.getHeader("Last-Event-ID");
+                lastEventIds.add(lastEventId);
+                if (lastEventId == null) {
+                    request.response()
+                            .putHeader("Content-Type", "text/event-stream")
+                            .end("retry: 10\n\nid: 1\ndata: {\"name\":\"one\"}\n\nid: 2\ndata: [{\"name\":\"two\"},{\"name\":\"three\"}]\n\n");
+                } else if (lastEventId.equals("2")) {
+                    request.response()
+                            .putHeader("Content-Type", "text/event-stream")
+                            .end("id: 3\ndata: {\"name\":\"four\"}\n\n");
+                } else {
+                    // tells the client to stop reconnecting
+                    request.response().setStatusCode(204).end();
+                }
+            });
+
+            EventStreamReader<Event> reader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("events")
+                    .createEventStreamReader(Event.class);
+
+            List<String> names = new ArrayList<>();
+            try {
+                reader.read(event -> names.add(event.getName()));
+                fail("Reading must stop when the server refuses the connection.");
+            } catch (IOException ex) {
+                assertTrue(ex.getMessage().contains("204"));
+            }
+
+            assertEquals(names, List.of("one", "two", "three", "four"));
+            assertEquals(lastEventIds, Arrays.asList(null, "2", "3"));
+            assertEquals(reader.getDataSource().getRetryDelay(), 10);
+        }
+    }
+
+    public static final class Event {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class RefresherTest {
+
+    @Test
+    public void intervalBacksOffWhileUnchanged() throws InterruptedException {
+        RefreshPolicy policy = RefreshPolicy.every(Duration.ofMillis(5)).backoff(2.0, Duration.ofMillis(40));
+        CountDownLatch latch = new CountDownLatch(6);
+        Refresher refresher = new Refresher(policy, () -> true, Runnable::run, r -> {
+            if (latch.getCount() == 1) {
+                r.stop();
+            }
+            r.refreshCompleted(false);
+            latch.countDown();
+        });
+        refresher.start();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(refresher.getCurrentInterval(), Duration.ofMillis(40));
+    }
+
+    @Test
+    public void intervalResetsWhenChanged() throws InterruptedException {
+        RefreshPolicy policy = RefreshPolicy.every(Duration.ofMillis(5)).backoff(2.0, Duration.ofMillis(40));
+        AtomicInteger refreshes = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        Refresher refresher = new Refresher(policy, () -> true, Runnable::run, r -> {
+            if (refreshes.incrementAndGet() == 4) {
+                r.stop();
+                r.refreshCompleted(true);
+                latch.countDown();
+            } else {
+                r.refreshFailed();
+            }
+        });
+        refresher.start();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(refresher.getCurrentInterval(), Duration.ofMillis(5));
+    }
+
+    @Test
+    public void refreshIsPausedWhileUnobserved() throws InterruptedException {
+        AtomicBoolean observed = new AtomicBoolean(false);
+        AtomicInteger refreshes = new AtomicInteger();
+        CountDownLatch resumed = new CountDownLatch(2);
+        Refresher refresher = new Refresher(RefreshPolicy.every(Duration.ofMillis(5)), observed::get, Runnable::run, r -> {
+            refreshes.incrementAndGet();
+            resumed.countDown();
+            r.refreshCompleted(true);
+        });
+        refresher.start();
+
+        // the first refresh always happens, the next ones wait for a listener
+        Thread.sleep(100);
+        assertEquals(refreshes.get(), 1);
+
+        observed.set(true);
+        assertTrue(resumed.await(5, TimeUnit.SECONDS));
+        refresher.stop();
+    }
+
+    @Test
+    public void noRefreshAfterStop() throws InterruptedException {
+        AtomicInteger refreshes = new AtomicInteger();
+        Refresher refresher = new Refresher(RefreshPolicy.every(Duration.ofMillis(5)), () -> true, Runnable::run, r -> {
+            refreshes.incrementAndGet();
+            r.refreshCompleted(true);
+        });
+        refresher.start();
+        Thread.sleep(50);
+        refresher.stop();
+
+        int count = refreshes.get();
+        Thread.sleep(50);
+        assertEquals(refreshes.get(), count);
+        assertTrue(refresher.isStopped());
+    }
+}
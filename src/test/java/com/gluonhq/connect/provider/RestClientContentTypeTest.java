@@ -30,9 +30,14 @@ import com.gluonhq.connect.HttpServerManager;
 import com.gluonhq.connect.converter.StringInputConverter;
 import com.gluonhq.connect.converter.StringOutputConverter;
 import com.gluonhq.connect.source.RestDataSource;
+import io.vertx.core.buffer.Buffer;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 import static org.testng.Assert.assertEquals;
@@ -69,4 +74,93 @@ public class RestClientContentTypeTest {
                     .withHeader("content-type", "application/json"), 1);
         }
     }
+
+    @Test
+    public void testNdjsonListIsDetected() throws InterruptedException, IOException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()){
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "application/x-ndjson")
+                        .setStatusCode(200)
+                        .end("\"one\"\n\"two\"\n\n\"three\"\n");
+            });
+
+            ListDataReader<String> reader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("feed")
+                    .createListDataReader(String.class);
+
+            List<String> strings = new ArrayList<>();
+            for (Iterator<String> it = reader.iterator(); it.hasNext();) {
+                strings.add(it.next());
+            }
+            assertEquals(strings, List.of("one", "two", "three"));
+        }
+    }
+
+    @Test
+    public void testXmlListIsDetected() throws InterruptedException, IOException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()){
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "text/xml; charset=UTF-8")
+                        .setStatusCode(200)
+                        .end("<items><item>one</item><item>two</item></items>");
+            });
+
+            ListDataReader<String> reader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("feed")
+                    .createListDataReader(String.class);
+
+            List<String> strings = new ArrayList<>();
+            for (Iterator<String> it = reader.iterator(); it.hasNext();) {
+                strings.add(it.next());
+            }
+            assertEquals(strings, List.of("one", "two"));
+        }
+    }
+
+    @Test
+    public void testCharsetOfPlainText() throws InterruptedException, IOException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()){
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "text/plain; charset=\"ISO-8859-1\"")
+                        .setStatusCode(200)
+                        .end(Buffer.buffer("gr\u00fc\u00dfe".getBytes(StandardCharsets.ISO_8859_1)));
+            });
+
+            ObjectDataReader<String> reader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("text")
+                    .createObjectDataReader(String.class);
+
+            assertEquals(reader.readObject(), "gr\u00fc\u00dfe");
+        }
+    }
+
+    @Test
+    public void testRawBytes() throws InterruptedException, IOException, TimeoutException {
+        byte[] bytes = new byte[50_000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        try (HttpServerManager httpServerManager = new HttpServerManager()){
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "application/octet-stream")
+                        .setStatusCode(200)
+                        .end(Buffer.buffer(bytes));
+            });
+
+            ObjectDataReader<byte[]> reader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("raw")
+                    .createObjectDataReader(byte[].class);
+
+            assertEquals(reader.readObject(), bytes);
+        }
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.HttpServerManager;
+import com.gluonhq.connect.MultiValuedMap;
+import com.gluonhq.connect.converter.JsonConverterTest;
+import com.gluonhq.connect.source.RestDataSource;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class RestListDataReaderQueryTest {
+
+    private static final String ITEMS = "[{\"string\":\"b\",\"number\":2},{\"string\":\"a\",\"number\":1},{\"string\":\"c\",\"number\":1}]";
+
+    @Test
+    public void testQueryOnServer() throws IOException, InterruptedException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            List<String> queries = new ArrayList<>();
+            httpServerManager.startHttpServer(request -> {
+                queries.add(request.query());
+                request.response()
+                        .putHeader("Content-Type", "application/json")
+                        .setStatusCode(200)
+                        .end("[{\"string\":\"a\",\"number\":1}]");
+            });
+
+            RestQuery query = RestQuery.create()
+                    .filter("number", "1")
+                    .sort("string", false)
+                    .select("string", "number");
+            ListDataReader<JsonConverterTest.SimpleClass> reader = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items")
+                    .createListDataReader(JsonConverterTest.SimpleClass.class, query);
+
+            List<JsonConverterTest.SimpleClass> items = readAll(reader);
+            assertEquals(items.size(), 1);
+            assertEquals(queries.size(), 1);
+            assertTrue(queries.get(0).contains("number=1"));
+            assertTrue(queries.get(0).contains("sort=-string"));
+            assertTrue(queries.get(0).contains("fields=string%2Cnumber"));
+        }
+    }
+
+    @Test
+    public void testQueryOnClient() throws IOException, InterruptedException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "application/json")
+                        .setStatusCode(200)
+                        .end(ITEMS);
+            });
+
+            RestQueryDialect noDialect = new RestQueryDialect() {};
+            RestQuery query = RestQuery.create()
+                    .filter("number", "1")
+                    .sort("string", false);
+            RestDataSource dataSource = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items")
+                    .createRestDataSource();
+
+            List<JsonConverterTest.SimpleClass> items = readAll(new RestListDataReader<>(dataSource, JsonConverterTest.SimpleClass.class, query, noDialect));
+            assertEquals(items.size(), 2);
+            assertEquals(items.get(0), new JsonConverterTest.SimpleClass("c", 1));
+            assertEquals(items.get(1), new JsonConverterTest.SimpleClass("a", 1));
+        }
+    }
+
+    @Test
+    public void testProjectionOnClient() throws IOException, InterruptedException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "application/json")
+                        .setStatusCode(200)
+                        .end(ITEMS);
+            });
+
+            RestQueryDialect noDialect = new RestQueryDialect() {};
+            RestClient restClient = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items");
+
+            RestQuery projection = RestQuery.create().select("string");
+            List<JsonConverterTest.SimpleClass> items = readAll(new RestListDataReader<>(restClient.createRestDataSource(), JsonConverterTest.SimpleClass.class, projection, noDialect));
+            assertEquals(items.size(), 3);
+            assertEquals(items.get(0), new JsonConverterTest.SimpleClass("b", 0));
+
+            // properties that are filtered on the client are bound as well
+            RestQuery filtered = RestQuery.create().filter("number", "2").select("string");
+            items = readAll(new RestListDataReader<>(restClient.createRestDataSource(), JsonConverterTest.SimpleClass.class, filtered, noDialect));
+            assertEquals(items, List.of(new JsonConverterTest.SimpleClass("b", 2)));
+        }
+    }
+
+    @Test
+    public void testQueryParamsAreNotRepeated() throws IOException, InterruptedException, TimeoutException {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startHttpServer(request -> {
+                request.response()
+                        .putHeader("Content-Type", "application/json")
+                        .setStatusCode(200)
+                        .end(ITEMS);
+            });
+
+            RestClient restClient = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("items")
+                    .queryParam("page", "1");
+            RestQuery query = RestQuery.create().filter("number", "1").sort("string", false);
+            RestListDataReader<JsonConverterTest.SimpleClass> reader = new RestListDataReader<>(restClient.createRestDataSource(),
+                    JsonConverterTest.SimpleClass.class, query, null);
+
+            readAll(reader);
+            try {
+                readAll(reader);
+            } catch (IOException | RuntimeException ex) {
+                // the connection of a rest data source can only be read once
+            }
+
+            MultiValuedMap<String, String> queryParams = reader.getRestDataSource().getQueryParams();
+            assertEquals(queryParams.get("page"), List.of("1"));
+            assertEquals(queryParams.get("number"), List.of("1"));
+            assertEquals(queryParams.get("sort"), List.of("-string"));
+            assertEquals(restClient.createRestDataSource().getQueryParams().keySet(), Set.of("page"));
+        }
+    }
+
+    private static <E> List<E> readAll(ListDataReader<E> reader) throws IOException {
+        List<E> items = new ArrayList<>();
+        for (Iterator<E> it = reader.iterator(); it.hasNext();) {
+            items.add(it.next());
+        }
+        return items;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.connect.provider;
+
+import com.gluonhq.connect.HttpServerManager;
+import com.gluonhq.connect.source.WebSocketChannel;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class WebSocketClientTest {
+
+    @Test
+    public void synchronizeAndWriteOverSharedConnection() throws Exception {
+        AtomicInteger connections = new AtomicInteger();
+        BlockingQueue<String> actions = new LinkedBlockingQueue<>();
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startWebSocketServer(webSocket -> {
+                connections.incrementAndGet();
+                webSocket.textMessageHandler(text -> {
+                    JsonObject frame = new JsonObject(text);
+                    String resource = frame.getString("resource");
+                    String action = frame.getString("action");
+                    actions.add(resource + " " + action);
+                    if ("subscribe".equals(action) && "todos".equals(resource)) {
+                        webSocket.writeTextMessage(new JsonObject()
+                                .put("resource", "todos")
+                                .put("action", "set")
+                                .put("data", new JsonArray()
+                                        .add(new JsonObject().put("id", 1).put("title", "one"))
+                                        .add(new JsonObject().put("id", 2).put("title", "two")))
+                                .encode());
+                    } else if ("write".equals(action)) {
+                        // broadcast the written object back as an update of the resource
+                        webSocket.writeTextMessage(new JsonObject()
+                                .put("resource", resource)
+                                .put("action", "update")
+                                .put("data", frame.getJsonObject("data"))
+                                .encode());
+                    }
+                });
+            });
+
+            WebSocketClient client = WebSocketClient.create().uri("ws://localhost:45000/sync");
+            WebSocketListSynchronizer<Todo> synchronizer = client.createListSynchronizer("todos", Todo.class, Todo::getId);
+
+            BlockingQueue<WebSocketListSynchronizer.Change<Todo>> changes = new LinkedBlockingQueue<>();
+            Thread reader = new Thread(() -> {
+                try {
+                    synchronizer.read(changes::add);
+                } catch (InterruptedException ex) {
+                    // stopped by the test
+                }
+            });
+            reader.setDaemon(true);
+            reader.start();
+
+            List<Todo> todos = new ArrayList<>();
+            WebSocketListSynchronizer.Change<Todo> change = changes.poll(5, TimeUnit.SECONDS);
+            assertNotNull(change);
+            assertEquals(synchronizer.apply(todos, change), 2);
+            assertEquals(titles(todos), List.of("one", "two"));
+
+            client.createObjectDataWriter("todos", Todo.class).writeObject(new Todo(2, "two, updated"));
+            client.createObjectDataWriter("todos", Todo.class).writeObject(new Todo(3, "three"));
+
+            synchronizer.apply(todos, changes.poll(5, TimeUnit.SECONDS));
+            synchronizer.apply(todos, changes.poll(5, TimeUnit.SECONDS));
+            assertEquals(titles(todos), List.of("one", "two, updated", "three"));
+
+            synchronizer.apply(todos, new WebSocketListSynchronizer.Change<>("remove", List.of(new Todo(1, null))));
+            assertEquals(titles(todos), List.of("two, updated", "three"));
+
+            assertEquals(connections.get(), 1);
+
+            // stopping the reader unsubscribes from the resource
+            reader.interrupt();
+            String action;
+            do {
+                action = actions.poll(5, TimeUnit.SECONDS);
+                assertNotNull(action);
+            } while (!action.equals("todos unsubscribe"));
+
+            client.createWebSocketDataSource().close();
+        }
+    }
+
+    @Test
+    public void fullQueueSubscribesAgain() throws Exception {
+        BlockingQueue<String> actions = new LinkedBlockingQueue<>();
+        AtomicInteger subscriptions = new AtomicInteger();
+        int updates = WebSocketChannel.MAX_QUEUED_MESSAGES + 10;
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            httpServerManager.startWebSocketServer(webSocket -> {
+                webSocket.textMessageHandler(text -> {
+                    JsonObject frame = new JsonObject(text);
+                    String action = frame.getString("action");
+                    actions.add(frame.getString("resource") + " " + action);
+                    if ("subscribe".equals(action)) {
+                        int subscription = subscriptions.incrementAndGet();
+                        webSocket.writeTextMessage(new JsonObject()
+                                .put("resource", "todos")
+                                .put("action", "set")
+                                .put("data", new JsonArray()
+                                        .add(new JsonObject().put("id", 1).put("title", "snapshot " + subscription)))
+                                .encode());
+                        if (subscription == 1) {
+                            for (int i = 0; i < updates; i++) {
+                                webSocket.writeTextMessage(new JsonObject()
+                                        .put("resource", "todos")
+                                        .put("action", "update")
+                                        .put("data", new JsonObject().put("id", 1).put("title", "update " + i))
+                                        .encode());
+                            }
+                        }
+                    }
+                });
+            });
+
+            WebSocketClient client = WebSocketClient.create().uri("ws://localhost:45000/sync");
+            WebSocketChannel channel = client.createListSynchronizer("todos", Todo.class, Todo::getId).getChannel();
+            assertEquals(channel.receive().getAction(), "set");
+
+            List<String> expected = List.of("todos subscribe", "todos unsubscribe", "todos subscribe");
+            for (String action : expected) {
+                assertEquals(actions.poll(5, TimeUnit.SECONDS), action);
+            }
+
+            // the updates that were queued before the queue was full are discarded, up to the new snapshot
+            int received = 0;
+            WebSocketChannel.Message message;
+            do {
+                message = channel.receive();
+                received++;
+            } while (!"set".equals(message.getAction()));
+            assertEquals(message.getData().asJsonArray().getJsonObject(0).getString("title"), "snapshot 2");
+            assertTrue(received < updates);
+
+            channel.close();
+            client.createWebSocketDataSource().close();
+        }
+    }
+
+    private static List<String> titles(List<Todo> todos) {
+        return todos.stream().map(Todo::getTitle).collect(Collectors.toList());
+    }
+
+    public static final class Todo {
+
+        private int id;
+        private String title;
+
+        public Todo() {
+        }
+
+        Todo(int id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Todo todo = (Todo) o;
+            return id == todo.id && Objects.equals(title, todo.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, title);
+        }
+    }
+}
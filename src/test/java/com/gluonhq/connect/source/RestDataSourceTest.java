@@ -32,9 +32,12 @@ import com.gluonhq.connect.provider.RestClient;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class RestDataSourceTest {
 
@@ -59,4 +62,34 @@ public class RestDataSourceTest {
             assertEquals(readString, "");
         }
     }
+
+    @Test
+    public void testDisconnectAbortsPendingRequest() throws Exception {
+        try (HttpServerManager httpServerManager = new HttpServerManager()) {
+            // the server never responds, so the client blocks until it is disconnected
+            httpServerManager.startHttpServer(request -> {});
+
+            RestDataSource restDataSource = RestClient.create()
+                    .host("http://localhost:45000")
+                    .path("never")
+                    .createRestDataSource();
+
+            CompletableFuture<Throwable> failure = new CompletableFuture<>();
+            Thread thread = new Thread(() -> {
+                try {
+                    restDataSource.getInputStream();
+                    failure.complete(null);
+                } catch (IOException ex) {
+                    failure.complete(ex);
+                }
+            });
+            thread.start();
+
+            Thread.sleep(500);
+            assertTrue(thread.isAlive());
+
+            restDataSource.disconnect();
+            assertTrue(failure.get(5, TimeUnit.SECONDS) instanceof IOException);
+        }
+    }
 }
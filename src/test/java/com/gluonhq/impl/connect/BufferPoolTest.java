@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import com.gluonhq.connect.metrics.HistogramMetricsRecorder;
+import com.gluonhq.connect.metrics.Metrics;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class BufferPoolTest {
+
+    @AfterMethod
+    public void resetRecorder() {
+        Metrics.setRecorder(null);
+    }
+
+    @Test
+    public void buffersAreReusedUpToCapacity() {
+        HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        Metrics.setRecorder(recorder);
+
+        BufferPool pool = new BufferPool("test", 16, 1);
+        byte[] first = pool.acquire();
+        byte[] second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        pool.release(new byte[8]);
+        assertEquals(pool.size(), 1);
+
+        assertSame(pool.acquire(), first);
+        assertNotSame(pool.acquire(), second);
+        assertEquals(recorder.getBufferPoolHits("test"), 1);
+        assertEquals(recorder.getBufferPoolMisses("test"), 3);
+    }
+
+    @Test
+    public void writeStringLargerThanBuffer() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("\u00e9\u20ac");
+        }
+        String string = builder.toString();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BufferPool("test", 64, 1).write(out, string, StandardCharsets.UTF_8);
+        assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), string);
+    }
+
+    @Test
+    public void pooledInputStreamPeeksAndReleasesOnce() throws IOException {
+        byte[] data = new byte[20000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        int pooled = BufferPool.getShared().size();
+        PooledInputStream in = new PooledInputStream(new ByteArrayInputStream(data));
+        assertEquals(in.peek(0), 0);
+        assertEquals(in.peek(1), 1);
+        assertEquals(in.read(), 0);
+        assertEquals(in.peek(0), 1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        in.transferTo(out);
+        assertEquals(out.toByteArray(), data);
+        assertEquals(in.peek(0), -1);
+
+        in.close();
+        in.close();
+        assertEquals(BufferPool.getShared().size(), Math.min(pooled + 1, BufferPool.DEFAULT_CAPACITY));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class EventStreamParserTest {
+
+    @Test
+    public void parseServerSentEvents() throws IOException {
+        String stream = ": keep-alive comment\n" +
+                "retry: 500\n" +
+                "\n" +
+                "id: 1\n" +
+                "event: update\n" +
+                "data: {\"a\":\n" +
+                "data:1}\n" +
+                "\n" +
+                "id: 2\n" +
+                "data: {\"a\":2}\n" +
+                "\n" +
+                "data: incomplete";
+        EventStreamParser parser = new EventStreamParser(input(stream), true, null);
+
+        EventStreamParser.Event first = parser.next();
+        assertEquals(first.getId(), "1");
+        assertEquals(first.getName(), "update");
+        assertEquals(first.getData(), "{\"a\":\n1}");
+        assertEquals(parser.getRetry(), 500);
+
+        EventStreamParser.Event second = parser.next();
+        assertEquals(second.getId(), "2");
+        assertNull(second.getName());
+        assertEquals(second.getData(), "{\"a\":2}");
+
+        // an event that is not terminated by an empty line is not dispatched
+        assertNull(parser.next());
+        assertEquals(parser.getLastEventId(), "2");
+    }
+
+    @Test
+    public void parseNewlineDelimitedJson() throws IOException {
+        EventStreamParser parser = new EventStreamParser(input("{\"a\":1}\n\n{\"a\":2}"), false, "7");
+
+        assertEquals(parser.next().getData(), "{\"a\":1}");
+        assertEquals(parser.next().getData(), "{\"a\":2}");
+        assertNull(parser.next());
+        assertEquals(parser.getLastEventId(), "7");
+    }
+
+    private static ByteArrayInputStream input(String stream) {
+        return new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+
+public class ListDiffTest {
+
+    @Test
+    public void applyOnlyChangedElements() {
+        List<String> initial = IntStream.range(0, 10000).mapToObj(i -> i + ":v1").collect(Collectors.toList());
+        ObservableList<String> target = FXCollections.observableArrayList(initial);
+
+        AtomicInteger changes = new AtomicInteger();
+        target.addListener((ListChangeListener<String>) c -> changes.incrementAndGet());
+
+        List<String> elements = new ArrayList<>(initial);
+        elements.set(10, "10:v2");
+        elements.set(500, "500:v2");
+        elements.remove(9000);
+        elements.add(0, "new1:v1");
+        elements.add("new2:v1");
+
+        int modifications = ListDiff.apply(target, elements, s -> s.substring(0, s.indexOf(':')));
+        assertEquals(modifications, 5);
+        assertEquals(changes.get(), 5);
+        assertEquals(target, elements);
+    }
+
+    @Test
+    public void applyReorderedElements() {
+        ObservableList<String> target = FXCollections.observableArrayList("a", "b", "c", "d");
+        List<String> elements = Arrays.asList("d", "a", "c", "e");
+
+        ListDiff.apply(target, elements, s -> s);
+        assertEquals(target, elements);
+    }
+
+    @Test
+    public void applyReversedElementsAsOnePermutation() {
+        List<String> initial = IntStream.range(0, 100000).mapToObj(i -> i + ":v1").collect(Collectors.toList());
+        ObservableList<String> target = FXCollections.observableArrayList(initial);
+
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        target.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    changes.add(c);
+                }
+            }
+        });
+
+        List<String> elements = new ArrayList<>(initial);
+        Collections.reverse(elements);
+        elements.set(0, "99999:v2");
+
+        int modifications = ListDiff.apply(target, elements, s -> s.substring(0, s.indexOf(':')));
+        assertEquals(modifications, 2);
+        assertEquals(changes.size(), 1);
+        assertEquals(target, elements);
+    }
+
+    @Test
+    public void mergeReplacesMatchedAndAppendsNewElements() {
+        ObservableList<String> target = FXCollections.observableArrayList("a:1", "b:1", "c:1");
+        List<String> elements = Arrays.asList("b:2", "d:1", "c:1", "d:2");
+
+        int modifications = ListDiff.merge(target, elements, s -> s.substring(0, s.indexOf(':')));
+        assertEquals(modifications, 2);
+        assertEquals(target, Arrays.asList("a:1", "b:2", "c:1", "d:2"));
+    }
+}
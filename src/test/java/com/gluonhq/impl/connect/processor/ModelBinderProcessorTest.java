@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Gluon
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Gluon, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL GLUON BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.connect.processor;
+
+import com.gluonhq.connect.converter.JsonConverter;
+import com.gluonhq.impl.connect.converter.ClassInspector;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ModelBinderProcessorTest {
+
+    private static final String PERSON = "package model;\n" +
+            "import java.util.List;\n" +
+            "import javax.xml.bind.annotation.XmlElement;\n" +
+            "import javax.xml.bind.annotation.XmlTransient;\n" +
+            "@com.gluonhq.connect.converter.Bindable\n" +
+            "public class Person {\n" +
+            "    private String name; private int age; private boolean active; private String email; private List<String> tags; private String secret;\n" +
+            "    public String getName() { return name; }\n" +
+            "    public void setName(String name) { this.name = name; }\n" +
+            "    public int getAge() { return age; }\n" +
+            "    public void setAge(int age) { this.age = age; }\n" +
+            "    public boolean isActive() { return active; }\n" +
+            "    public void setActive(boolean active) { this.active = active; }\n" +
+            "    @XmlElement(name = \"mail\") public String getEmail() { return email; }\n" +
+            "    public void setEmail(String email) { this.email = email; }\n" +
+            "    public List<String> getTags() { return tags; }\n" +
+            "    public void setTags(List<String> tags) { this.tags = tags; }\n" +
+            "    @XmlTransient public String getSecret() { return secret; }\n" +
+            "    public void setSecret(String secret) { this.secret = secret; }\n" +
+            "    public String getReadOnly() { return \"\"; }\n" +
+            "}\n";
+
+    private static final String ADDRESS = "package model;\n" +
+            "@com.gluonhq.connect.converter.Bindable\n" +
+            "class Outer {\n" +
+            "    @com.gluonhq.connect.converter.Bindable\n" +
+            "    static class Address {\n" +
+            "        private String city;\n" +
+            "        public String getCity() { return city; }\n" +
+            "        public void setCity(String city) { this.city = city; }\n" +
+            "    }\n" +
+            "}\n";
+
+    private Path directory;
+    private URLClassLoader generated;
+    private URLClassLoader reflective;
+
+    @BeforeClass
+    public void compileModels() throws IOException {
+        directory = Files.createTempDirectory("binders");
+        Path generatedClasses = Files.createDirectories(directory.resolve("generated"));
+        Path reflectiveClasses = Files.createDirectories(directory.resolve("reflective"));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(generatedClasses, true, PERSON, ADDRESS);
+        assertTrue(diagnostics.getDiagnostics().stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.getDiagnostics().toString());
+        assertTrue(Files.exists(generatedClasses.resolve("model/Person_ModelBinder.class")));
+        assertTrue(Files.exists(generatedClasses.resolve("model/Outer_Address_ModelBinder.class")));
+
+        compile(reflectiveClasses, false, PERSON);
+        generated = new URLClassLoader(new URL[] {generatedClasses.toUri().toURL()}, getClass().getClassLoader());
+        reflective = new URLClassLoader(new URL[] {reflectiveClasses.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @AfterClass
+    public void deleteModels() throws IOException {
+        generated.close();
+        reflective.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void generatedBinderIsUsed() throws Exception {
+        ClassInspector<?> generatedInspector = ClassInspector.resolve(generated.loadClass("model.Person"));
+        ClassInspector<?> reflectiveInspector = ClassInspector.resolve(reflective.loadClass("model.Person"));
+        assertTrue(generatedInspector.hasBinder());
+        assertFalse(reflectiveInspector.hasBinder());
+        assertTrue(ClassInspector.resolve(generated.loadClass("model.Outer$Address")).hasBinder());
+
+        assertEquals(generatedInspector.getGetters().keySet(), reflectiveInspector.getGetters().keySet());
+        assertEquals(generatedInspector.getSetters().keySet(), reflectiveInspector.getSetters().keySet());
+        assertEquals(generatedInspector.getSetters().keySet(), Set.of("name", "age", "active", "mail", "tags"));
+    }
+
+    @Test
+    public void convertWithGeneratedBinder() throws Exception {
+        JsonObject json = Json.createObjectBuilder()
+                .add("name", "Ada")
+                .add("age", 36)
+                .add("active", true)
+                .add("mail", "ada@example.com")
+                .add("tags", Json.createArrayBuilder().add("a").add("b"))
+                .add("secret", "hidden")
+                .build();
+
+        for (URLClassLoader classLoader : List.of(generated, reflective)) {
+            JsonConverter<?> converter = new JsonConverter<>(classLoader.loadClass("model.Person"));
+            assertEquals(write(converter, converter.readFromJson(json)), Json.createObjectBuilder(json).remove("secret").build());
+        }
+    }
+
+    @Test
+    public void setterArgumentsAreChecked() throws Exception {
+        ClassInspector<?> inspector = ClassInspector.resolve(generated.loadClass("model.Person"));
+        Object person = inspector.newInstance();
+
+        inspector.setValue(person, "age", (short) 7);
+        assertEquals(inspector.getValue(person, "age"), 7);
+        try {
+            inspector.setValue(person, "age", 7L);
+            fail("Narrowing a long into an int must not be allowed.");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            inspector.setValue(person, "name", 7);
+            fail("An Integer is not a String.");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void invalidClassesAreReported() throws IOException {
+        String source = "package model;\n" +
+                "@com.gluonhq.connect.converter.Bindable\n" +
+                "public class Invalid {\n" +
+                "    public Invalid(String value) { }\n" +
+                "}\n";
+
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(Files.createDirectories(directory.resolve("invalid")), true, source);
+        assertTrue(diagnostics.getDiagnostics().stream()
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR && d.getMessage(null).contains("no-argument constructor")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> JsonObject write(JsonConverter<T> converter, Object object) {
+        return converter.writeToJson((T) object);
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(Path output, boolean process, String... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        String classPath = System.getProperty("java.class.path");
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            classPath += File.pathSeparator + modulePath;
+        }
+        List<String> options = process ?
+                List.of("-d", output.toString(), "-classpath", classPath, "-processor", ModelBinderProcessor.class.getName()) :
+                List.of("-d", output.toString(), "-classpath", classPath, "-proc:none");
+
+        List<JavaFileObject> units = Stream.of(sources).map(ModelBinderProcessorTest::source).collect(Collectors.toList());
+        compiler.getTask(null, null, diagnostics, options, null, units).call();
+        return diagnostics;
+    }
+
+    private static JavaFileObject source(String source) {
+        String name = source.replaceAll("(?s).*?(?:public )?class (\\w+).*", "$1");
+        return new SimpleJavaFileObject(URI.create("string:///model/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}